@@ -0,0 +1,84 @@
+package com.github.reducktion.socrates;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.github.reducktion.socrates.internal.VirtualThreads;
+
+/**
+ * Compares the throughput of {@link AsyncSocrates} with different executors, for requests that validate the ids of
+ * four people concurrently and wait for all of them, sent by 16 threads.
+ * <p>
+ * The {@code VIRTUAL} executor needs Java 21 or later, so its setup fails on older versions; run the benchmark with
+ * {@code -p executorType=FIXED,COMMON} there.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(16)
+public class AsyncThroughputBenchmark {
+
+    /**
+     * The executors in which the validations run.
+     */
+    public enum ExecutorType {
+        VIRTUAL,
+        FIXED,
+        COMMON
+    }
+
+    @Param({ "VIRTUAL", "FIXED", "COMMON" })
+    private ExecutorType executorType;
+
+    private ExecutorService executorService;
+    private AsyncSocrates asyncSocrates;
+
+    @Setup
+    public void setup() {
+        switch (executorType) {
+            case VIRTUAL:
+                executorService = VirtualThreads.newVirtualThreadPerTaskExecutor()
+                    .orElseThrow(() -> new IllegalStateException("Virtual threads need Java 21 or later"));
+                break;
+            case FIXED:
+                executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+                break;
+            case COMMON:
+                executorService = null;
+                break;
+            default: throw new IllegalStateException("Unknown executor type " + executorType);
+        }
+        asyncSocrates = new AsyncSocrates(executorService == null ? ForkJoinPool.commonPool() : executorService);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (executorService != null) {
+            executorService.shutdown();
+        }
+    }
+
+    @Benchmark
+    public boolean validateRequest() {
+        final CompletableFuture<Boolean> applicant = asyncSocrates.validateId("MRTMTT25D09F205Z", Country.IT);
+        final CompletableFuture<Boolean> coApplicant = asyncSocrates.validateId("AAIM901112MBCNMN08", Country.MX);
+        final CompletableFuture<Boolean> firstBeneficiary = asyncSocrates.validateId("2820819398814 09", Country.FR);
+        final CompletableFuture<Boolean> secondBeneficiary = asyncSocrates.validateId("86095742719", Country.DE);
+
+        return applicant.join() & coApplicant.join() & firstBeneficiary.join() & secondBeneficiary.join();
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.reducktion.socrates;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the latency and the allocations of {@link Socrates#generateId(Citizen, Country)}, over citizens of both
+ * genders born in different centuries.
+ * <p>
+ * Only the countries for which {@link Socrates#supportsGeneration(Country)} is true can be benchmarked; other ones
+ * (e.g. provided by a {@link com.github.reducktion.socrates.nationalid.NationalIdProvider}) can be passed with
+ * {@code -p country=...}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GenerationBenchmark {
+
+    private static final Citizen[] CITIZENS = {
+        Citizen.builder().gender(Gender.MALE).yearOfBirth(1991).monthOfBirth(6).dayOfBirth(16).build(),
+        Citizen.builder().gender(Gender.FEMALE).yearOfBirth(1984).monthOfBirth(10).dayOfBirth(8).build(),
+        Citizen.builder().gender(Gender.FEMALE).yearOfBirth(2004).monthOfBirth(2).dayOfBirth(29).build(),
+        Citizen.builder().gender(Gender.MALE).yearOfBirth(2040).monthOfBirth(12).dayOfBirth(31).build()
+    };
+
+    @Param({ "DK" })
+    private Country country;
+
+    private final Socrates socrates = new Socrates();
+    private int index;
+
+    @Setup
+    public void setup() {
+        if (!Socrates.supportsGeneration(country)) {
+            throw new IllegalStateException("Generation is not supported for " + country);
+        }
+    }
+
+    @Benchmark
+    public String generateId() {
+        final Citizen citizen = CITIZENS[index];
+        index = index + 1 == CITIZENS.length ? 0 : index + 1;
+        return socrates.generateId(citizen, country);
+    }
+}
@@ -0,0 +1,37 @@
+package com.github.reducktion.socrates;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the latency of extracting a citizen from an Italian national id, which includes the place of birth lookup.
+ * <p>
+ * Run it with {@code ./gradlew jmh} on two revisions to compare their extraction latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ItalyExtractionBenchmark {
+
+    @Param({
+        "MRTMTT25D09F205Z", // Milano, in the middle of the table
+        "MLLSNT82P65Z404U", // abroad, at the start of the table
+        "BRSLSE08D50H987B"  // San Martino Alfieri, near the end of the table
+    })
+    private String id;
+
+    private final Socrates socrates = new Socrates();
+
+    @Benchmark
+    public Optional<Citizen> extractCitizenFromId() {
+        return socrates.extractCitizenFromId(id, Country.IT);
+    }
+}
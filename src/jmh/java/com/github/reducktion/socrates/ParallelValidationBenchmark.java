@@ -0,0 +1,63 @@
+package com.github.reducktion.socrates;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures how {@link ParallelSocrates} scales with the number of threads, by validating and parsing a batch of one
+ * million Italian ids, a quarter of which are invalid.
+ * <p>
+ * The default thread counts go up to 32; run it with e.g. {@code -p threads=1,2,4,8} on a machine with fewer cores.
+ * The speed-up of {@code n} threads is the score with one thread divided by the score with {@code n} threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelValidationBenchmark {
+
+    private static final int BATCH_SIZE = 1_000_000;
+    private static final String[] ID_MIX = {
+        "MRTMTT25D09F205Z", "MLLSNT82P65Z404U", "DLMCTG75B07H227Y", "MRTMTT25D09F205H"
+    };
+
+    @Param({ "1", "2", "4", "8", "16", "32" })
+    private int threads;
+
+    private ParallelSocrates parallelSocrates;
+    private CharSequence[] ids;
+    private boolean[] valid;
+
+    @Setup
+    public void setup() {
+        parallelSocrates = ParallelSocrates.builder().parallelism(threads).build();
+        ids = new CharSequence[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            ids[i] = ID_MIX[i % ID_MIX.length];
+        }
+        valid = new boolean[BATCH_SIZE];
+    }
+
+    @TearDown
+    public void tearDown() {
+        parallelSocrates.close();
+    }
+
+    @Benchmark
+    public ValidationSummary validateAll() {
+        return parallelSocrates.validateAll(ids, Country.IT, valid);
+    }
+
+    @Benchmark
+    public ParseResult[] parseAll() {
+        return parallelSocrates.parseAll(ids, Country.IT);
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.reducktion.socrates;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the latency and the allocations of {@link Socrates#validateId(String, Country)} and
+ * {@link Socrates#extractCitizenFromId(String, Country)}, for every country, over a mix of valid and invalid ids.
+ * <p>
+ * Each invocation takes the next id of the mix, so the results reflect both the fast rejections and the full
+ * validations. Run it with {@code ./gradlew jmh}, which enables the GC profiler and writes the results as JSON to
+ * {@code build/reports/jmh/results.json}, and compare the results of two revisions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SocratesBenchmark {
+
+    private static final Map<Country, String[]> IDS = new EnumMap<>(Country.class);
+
+    static {
+        // { valid, valid, wrong length, wrong checksum (reserved value for the US), invalid characters }
+        IDS.put(Country.BE, new String[] {
+            "93.05.18-223.61", "01111600105", "01.11.16-001", "01.11.16-001.06", "01.11.16-0A1.05"
+        });
+        IDS.put(Country.BR, new String[] {
+            "144-416-762.63", " 62363568400 ", "1234567890", "23294954040", "1234567AB01"
+        });
+        IDS.put(Country.CA, new String[] { "046 454 286", "046454286", "12345678", "046 454 287", "12345678A" });
+        IDS.put(Country.DE, new String[] {
+            "86095742719", "47036892816", "1234567890123", "86095742718", "1234567890A"
+        });
+        IDS.put(Country.DK, new String[] { " 090792-1395 ", "0705930600", "12345678901", "090792-0136", "123456789A" });
+        IDS.put(Country.ES, new String[] { "843-456-42L", " y3338121f ", "12345678", "05756786M", "1234567AB" });
+        IDS.put(Country.FR, new String[] {
+            " 2820819398814 09 ", "199072a22807010", "12345678901234", "2820819398814 10", "12345678901234A"
+        });
+        IDS.put(Country.IT, new String[] {
+            " MRTMTT25D09F20 5Z ", "mllsnt82p65z404u", "123456789012345", "MRTMTT25D09F205H", "MRTMTT25D09F2!5Z"
+        });
+        IDS.put(Country.LU, new String[] {
+            "198-308-124-6785", " 2003042581939 ", "123456789012", "1994789587182", "12345678901AB"
+        });
+        IDS.put(Country.MX, new String[] {
+            "AAIM901112MBCNMN08", "aaim901112mbcnmn08", "12345678901234567", "AAIM901112MBCNMN09", "AAIM901112VBCNMN08"
+        });
+        IDS.put(Country.PT, new String[] {
+            " 11084129 8 ZX8 ", "154203556zx9", "12345678901", "15420355 6 ZI8", "154203556Z!9"
+        });
+        IDS.put(Country.US, new String[] { "167-38-1265", " 536228726 ", "12345678", "000-22-8724", "12345678A" });
+    }
+
+    @Param({ "BE", "BR", "CA", "DE", "DK", "ES", "FR", "IT", "LU", "MX", "PT", "US" })
+    private Country country;
+
+    private final Socrates socrates = new Socrates();
+    private String[] ids;
+    private int index;
+
+    @Setup
+    public void setup() {
+        ids = IDS.get(country);
+    }
+
+    @Benchmark
+    public boolean validateId() {
+        return socrates.validateId(nextId(), country);
+    }
+
+    @Benchmark
+    public Optional<Citizen> extractCitizenFromId() {
+        return socrates.extractCitizenFromId(nextId(), country);
+    }
+
+    private String nextId() {
+        final String id = ids[index];
+        index = index + 1 == ids.length ? 0 : index + 1;
+        return id;
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.reducktion.socrates;
+
+import java.nio.CharBuffer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the latency and the allocations of {@link Socrates#isValid(CharSequence, Country)}, for a valid and an
+ * invalid id of every country, held in different {@link CharSequence} implementations.
+ * <p>
+ * Run it with {@code ./gradlew jmh}, which enables the GC profiler: {@code gc.alloc.rate.norm} must be 0 B/op for every
+ * benchmark of this class, which is checked by {@code ./gradlew jmhAllocationCheck}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationBenchmark {
+
+    private static final Map<Country, String[]> IDS = new EnumMap<>(Country.class);
+
+    static {
+        // { valid id, invalid id }
+        IDS.put(Country.BE, new String[] { "93.05.18-223.61", "93.05.18-223.62" });
+        IDS.put(Country.BR, new String[] { "232.949.540-42", "232.949.540-43" });
+        IDS.put(Country.CA, new String[] { "046 454 286", "046 454 287" });
+        IDS.put(Country.DE, new String[] { "86095742719", "86095742718" });
+        IDS.put(Country.DK, new String[] { "090792-0135", "090792-0136" });
+        IDS.put(Country.ES, new String[] { "05756886D", "05756746D" });
+        IDS.put(Country.FR, new String[] { "2820819398814 09", "2820819398814 10" });
+        IDS.put(Country.IT, new String[] { "MRTMTT25D09F205Z", "MRTMTT25D09F205H" });
+        IDS.put(Country.LU, new String[] { "1994789187582", "1994789187583" });
+        IDS.put(Country.MX, new String[] { "AAIM901112MBCNMN08", "AAIM901112MBCNMN09" });
+        IDS.put(Country.PT, new String[] { "15420355 6 ZI9", "15420355 6 ZI8" });
+        IDS.put(Country.US, new String[] { "536-22-8724", "000-22-8724" });
+    }
+
+    /**
+     * The {@link CharSequence} implementations in which the ids are held.
+     */
+    public enum InputType {
+        STRING,
+        STRING_BUILDER,
+        CHAR_BUFFER
+    }
+
+    @Param({ "BE", "BR", "CA", "DE", "DK", "ES", "FR", "IT", "LU", "MX", "PT", "US" })
+    private Country country;
+
+    @Param({ "STRING", "STRING_BUILDER", "CHAR_BUFFER" })
+    private InputType inputType;
+
+    private CharSequence validId;
+    private CharSequence invalidId;
+
+    @Setup
+    public void setup() {
+        validId = toInputType(IDS.get(country)[0]);
+        invalidId = toInputType(IDS.get(country)[1]);
+    }
+
+    private CharSequence toInputType(final String id) {
+        switch (inputType) {
+            case STRING: return id;
+            case STRING_BUILDER: return new StringBuilder(id);
+            case CHAR_BUFFER: return CharBuffer.wrap(id.toCharArray());
+            default: throw new IllegalStateException("Unknown input type " + inputType);
+        }
+    }
+
+    @Benchmark
+    public boolean isValidWhenIdIsValid() {
+        return Socrates.isValid(validId, country);
+    }
+
+    @Benchmark
+    public boolean isValidWhenIdIsInvalid() {
+        return Socrates.isValid(invalidId, country);
+    }
+}
@@ -0,0 +1,116 @@
+package com.github.reducktion.socrates;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import com.github.reducktion.socrates.internal.VirtualThreads;
+
+/**
+ * Asynchronous facade of {@link Socrates}, whose methods run in an {@link Executor} and return a
+ * {@link CompletableFuture}, e.g. to validate the ids of several people of a request concurrently, without blocking
+ * the calling thread.
+ * <p>
+ * By default, the tasks run in virtual threads on Java 21 and later, and in the common {@link ForkJoinPool} on older
+ * versions or when virtual threads cannot be created. Unsupported countries and invalid arguments complete the future
+ * exceptionally, with the exception that {@link Socrates} throws.
+ * <p>
+ * The validators reuse per-thread buffers, so that validating an id does not allocate memory. Since each task of the
+ * default executor runs in a new virtual thread, the buffers are allocated again for every task; give a pool of
+ * platform threads to {@link #AsyncSocrates(Executor)} to validate without allocating.
+ */
+public class AsyncSocrates {
+
+    private final Socrates socrates;
+    private final Executor executor;
+
+    /**
+     * Creates an instance that runs the tasks in the default executor.
+     */
+    public AsyncSocrates() {
+        this(new Socrates(), defaultExecutor());
+    }
+
+    /**
+     * Creates an instance that runs the tasks in the {@code executor}.
+     *
+     * @param executor the executor
+     * @throws IllegalArgumentException if the executor is null
+     */
+    public AsyncSocrates(final Executor executor) {
+        this(new Socrates(), executor);
+    }
+
+    /**
+     * Creates an instance that delegates to the {@code socrates}, e.g. one with a fixed clock, and runs the tasks in
+     * the {@code executor}.
+     *
+     * @param socrates the {@link Socrates} that validates and extracts the ids
+     * @param executor the executor
+     * @throws IllegalArgumentException if the socrates or the executor are null
+     */
+    public AsyncSocrates(final Socrates socrates, final Executor executor) {
+        if (socrates == null || executor == null) {
+            throw new IllegalArgumentException("The socrates and the executor cannot be null.");
+        }
+        this.socrates = socrates;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the executor used when none is given: a virtual thread per task executor on Java 21 and later, the
+     * common {@link ForkJoinPool} otherwise. It is only created on the first call, so the instances given an executor
+     * never try to create virtual threads.
+     *
+     * @return the default {@link Executor}
+     */
+    public static Executor defaultExecutor() {
+        return DefaultExecutorHolder.DEFAULT_EXECUTOR;
+    }
+
+    /**
+     * Validates the National Identification Number asynchronously.
+     *
+     * @param id the national identification number
+     * @param country the country of the national identification number
+     * @return a {@link CompletableFuture} of true if the {@code id} is valid, false otherwise
+     * @see Socrates#validateId(String, Country)
+     */
+    public CompletableFuture<Boolean> validateId(final String id, final Country country) {
+        return CompletableFuture.supplyAsync(() -> socrates.validateId(id, country), executor);
+    }
+
+    /**
+     * Extracts the {@link Citizen} from the National Identification Number asynchronously.
+     *
+     * @param id the national identification number
+     * @param country the country of the national identification number
+     * @return a {@link CompletableFuture} of the {@link Citizen} wrapped in an {@link Optional}, if the {@code id} is
+     *         valid
+     * @see Socrates#extractCitizenFromId(String, Country)
+     */
+    public CompletableFuture<Optional<Citizen>> extractCitizenFromId(final String id, final Country country) {
+        return CompletableFuture.supplyAsync(() -> socrates.extractCitizenFromId(id, country), executor);
+    }
+
+    /**
+     * Validates the National Identification Number and extracts the {@link Citizen} from it asynchronously.
+     *
+     * @param id the national identification number
+     * @param country the country of the national identification number
+     * @return a {@link CompletableFuture} of the {@link ParseResult}
+     * @see Socrates#parse(CharSequence, Country)
+     */
+    public CompletableFuture<ParseResult> parse(final CharSequence id, final Country country) {
+        return CompletableFuture.supplyAsync(() -> socrates.parse(id, country), executor);
+    }
+
+    // the default executor is created when it is first used, not when this class is initialized
+    private static final class DefaultExecutorHolder {
+
+        private static final Executor DEFAULT_EXECUTOR = VirtualThreads.newVirtualThreadPerTaskExecutor()
+            .<Executor>map(executor -> executor)
+            .orElseGet(ForkJoinPool::commonPool);
+    }
+}
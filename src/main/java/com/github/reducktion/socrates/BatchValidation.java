@@ -0,0 +1,196 @@
+package com.github.reducktion.socrates;
+
+import java.util.BitSet;
+import java.util.List;
+
+import com.github.reducktion.socrates.nationalid.NationalIdValidator;
+
+/**
+ * Validates batches of national ids in chunks, with per-thread buffers, so that the only memory allocated is for the
+ * results. The validator is looked up once per batch, and each chunk is validated by a single call to it, with the
+ * {@link TwoDigitYearResolver} of the caller. The ids that the {@link NonAsciiDigitPolicy} of the caller rejects are
+ * then marked as not valid, which only scans the ids when the policy is {@link NonAsciiDigitPolicy#REJECT}.
+ * <p>
+ * The results are stored either in a {@link BitSet} or in a {@code boolean[]}: exactly one of them must not be null.
+ * Ranges of a batch can be validated by different threads, as long as they store the results in a {@code boolean[]}.
+ */
+final class BatchValidation {
+
+    private static final int CHUNK_SIZE = 1024;
+    private static final ThreadLocal<Chunk> CHUNKS = ThreadLocal.withInitial(Chunk::new);
+
+    private BatchValidation() {}
+
+    static ValidationSummary validateAll(
+        final CharSequence[] ids,
+        final NationalIdValidator validator,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final NonAsciiDigitPolicy nonAsciiDigitPolicy,
+        final BitSet validBits,
+        final boolean[] validFlags
+    ) {
+        final Counts counts = new Counts();
+        validateRange(
+            ids,
+            0,
+            ids.length,
+            validator,
+            twoDigitYearResolver,
+            nonAsciiDigitPolicy,
+            validBits,
+            validFlags,
+            counts
+        );
+        return counts.toSummary();
+    }
+
+    static ValidationSummary validateAll(
+        final List<? extends CharSequence> ids,
+        final NationalIdValidator validator,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final NonAsciiDigitPolicy nonAsciiDigitPolicy,
+        final BitSet validBits,
+        final boolean[] validFlags
+    ) {
+        final Counts counts = new Counts();
+        validateRange(
+            ids,
+            0,
+            ids.size(),
+            validator,
+            twoDigitYearResolver,
+            nonAsciiDigitPolicy,
+            validBits,
+            validFlags,
+            counts
+        );
+        return counts.toSummary();
+    }
+
+    static void validateRange(
+        final CharSequence[] ids,
+        final int from,
+        final int to,
+        final NationalIdValidator validator,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final NonAsciiDigitPolicy nonAsciiDigitPolicy,
+        final BitSet validBits,
+        final boolean[] validFlags,
+        final Counts counts
+    ) {
+        final Chunk chunk = CHUNKS.get();
+        for (int chunkFrom = from; chunkFrom < to; chunkFrom += CHUNK_SIZE) {
+            final int chunkTo = Math.min(chunkFrom + CHUNK_SIZE, to);
+            validator.validateAll(ids, chunkFrom, chunkTo, twoDigitYearResolver, chunk.failureReasons);
+            reject(ids, chunkFrom, chunkTo - chunkFrom, nonAsciiDigitPolicy, chunk.failureReasons);
+            counts.add(chunk.failureReasons, chunkFrom, chunkTo - chunkFrom, validBits, validFlags);
+        }
+    }
+
+    static void validateRange(
+        final List<? extends CharSequence> ids,
+        final int from,
+        final int to,
+        final NationalIdValidator validator,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final NonAsciiDigitPolicy nonAsciiDigitPolicy,
+        final BitSet validBits,
+        final boolean[] validFlags,
+        final Counts counts
+    ) {
+        final Chunk chunk = CHUNKS.get();
+        try {
+            for (int chunkFrom = from; chunkFrom < to; chunkFrom += CHUNK_SIZE) {
+                final int length = Math.min(CHUNK_SIZE, to - chunkFrom);
+                for (int i = 0; i < length; i++) {
+                    chunk.ids[i] = ids.get(chunkFrom + i);
+                }
+                validator.validateAll(chunk.ids, 0, length, twoDigitYearResolver, chunk.failureReasons);
+                reject(chunk.ids, 0, length, nonAsciiDigitPolicy, chunk.failureReasons);
+                counts.add(chunk.failureReasons, chunkFrom, length, validBits, validFlags);
+            }
+        } finally {
+            chunk.clearIds();
+        }
+    }
+
+    private static void reject(
+        final CharSequence[] ids,
+        final int offset,
+        final int length,
+        final NonAsciiDigitPolicy nonAsciiDigitPolicy,
+        final FailureReason[] failureReasons
+    ) {
+        if (nonAsciiDigitPolicy == NonAsciiDigitPolicy.NORMALIZE) {
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            if (failureReasons[i] == null && nonAsciiDigitPolicy.rejects(ids[offset + i])) {
+                failureReasons[i] = FailureReason.INVALID_CHARACTERS;
+            }
+        }
+    }
+
+    // the per-thread buffers of a chunk
+    private static final class Chunk {
+        private final CharSequence[] ids = new CharSequence[CHUNK_SIZE];
+        private final FailureReason[] failureReasons = new FailureReason[CHUNK_SIZE];
+
+        // so that the ids of the last batch are not retained by the thread
+        private void clearIds() {
+            for (int i = 0; i < CHUNK_SIZE; i++) {
+                ids[i] = null;
+            }
+        }
+    }
+
+    /**
+     * The counts of a batch, or of a range of it, which is not thread-safe.
+     */
+    static final class Counts {
+        private final long[] failureCounts = new long[FailureReason.values().length];
+        private long validCount;
+
+        private void add(
+            final FailureReason[] failureReasons,
+            final int offset,
+            final int length,
+            final BitSet validBits,
+            final boolean[] validFlags
+        ) {
+            for (int i = 0; i < length; i++) {
+                final FailureReason failureReason = failureReasons[i];
+                final boolean valid = failureReason == null;
+                if (valid) {
+                    validCount++;
+                } else {
+                    failureCounts[failureReason.ordinal()]++;
+                }
+                if (validBits != null) {
+                    validBits.set(offset + i, valid);
+                } else {
+                    validFlags[offset + i] = valid;
+                }
+            }
+        }
+
+        void add(final FailureReason failureReason) {
+            if (failureReason == null) {
+                validCount++;
+            } else {
+                failureCounts[failureReason.ordinal()]++;
+            }
+        }
+
+        void addAll(final Counts other) {
+            validCount += other.validCount;
+            for (int i = 0; i < failureCounts.length; i++) {
+                failureCounts[i] += other.failureCounts[i];
+            }
+        }
+
+        ValidationSummary toSummary() {
+            return new ValidationSummary(validCount, failureCounts);
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.github.reducktion.socrates;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+
+import com.github.reducktion.socrates.nationalid.NationalIdRegistry;
+import com.github.reducktion.socrates.nationalid.NationalIdValidator;
+
+/**
+ * Class that represents the citizens extracted from a batch of National Identification Numbers of one country, stored
+ * by column: one primitive array per field, where index {@code i} has the field of the id at index {@code i}.
+ * <p>
+ * The getters return the arrays themselves, not copies, so that they can be handed to aggregation code without
+ * allocating memory. The unknown values, including all the values of the ids that are not valid, are
+ * {@link PackedCitizen#ABSENT}. The codes of the places of birth are specific to the country, as in
+ * {@link PackedCitizen}, and are converted to names by {@link #getPlaceOfBirth(int)}.
+ * <p>
+ * The columns can be written to a {@link DataOutput} and read back with {@link #readFrom(DataInput)}.
+ *
+ * @see Socrates#extractAll(CharSequence[], Country)
+ */
+public final class CitizenColumns {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final Gender[] GENDERS = Gender.values();
+
+    private final Country country;
+    private final int size;
+    private final BitSet valid;
+    private final byte[] genders;
+    private final short[] yearsOfBirth;
+    private final byte[] monthsOfBirth;
+    private final byte[] daysOfBirth;
+    private final int[] placeOfBirthCodes;
+
+    private CitizenColumns(final Country country, final int size) {
+        this.country = country;
+        this.size = size;
+        valid = new BitSet(size);
+        genders = new byte[size];
+        yearsOfBirth = new short[size];
+        monthsOfBirth = new byte[size];
+        daysOfBirth = new byte[size];
+        placeOfBirthCodes = new int[size];
+    }
+
+    static CitizenColumns extract(
+        final CharSequence[] ids,
+        final Country country,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final NonAsciiDigitPolicy nonAsciiDigitPolicy
+    ) {
+        final NationalIdValidator validator = NationalIdRegistry.getValidator(country);
+        final CitizenColumns columns = new CitizenColumns(country, ids.length);
+        final long[] packedCitizen = new long[1];
+        for (int i = 0; i < ids.length; i++) {
+            columns.set(i, ids[i], validator, twoDigitYearResolver, nonAsciiDigitPolicy, packedCitizen);
+        }
+        return columns;
+    }
+
+    static CitizenColumns extract(
+        final List<? extends CharSequence> ids,
+        final Country country,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final NonAsciiDigitPolicy nonAsciiDigitPolicy
+    ) {
+        final NationalIdValidator validator = NationalIdRegistry.getValidator(country);
+        final CitizenColumns columns = new CitizenColumns(country, ids.size());
+        final long[] packedCitizen = new long[1];
+        int i = 0;
+        for (final CharSequence id : ids) {
+            columns.set(i++, id, validator, twoDigitYearResolver, nonAsciiDigitPolicy, packedCitizen);
+        }
+        return columns;
+    }
+
+    // the id is validated once, and not at all if the policy rejects it; packedCitizenBuffer is reused for all the ids
+    // of the batch
+    private void set(
+        final int index,
+        final CharSequence id,
+        final NationalIdValidator validator,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final NonAsciiDigitPolicy nonAsciiDigitPolicy,
+        final long[] packedCitizenBuffer
+    ) {
+        packedCitizenBuffer[0] = PackedCitizen.NONE;
+        if (!nonAsciiDigitPolicy.rejects(id)
+            && validator.parsePacked(id, twoDigitYearResolver, packedCitizenBuffer) == null) {
+            valid.set(index);
+        }
+        final long packedCitizen = packedCitizenBuffer[0];
+
+        final Gender gender = PackedCitizen.gender(packedCitizen);
+        genders[index] = (byte) (gender == null ? PackedCitizen.ABSENT : gender.ordinal());
+        yearsOfBirth[index] = (short) PackedCitizen.yearOfBirth(packedCitizen);
+        monthsOfBirth[index] = (byte) PackedCitizen.monthOfBirth(packedCitizen);
+        daysOfBirth[index] = (byte) PackedCitizen.dayOfBirth(packedCitizen);
+        placeOfBirthCodes[index] = PackedCitizen.placeOfBirthCode(packedCitizen);
+    }
+
+    /**
+     * Returns the country of the ids.
+     *
+     * @return the {@link Country}
+     */
+    public Country getCountry() {
+        return country;
+    }
+
+    /**
+     * Returns the number of ids, which is the length of every column.
+     *
+     * @return the number of ids
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns which ids are valid.
+     *
+     * @return the {@link BitSet} where bit {@code i} is set if the id at index {@code i} is valid
+     */
+    public BitSet getValid() {
+        return valid;
+    }
+
+    /**
+     * Returns the genders, as the ordinals of {@link Gender}.
+     *
+     * @return the column of the genders
+     */
+    public byte[] getGenders() {
+        return genders;
+    }
+
+    /**
+     * Returns the years of birth.
+     *
+     * @return the column of the years of birth
+     */
+    public short[] getYearsOfBirth() {
+        return yearsOfBirth;
+    }
+
+    /**
+     * Returns the months of birth.
+     *
+     * @return the column of the months of birth
+     */
+    public byte[] getMonthsOfBirth() {
+        return monthsOfBirth;
+    }
+
+    /**
+     * Returns the days of the month of birth.
+     *
+     * @return the column of the days of birth
+     */
+    public byte[] getDaysOfBirth() {
+        return daysOfBirth;
+    }
+
+    /**
+     * Returns the codes of the places of birth, which are specific to the country.
+     *
+     * @return the column of the codes of the places of birth
+     * @see #getPlaceOfBirth(int)
+     */
+    public int[] getPlaceOfBirthCodes() {
+        return placeOfBirthCodes;
+    }
+
+    /**
+     * Returns the name of a place of birth, given its code.
+     *
+     * @param placeOfBirthCode the code of the place of birth, from {@link #getPlaceOfBirthCodes()}
+     * @return the name of the place of birth, or null if the code is unknown
+     */
+    public String getPlaceOfBirth(final int placeOfBirthCode) {
+        return placeOfBirthCode == PackedCitizen.ABSENT
+            ? null
+            : NationalIdRegistry.getValidator(country).getPlaceOfBirth(placeOfBirthCode);
+    }
+
+    /**
+     * Returns the citizen extracted from the id at index {@code index}.
+     *
+     * @param index the index of the id
+     * @return the {@link Citizen} wrapped in an {@link Optional}, if the id is valid and the country supports
+     *         extraction
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public Optional<Citizen> getCitizen(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        if (!valid.get(index) || isAbsent(index)) {
+            return Optional.empty();
+        }
+
+        final long packedCitizen = PackedCitizen.pack(
+            genders[index] == PackedCitizen.ABSENT ? null : GENDERS[genders[index]],
+            yearsOfBirth[index],
+            monthsOfBirth[index],
+            daysOfBirth[index],
+            placeOfBirthCodes[index]
+        );
+        return Optional.of(PackedCitizen.toCitizen(packedCitizen, country));
+    }
+
+    private boolean isAbsent(final int index) {
+        return genders[index] == PackedCitizen.ABSENT
+            && yearsOfBirth[index] == PackedCitizen.ABSENT
+            && monthsOfBirth[index] == PackedCitizen.ABSENT
+            && daysOfBirth[index] == PackedCitizen.ABSENT
+            && placeOfBirthCodes[index] == PackedCitizen.ABSENT;
+    }
+
+    /**
+     * Writes the columns, one after the other, in a compact binary format.
+     *
+     * @param output where to write the columns
+     * @throws IOException if the columns cannot be written
+     */
+    public void writeTo(final DataOutput output) throws IOException {
+        output.writeInt(FORMAT_VERSION);
+        output.writeUTF(country.name());
+        output.writeInt(size);
+
+        final long[] validWords = valid.toLongArray();
+        output.writeInt(validWords.length);
+        for (final long word : validWords) {
+            output.writeLong(word);
+        }
+
+        output.write(genders);
+        for (final short yearOfBirth : yearsOfBirth) {
+            output.writeShort(yearOfBirth);
+        }
+        output.write(monthsOfBirth);
+        output.write(daysOfBirth);
+        for (final int placeOfBirthCode : placeOfBirthCodes) {
+            output.writeInt(placeOfBirthCode);
+        }
+    }
+
+    /**
+     * Reads the columns written by {@link #writeTo(DataOutput)}.
+     *
+     * @param input where to read the columns from
+     * @return the {@link CitizenColumns}
+     * @throws IOException if the columns cannot be read, or were not written by {@link #writeTo(DataOutput)}
+     */
+    public static CitizenColumns readFrom(final DataInput input) throws IOException {
+        final int formatVersion = input.readInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported format version " + formatVersion + ".");
+        }
+
+        final Country country;
+        try {
+            country = Country.valueOf(input.readUTF());
+        } catch (final IllegalArgumentException e) {
+            throw new IOException("Unknown country.", e);
+        }
+        final int size = input.readInt();
+        if (size < 0) {
+            throw new IOException("Invalid size " + size + ".");
+        }
+
+        final int validWordCount = input.readInt();
+        if (validWordCount < 0 || validWordCount > (size + Long.SIZE - 1) / Long.SIZE) {
+            throw new IOException("Invalid number of validity words " + validWordCount + ".");
+        }
+
+        final CitizenColumns columns = new CitizenColumns(country, size);
+        final long[] validWords = new long[validWordCount];
+        for (int i = 0; i < validWordCount; i++) {
+            validWords[i] = input.readLong();
+        }
+        columns.valid.or(BitSet.valueOf(validWords));
+        input.readFully(columns.genders);
+        for (final byte gender : columns.genders) {
+            if (gender != PackedCitizen.ABSENT && (gender < 0 || gender >= GENDERS.length)) {
+                throw new IOException("Invalid gender " + gender + ".");
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            columns.yearsOfBirth[i] = input.readShort();
+        }
+        input.readFully(columns.monthsOfBirth);
+        input.readFully(columns.daysOfBirth);
+        for (int i = 0; i < size; i++) {
+            columns.placeOfBirthCodes[i] = input.readInt();
+        }
+        return columns;
+    }
+
+    @Override
+    public String toString() {
+        return "CitizenColumns{"
+            + "country=" + country
+            + ", size=" + size
+            + ", validCount=" + valid.cardinality()
+            + '}';
+    }
+}
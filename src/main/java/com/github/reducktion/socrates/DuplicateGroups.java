@@ -0,0 +1,236 @@
+package com.github.reducktion.socrates;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import com.github.reducktion.socrates.internal.LongHashSet;
+import com.github.reducktion.socrates.nationalid.NationalIdCodec;
+import com.github.reducktion.socrates.nationalid.NationalIdRegistry;
+
+/**
+ * Class that represents the duplicates found in a batch of National Identification Numbers of one country.
+ * <p>
+ * Two ids are duplicates if they have the same canonical form: without separators, with upper case letters and ASCII
+ * digits and, for Italy, without omocodia substitutions, so all the variants of a codice fiscale are duplicates of
+ * each other. The ids are packed by {@link NationalIdCodec#encodeCanonical(CharSequence, Country)}, which takes 8
+ * bytes per id, and added to a {@link LongHashSet}, which takes 8 to 16 bytes per distinct id, so that 100 million
+ * ids are deduplicated in about 2 GB. The ids that are not valid, or cannot be packed, are skipped.
+ * <p>
+ * The duplicates are reported as groups of the indexes of the ids that have the same canonical form, in the order of
+ * their first id, and as the {@link BitSet} of the ids that repeat an earlier one, which can be dropped to deduplicate
+ * the batch.
+ *
+ * @see Socrates#findDuplicates(CharSequence[], Country)
+ */
+public final class DuplicateGroups {
+
+    private final Country country;
+    private final int size;
+    private final int distinctCount;
+    private final int skippedCount;
+    private final BitSet duplicates;
+    private final long[] groupPackedIds;
+    private final int[] groupOffsets;
+    private final int[] groupIndexes;
+
+    private DuplicateGroups(
+        final Country country,
+        final int size,
+        final int distinctCount,
+        final int skippedCount,
+        final BitSet duplicates,
+        final long[] groupPackedIds,
+        final int[] groupOffsets,
+        final int[] groupIndexes
+    ) {
+        this.country = country;
+        this.size = size;
+        this.distinctCount = distinctCount;
+        this.skippedCount = skippedCount;
+        this.duplicates = duplicates;
+        this.groupPackedIds = groupPackedIds;
+        this.groupOffsets = groupOffsets;
+        this.groupIndexes = groupIndexes;
+    }
+
+    static DuplicateGroups find(final CharSequence[] ids, final Country country) {
+        requireSupported(country);
+        final long[] packedIds = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            packedIds[i] = NationalIdCodec.encodeCanonical(ids[i], country);
+        }
+        return group(packedIds, country);
+    }
+
+    static DuplicateGroups find(final List<? extends CharSequence> ids, final Country country) {
+        requireSupported(country);
+        final long[] packedIds = new long[ids.size()];
+        int i = 0;
+        for (final CharSequence id : ids) {
+            packedIds[i++] = NationalIdCodec.encodeCanonical(id, country);
+        }
+        return group(packedIds, country);
+    }
+
+    private static void requireSupported(final Country country) {
+        if (!NationalIdRegistry.supports(country)) {
+            throw new UnsupportedOperationException("Country not supported.");
+        }
+        if (!NationalIdCodec.supports(country)) {
+            throw new UnsupportedOperationException(
+                "Country " + country + " has no codec layout, so its duplicates cannot be found."
+            );
+        }
+    }
+
+    // the first pass finds the duplicated ids, the second one numbers their groups in the order of their first id and
+    // counts their ids, and the third one lays out the indexes of each group one after the other
+    private static DuplicateGroups group(final long[] packedIds, final Country country) {
+        final LongHashSet distinctIds = new LongHashSet(packedIds.length);
+        final LongHashSet duplicatedIds = new LongHashSet(0);
+        final BitSet duplicates = new BitSet(packedIds.length);
+        int skippedCount = 0;
+
+        for (int i = 0; i < packedIds.length; i++) {
+            if (packedIds[i] == NationalIdCodec.NONE) {
+                skippedCount++;
+            } else if (!distinctIds.add(packedIds[i])) {
+                duplicates.set(i);
+                duplicatedIds.add(packedIds[i]);
+            }
+        }
+
+        final int[] groupNumbers = new int[duplicatedIds.capacity()];
+        Arrays.fill(groupNumbers, -1);
+        final long[] groupPackedIds = new long[duplicatedIds.size()];
+        final int[] groupOffsets = new int[duplicatedIds.size() + 1];
+        int groupCount = 0;
+
+        for (final long packedId : packedIds) {
+            final int index = duplicatedIds.indexOf(packedId);
+            if (index >= 0) {
+                if (groupNumbers[index] < 0) {
+                    groupPackedIds[groupCount] = packedId;
+                    groupNumbers[index] = groupCount++;
+                }
+                groupOffsets[groupNumbers[index] + 1]++;
+            }
+        }
+        for (int group = 0; group < groupCount; group++) {
+            groupOffsets[group + 1] += groupOffsets[group];
+        }
+
+        final int[] groupIndexes = new int[groupOffsets[groupCount]];
+        final int[] groupEnds = Arrays.copyOf(groupOffsets, groupCount);
+        for (int i = 0; i < packedIds.length; i++) {
+            final int index = duplicatedIds.indexOf(packedIds[i]);
+            if (index >= 0) {
+                groupIndexes[groupEnds[groupNumbers[index]]++] = i;
+            }
+        }
+
+        return new DuplicateGroups(
+            country,
+            packedIds.length,
+            distinctIds.size(),
+            skippedCount,
+            duplicates,
+            groupPackedIds,
+            groupOffsets,
+            groupIndexes
+        );
+    }
+
+    public Country getCountry() {
+        return country;
+    }
+
+    /**
+     * Returns the number of ids in the batch.
+     *
+     * @return the number of ids
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of distinct canonical ids, i.e. the number of ids left after dropping the duplicates and the
+     * skipped ids.
+     *
+     * @return the number of distinct ids
+     */
+    public int getDistinctCount() {
+        return distinctCount;
+    }
+
+    /**
+     * Returns the number of ids that were skipped, because they are null, not valid, or cannot be packed.
+     *
+     * @return the number of skipped ids
+     */
+    public int getSkippedCount() {
+        return skippedCount;
+    }
+
+    /**
+     * Returns which ids repeat an earlier id of the batch.
+     *
+     * @return the {@link BitSet} where bit {@code i} is set if the id at index {@code i} is a duplicate of an id at a
+     *         lower index
+     */
+    public BitSet getDuplicates() {
+        return duplicates;
+    }
+
+    /**
+     * Returns the number of groups, i.e. of canonical ids that occur more than once.
+     *
+     * @return the number of groups
+     */
+    public int getGroupCount() {
+        return groupPackedIds.length;
+    }
+
+    /**
+     * Returns the indexes of the ids of a group.
+     *
+     * @param group the index of the group, in the order of their first id
+     * @return the indexes of the ids, in ascending order, with at least two elements
+     * @throws IndexOutOfBoundsException if the group is out of range
+     */
+    public int[] getGroup(final int group) {
+        checkGroup(group);
+        return Arrays.copyOfRange(groupIndexes, groupOffsets[group], groupOffsets[group + 1]);
+    }
+
+    /**
+     * Returns the canonical id of a group, which is the sanitized id without omocodia substitutions.
+     *
+     * @param group the index of the group, in the order of their first id
+     * @return the canonical id
+     * @throws IndexOutOfBoundsException if the group is out of range
+     */
+    public String getCanonicalId(final int group) {
+        checkGroup(group);
+        return NationalIdCodec.decode(groupPackedIds[group], country);
+    }
+
+    private void checkGroup(final int group) {
+        if (group < 0 || group >= groupPackedIds.length) {
+            throw new IndexOutOfBoundsException("Group: " + group + ", group count: " + groupPackedIds.length);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DuplicateGroups{"
+            + "country=" + country
+            + ", size=" + size
+            + ", distinctCount=" + distinctCount
+            + ", skippedCount=" + skippedCount
+            + ", groupCount=" + groupPackedIds.length
+            + '}';
+    }
+}
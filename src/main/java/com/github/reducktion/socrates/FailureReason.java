@@ -0,0 +1,37 @@
+package com.github.reducktion.socrates;
+
+/**
+ * The reason why a National Identification Number is not valid.
+ */
+public enum FailureReason {
+
+    /**
+     * The id is null.
+     */
+    MISSING,
+
+    /**
+     * The id, without separators (spaces, dots and dashes), does not have the number of characters of the country.
+     */
+    INVALID_LENGTH,
+
+    /**
+     * The id has characters that are not allowed in their position, e.g. a letter where a digit is expected.
+     */
+    INVALID_CHARACTERS,
+
+    /**
+     * The date of birth encoded in the id does not exist.
+     */
+    INVALID_DATE_OF_BIRTH,
+
+    /**
+     * A part of the id has a value that is never issued, e.g. a blacklisted number or a reserved sequence number.
+     */
+    RESERVED_VALUE,
+
+    /**
+     * The check digits (or characters) do not match the rest of the id.
+     */
+    INVALID_CHECKSUM
+}
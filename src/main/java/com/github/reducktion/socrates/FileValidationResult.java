@@ -0,0 +1,46 @@
+package com.github.reducktion.socrates;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class that represents the result of validating a file of National Identification Numbers: the counts of its records
+ * and the first invalid ones, if they were collected.
+ */
+public final class FileValidationResult {
+
+    private final ValidationSummary summary;
+    private final List<InvalidRecord> invalidRecords;
+
+    FileValidationResult(final ValidationSummary summary, final List<InvalidRecord> invalidRecords) {
+        this.summary = summary;
+        this.invalidRecords = Collections.unmodifiableList(invalidRecords);
+    }
+
+    /**
+     * Returns the counts of the records, where each line is a record.
+     *
+     * @return the {@link ValidationSummary}
+     */
+    public ValidationSummary getSummary() {
+        return summary;
+    }
+
+    /**
+     * Returns the first invalid records, in the order of the file, up to the limit set in
+     * {@link FileValidator.Builder#collectInvalidRecords(int)}.
+     *
+     * @return an unmodifiable list of the {@link InvalidRecord}s, empty if they were not collected
+     */
+    public List<InvalidRecord> getInvalidRecords() {
+        return invalidRecords;
+    }
+
+    @Override
+    public String toString() {
+        return "FileValidationResult{"
+            + "summary=" + summary
+            + ", invalidRecords=" + invalidRecords
+            + '}';
+    }
+}
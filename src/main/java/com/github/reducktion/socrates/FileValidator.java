@@ -0,0 +1,297 @@
+package com.github.reducktion.socrates;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import com.github.reducktion.socrates.internal.AsciiByteSequence;
+import com.github.reducktion.socrates.nationalid.NationalIdRegistry;
+import com.github.reducktion.socrates.nationalid.NationalIdValidator;
+
+/**
+ * Validates files with one National Identification Number per line, e.g. dumps of several gigabytes, without creating
+ * a {@link String} per line.
+ * <p>
+ * The file is memory-mapped in windows of at most {@link Builder#windowSize(int)} bytes, so files larger than 2 GB are
+ * supported, and each record is validated in place, as ASCII bytes. Lines end with {@code \n} or {@code \r\n}, and
+ * a record longer than {@link #MAX_RECORD_LENGTH} bytes is invalid. The windows can be validated in parallel.
+ * <p>
+ * Since the bytes are not decoded, the decimal digits of other scripts (e.g. the UTF-8 bytes of "٣") are never read
+ * as digits, so the records that have them are not valid, as with {@link NonAsciiDigitPolicy#REJECT}, whatever the
+ * policy of the system property.
+ * <p>
+ * Instances are immutable and thread-safe.
+ */
+public final class FileValidator {
+
+    /**
+     * The window size used when none is configured.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 256 * 1024 * 1024;
+
+    /**
+     * The maximum length, in bytes, of a record, which is also how much a window is extended to read the record that
+     * crosses its end.
+     */
+    public static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    private static final int MAX_WINDOW_SIZE = Integer.MAX_VALUE - MAX_RECORD_LENGTH - 1;
+    private static final ThreadLocal<AsciiByteSequence> SEQUENCES = ThreadLocal.withInitial(AsciiByteSequence::new);
+
+    private final int windowSize;
+    private final int parallelism;
+    private final int invalidRecordLimit;
+    private final TwoDigitYearResolver twoDigitYearResolver;
+
+    private FileValidator(final Builder builder) {
+        windowSize = builder.windowSize;
+        parallelism = builder.parallelism;
+        invalidRecordLimit = builder.invalidRecordLimit;
+        twoDigitYearResolver = builder.clock == null
+            ? TwoDigitYearResolver.systemDefault()
+            : new TwoDigitYearResolver(builder.clock);
+    }
+
+    public static FileValidator.Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Validates the records of the file, for the country.
+     *
+     * @param path the file, with one national identification number per line, in ASCII
+     * @param country the country of the national identification numbers
+     * @return the {@link FileValidationResult}
+     * @throws IOException if the file cannot be read
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public FileValidationResult validate(final Path path, final Country country) throws IOException {
+        final NationalIdValidator validator = NationalIdRegistry.getValidator(country);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            final int windowCount = (int) ((size + windowSize - 1) / windowSize);
+            if (parallelism > 1 && windowCount > 1) {
+                return merge(validateWindowsInParallel(channel, size, windowCount, validator));
+            }
+
+            final List<WindowResult> results = new ArrayList<>(windowCount);
+            for (int window = 0; window < windowCount; window++) {
+                results.add(validateWindow(channel, size, (long) window * windowSize, validator));
+            }
+            return merge(results);
+        }
+    }
+
+    // validates the records that start in the window, reading past its end for the last one
+    private WindowResult validateWindow(
+        final FileChannel channel,
+        final long size,
+        final long windowStart,
+        final NationalIdValidator validator
+    ) throws IOException {
+        // the window is mapped from the byte before it, to know whether a record starts at its first byte
+        final long base = windowStart == 0 ? 0 : windowStart - 1;
+        final long windowEnd = Math.min(windowStart + windowSize, size);
+        final long mapEnd = Math.min(windowEnd + MAX_RECORD_LENGTH, size);
+        final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, base, mapEnd - base);
+        final int limit = (int) (mapEnd - base);
+        final int end = (int) (windowEnd - base);
+
+        final WindowResult result = new WindowResult();
+        int position = windowStart == 0 ? 0 : indexOfNewLine(buffer, 0, limit) + 1;
+        if (position == 0 && windowStart > 0) {
+            return result;
+        }
+
+        final AsciiByteSequence sequence = SEQUENCES.get();
+        try {
+            while (position < end) {
+                final int newLineIndex = indexOfNewLine(buffer, position, limit);
+                final int recordEnd = newLineIndex < 0 ? limit : newLineIndex;
+                final FailureReason failureReason;
+                if (newLineIndex < 0 && mapEnd < size || recordEnd - position > MAX_RECORD_LENGTH) {
+                    failureReason = FailureReason.INVALID_LENGTH;
+                } else {
+                    final int contentEnd = recordEnd > position && buffer.get(recordEnd - 1) == '\r'
+                        ? recordEnd - 1
+                        : recordEnd;
+                    failureReason =
+                        validator.validate(sequence.wrap(buffer, position, contentEnd), twoDigitYearResolver);
+                }
+
+                result.add(failureReason, base + position, invalidRecordLimit);
+                position = recordEnd + 1;
+            }
+        } finally {
+            sequence.clear();
+        }
+        return result;
+    }
+
+    private static int indexOfNewLine(final ByteBuffer buffer, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private List<WindowResult> validateWindowsInParallel(
+        final FileChannel channel,
+        final long size,
+        final int windowCount,
+        final NationalIdValidator validator
+    ) throws IOException {
+        final List<Callable<WindowResult>> windows = new ArrayList<>(windowCount);
+        for (int window = 0; window < windowCount; window++) {
+            final long windowStart = (long) window * windowSize;
+            windows.add(() -> validateWindow(channel, size, windowStart, validator));
+        }
+
+        final ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism);
+        try {
+            final List<WindowResult> results = new ArrayList<>(windows.size());
+            for (final Future<WindowResult> future : forkJoinPool.invokeAll(windows)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while validating the file");
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    // the line numbers of the windows are relative to their first record
+    private FileValidationResult merge(final List<WindowResult> results) {
+        final BatchValidation.Counts counts = new BatchValidation.Counts();
+        final List<InvalidRecord> invalidRecords = new ArrayList<>();
+        long previousLines = 0;
+        for (final WindowResult result : results) {
+            counts.addAll(result.counts);
+            for (final InvalidRecord invalidRecord : result.invalidRecords) {
+                if (invalidRecords.size() < invalidRecordLimit) {
+                    invalidRecords.add(new InvalidRecord(
+                        invalidRecord.getOffset(),
+                        previousLines + invalidRecord.getLineNumber(),
+                        invalidRecord.getFailureReason()
+                    ));
+                }
+            }
+            previousLines += result.recordCount;
+        }
+        return new FileValidationResult(
+            counts.toSummary(),
+            invalidRecords.isEmpty() ? Collections.emptyList() : invalidRecords
+        );
+    }
+
+    public static class Builder {
+        private int windowSize = DEFAULT_WINDOW_SIZE;
+        private int parallelism = 1;
+        private int invalidRecordLimit;
+        private Clock clock;
+
+        private Builder() {}
+
+        /**
+         * Sets the size of the windows in which the file is mapped and split.
+         *
+         * @param windowSize the window size, in bytes, {@link #DEFAULT_WINDOW_SIZE} by default
+         * @return the builder
+         * @throws IllegalArgumentException if the window size is not positive or is too large to be mapped
+         */
+        public Builder windowSize(final int windowSize) {
+            if (windowSize < 1 || windowSize > MAX_WINDOW_SIZE) {
+                throw new IllegalArgumentException("The window size must be between 1 and " + MAX_WINDOW_SIZE + ".");
+            }
+            this.windowSize = windowSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of threads that validate the windows of a file. With 1, the default, the windows are
+         * validated by the calling thread.
+         *
+         * @param parallelism the number of threads
+         * @return the builder
+         * @throws IllegalArgumentException if the parallelism is not positive
+         */
+        public Builder parallelism(final int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("The parallelism must be positive.");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Makes the validation collect the offsets and line numbers of the first invalid records. By default, they are
+         * not collected.
+         *
+         * @param limit the maximum number of invalid records to collect
+         * @return the builder
+         * @throws IllegalArgumentException if the limit is negative
+         */
+        public Builder collectInvalidRecords(final int limit) {
+            if (limit < 0) {
+                throw new IllegalArgumentException("The limit cannot be negative.");
+            }
+            invalidRecordLimit = limit;
+            return this;
+        }
+
+        /**
+         * Sets the clock used to resolve the century of the ids that only have the last two digits of the year of
+         * birth. By default, the system clock is used.
+         *
+         * @param clock the clock that gives the current year
+         * @return the builder
+         */
+        public Builder clock(final Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public FileValidator build() {
+            return new FileValidator(this);
+        }
+    }
+
+    private static final class WindowResult {
+        private final BatchValidation.Counts counts = new BatchValidation.Counts();
+        private final List<InvalidRecord> invalidRecords = new ArrayList<>();
+        private long recordCount;
+
+        // the line number is relative to the window
+        private void add(final FailureReason failureReason, final long offset, final int invalidRecordLimit) {
+            counts.add(failureReason);
+            recordCount++;
+            if (failureReason != null && invalidRecords.size() < invalidRecordLimit) {
+                invalidRecords.add(new InvalidRecord(offset, recordCount, failureReason));
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.reducktion.socrates;
+
+import java.util.Objects;
+
+/**
+ * Class that represents an invalid record of a file of National Identification Numbers: where it is and why it is not
+ * valid.
+ */
+public final class InvalidRecord {
+
+    private final long offset;
+    private final long lineNumber;
+    private final FailureReason failureReason;
+
+    InvalidRecord(final long offset, final long lineNumber, final FailureReason failureReason) {
+        this.offset = offset;
+        this.lineNumber = lineNumber;
+        this.failureReason = failureReason;
+    }
+
+    /**
+     * Returns the offset in the file of the first byte of the record.
+     *
+     * @return the offset, starting at 0
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns the number of the line of the record.
+     *
+     * @return the line number, starting at 1
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public FailureReason getFailureReason() {
+        return failureReason;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final InvalidRecord other = (InvalidRecord) obj;
+
+        return offset == other.offset
+            && lineNumber == other.lineNumber
+            && failureReason == other.failureReason;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(offset, lineNumber, failureReason);
+    }
+
+    @Override
+    public String toString() {
+        return "InvalidRecord{"
+            + "offset=" + offset
+            + ", lineNumber=" + lineNumber
+            + ", failureReason=" + failureReason
+            + '}';
+    }
+}
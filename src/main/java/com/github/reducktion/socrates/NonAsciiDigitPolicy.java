@@ -0,0 +1,84 @@
+package com.github.reducktion.socrates;
+
+import java.util.Locale;
+
+/**
+ * What to do with the decimal digits that are not ASCII digits (e.g. the Arabic-Indic digit "٣" or the full-width
+ * digit "３") in the ids validated by a {@link Socrates} instance.
+ * <p>
+ * It is an option of the instance, see {@link Socrates#Socrates(java.time.Clock, NonAsciiDigitPolicy)}, and of the
+ * builders of {@link ParallelSocrates} and of the {@code ValidationProcessor}. The ones created without one use the
+ * policy of the system property {@value #SYSTEM_PROPERTY}, which is either {@code normalize} (the default) or
+ * {@code reject}. The static methods of {@link Socrates} and the
+ * {@link com.github.reducktion.socrates.nationalid.NationalIdValidator}s always normalize the digits, while the
+ * {@link FileValidator} never decodes them, since it reads the records as ASCII bytes, so it always rejects them.
+ */
+public enum NonAsciiDigitPolicy {
+
+    /**
+     * The digits are replaced with the ASCII digits of the same value, so "٣" is read as "3".
+     */
+    NORMALIZE,
+
+    /**
+     * The ids that have such digits are not valid, with {@link FailureReason#INVALID_CHARACTERS}.
+     */
+    REJECT;
+
+    /**
+     * The name of the system property with the default policy of the {@link Socrates} instances.
+     */
+    public static final String SYSTEM_PROPERTY = "socrates.nonAsciiDigits";
+
+    private static final NonAsciiDigitPolicy SYSTEM_DEFAULT = fromProperty(System.getProperty(SYSTEM_PROPERTY));
+
+    /**
+     * Returns the policy of the system property {@value #SYSTEM_PROPERTY}, read when this class was loaded.
+     *
+     * @return the {@link NonAsciiDigitPolicy}
+     */
+    public static NonAsciiDigitPolicy systemDefault() {
+        return SYSTEM_DEFAULT;
+    }
+
+    /**
+     * Returns the policy of a value of the system property {@value #SYSTEM_PROPERTY}.
+     *
+     * @param value the value, case insensitive, or null for the default policy
+     * @return the {@link NonAsciiDigitPolicy}
+     * @throws IllegalArgumentException if the value is not {@code normalize} nor {@code reject}
+     */
+    public static NonAsciiDigitPolicy fromProperty(final String value) {
+        if (value == null) {
+            return NORMALIZE;
+        }
+        for (final NonAsciiDigitPolicy policy : values()) {
+            if (policy.name().equals(value.trim().toUpperCase(Locale.ROOT))) {
+                return policy;
+            }
+        }
+        throw new IllegalArgumentException(
+            "The system property " + SYSTEM_PROPERTY + " must be normalize or reject, but was " + value + "."
+        );
+    }
+
+    /**
+     * Checks if the id has decimal digits that are not ASCII digits and this policy rejects them. The ASCII characters
+     * are skipped without looking up the Unicode tables, and no memory is allocated.
+     *
+     * @param id the national identification number, may be null
+     * @return true if the {@code id} is not valid because of this policy, false otherwise
+     */
+    public boolean rejects(final CharSequence id) {
+        if (this == NORMALIZE || id == null) {
+            return false;
+        }
+        for (int i = 0; i < id.length(); i++) {
+            final char c = id.charAt(i);
+            if (c >= 128 && Character.isDigit(c)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
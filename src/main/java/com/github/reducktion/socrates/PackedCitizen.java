@@ -0,0 +1,302 @@
+package com.github.reducktion.socrates;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import com.github.reducktion.socrates.nationalid.NationalIdRegistry;
+import com.github.reducktion.socrates.nationalid.NationalIdValidator;
+
+/**
+ * Compact representation of a {@link Citizen}, packed in a {@code long}, which can be extracted and read without
+ * allocating memory.
+ * <p>
+ * The gender, the date of birth and the code of the place of birth are stored in bit fields, along with whether each
+ * of them is known. The code of the place of birth is specific to each country (e.g. the index of the cadastral code
+ * for Italy), and it is converted to the name of the place by {@link #toCitizen(long, Country)}.
+ * <p>
+ * The getters that return {@link Optional}s and {@link OptionalInt}s mirror the ones of {@link Citizen}; the others
+ * return {@link #ABSENT} (or null, for the gender) for the unknown values, and never allocate memory.
+ *
+ * @see Socrates#extractPacked(CharSequence, Country)
+ */
+public final class PackedCitizen {
+
+    /**
+     * The value for an id that is not valid, or from which the citizen cannot be extracted. No packed citizen has this
+     * value.
+     */
+    public static final long NONE = -1L;
+
+    /**
+     * The value of the fields that are not known.
+     */
+    public static final int ABSENT = -1;
+
+    /**
+     * The maximum code of a place of birth.
+     */
+    public static final int MAX_PLACE_OF_BIRTH_CODE = (1 << 24) - 1;
+
+    private static final int DAY_SHIFT = 0;
+    private static final int MONTH_SHIFT = 5;
+    private static final int YEAR_SHIFT = 9;
+    private static final int GENDER_SHIFT = 23;
+    private static final int PLACE_OF_BIRTH_SHIFT = 25;
+
+    private static final long DAY_MASK = 0x1F;
+    private static final long MONTH_MASK = 0xF;
+    private static final long YEAR_MASK = 0x3FFF;
+    private static final long GENDER_MASK = 0x3;
+    private static final long PLACE_OF_BIRTH_MASK = MAX_PLACE_OF_BIRTH_CODE;
+
+    private static final long HAS_DAY = 1L << 49;
+    private static final long HAS_MONTH = 1L << 50;
+    private static final long HAS_YEAR = 1L << 51;
+    private static final long HAS_PLACE_OF_BIRTH = 1L << 52;
+
+    private static final int NO_GENDER = 0;
+    private static final int FEMALE = 1;
+    private static final int MALE = 2;
+    private static final int MAX_YEAR = 9999;
+
+    private static final Optional<Gender> OPTIONAL_FEMALE = Optional.of(Gender.FEMALE);
+    private static final Optional<Gender> OPTIONAL_MALE = Optional.of(Gender.MALE);
+
+    private PackedCitizen() {}
+
+    /**
+     * Packs the citizen information.
+     *
+     * @param gender the gender, or null if it is unknown
+     * @param yearOfBirth the year of birth, from 0 to 9999, or {@link #ABSENT}
+     * @param monthOfBirth the month of birth, from 0 to 12, or {@link #ABSENT}
+     * @param dayOfBirth the day of birth, from 0 to 31, or {@link #ABSENT}
+     * @param placeOfBirthCode the code of the place of birth, from 0 to {@link #MAX_PLACE_OF_BIRTH_CODE}, or
+     *        {@link #ABSENT}
+     * @return the packed citizen
+     * @throws IllegalArgumentException if any of the values is out of range
+     */
+    public static long pack(
+        final Gender gender,
+        final int yearOfBirth,
+        final int monthOfBirth,
+        final int dayOfBirth,
+        final int placeOfBirthCode
+    ) {
+        long packedCitizen = (long) packGender(gender) << GENDER_SHIFT;
+        packedCitizen |= packField(yearOfBirth, 0, MAX_YEAR, YEAR_SHIFT, HAS_YEAR, "year of birth");
+        packedCitizen |= packField(monthOfBirth, 0, 12, MONTH_SHIFT, HAS_MONTH, "month of birth");
+        packedCitizen |= packField(dayOfBirth, 0, 31, DAY_SHIFT, HAS_DAY, "day of birth");
+        packedCitizen |= packField(
+            placeOfBirthCode,
+            0,
+            MAX_PLACE_OF_BIRTH_CODE,
+            PLACE_OF_BIRTH_SHIFT,
+            HAS_PLACE_OF_BIRTH,
+            "code of the place of birth"
+        );
+        return packedCitizen;
+    }
+
+    private static int packGender(final Gender gender) {
+        if (gender == null) {
+            return NO_GENDER;
+        }
+        return gender == Gender.FEMALE ? FEMALE : MALE;
+    }
+
+    private static long packField(
+        final int value,
+        final int minValue,
+        final int maxValue,
+        final int shift,
+        final long presenceBit,
+        final String name
+    ) {
+        if (value == ABSENT) {
+            return 0;
+        }
+        if (value < minValue || value > maxValue) {
+            throw new IllegalArgumentException(
+                "The " + name + " must be between " + minValue + " and " + maxValue + ", but was " + value + "."
+            );
+        }
+        return (long) value << shift | presenceBit;
+    }
+
+    /**
+     * Packs a {@link Citizen}, converting its place of birth to the code of the country.
+     *
+     * @param citizen the citizen
+     * @param country the country of the national id from which the citizen was extracted
+     * @return the packed citizen
+     * @throws IllegalArgumentException if the citizen is null, or any of its values is out of range
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public static long fromCitizen(final Citizen citizen, final Country country) {
+        return fromCitizen(citizen, NationalIdRegistry.getValidator(country));
+    }
+
+    /**
+     * Packs a {@link Citizen}, converting its place of birth with
+     * {@link NationalIdValidator#getPlaceOfBirthCode(String)}. A place of birth that has no code is left unknown.
+     *
+     * @param citizen the citizen
+     * @param validator the validator of the national id from which the citizen was extracted
+     * @return the packed citizen
+     * @throws IllegalArgumentException if the citizen is null, or any of its values is out of range
+     */
+    public static long fromCitizen(final Citizen citizen, final NationalIdValidator validator) {
+        if (citizen == null) {
+            throw new IllegalArgumentException("The citizen cannot be null.");
+        }
+
+        return pack(
+            citizen.getGender().orElse(null),
+            citizen.getYearOfBirth().orElse(ABSENT),
+            citizen.getMonthOfBirth().orElse(ABSENT),
+            citizen.getDayOfBirth().orElse(ABSENT),
+            citizen.getPlaceOfBirth().isPresent()
+                ? validator.getPlaceOfBirthCode(citizen.getPlaceOfBirth().get())
+                : ABSENT
+        );
+    }
+
+    /**
+     * Unpacks a {@link Citizen}, converting the code of its place of birth to the name used by the country.
+     *
+     * @param packedCitizen the packed citizen
+     * @param country the country of the national id from which the citizen was extracted
+     * @return the {@link Citizen}
+     * @throws IllegalArgumentException if {@code packedCitizen} is {@link #NONE}
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public static Citizen toCitizen(final long packedCitizen, final Country country) {
+        return toCitizen(packedCitizen, NationalIdRegistry.getValidator(country));
+    }
+
+    /**
+     * Unpacks a {@link Citizen}, converting the code of its place of birth with
+     * {@link NationalIdValidator#getPlaceOfBirth(int)}.
+     *
+     * @param packedCitizen the packed citizen
+     * @param validator the validator of the national id from which the citizen was extracted
+     * @return the {@link Citizen}
+     * @throws IllegalArgumentException if {@code packedCitizen} is {@link #NONE}
+     */
+    public static Citizen toCitizen(final long packedCitizen, final NationalIdValidator validator) {
+        if (packedCitizen == NONE) {
+            throw new IllegalArgumentException("There is no citizen to unpack.");
+        }
+
+        final int placeOfBirthCode = placeOfBirthCode(packedCitizen);
+        return Citizen
+            .builder()
+            .gender(gender(packedCitizen))
+            .yearOfBirth(toNullIfAbsent(yearOfBirth(packedCitizen)))
+            .monthOfBirth(toNullIfAbsent(monthOfBirth(packedCitizen)))
+            .dayOfBirth(toNullIfAbsent(dayOfBirth(packedCitizen)))
+            .placeOfBirth(placeOfBirthCode == ABSENT ? null : validator.getPlaceOfBirth(placeOfBirthCode))
+            .build();
+    }
+
+    private static Integer toNullIfAbsent(final int value) {
+        return value == ABSENT ? null : value;
+    }
+
+    /**
+     * Returns the gender of a packed citizen.
+     *
+     * @param packedCitizen the packed citizen
+     * @return the {@link Gender}, or null if it is unknown
+     */
+    public static Gender gender(final long packedCitizen) {
+        switch ((int) (packedCitizen >>> GENDER_SHIFT & GENDER_MASK)) {
+            case FEMALE: return Gender.FEMALE;
+            case MALE: return Gender.MALE;
+            default: return null;
+        }
+    }
+
+    /**
+     * Returns the gender of a packed citizen.
+     *
+     * @param packedCitizen the packed citizen
+     * @return the {@link Gender} wrapped in an {@link Optional}, which is shared, or empty if it is unknown
+     */
+    public static Optional<Gender> getGender(final long packedCitizen) {
+        final Gender gender = gender(packedCitizen);
+        if (gender == null) {
+            return Optional.empty();
+        }
+        return gender == Gender.FEMALE ? OPTIONAL_FEMALE : OPTIONAL_MALE;
+    }
+
+    /**
+     * Returns the year of birth of a packed citizen.
+     *
+     * @param packedCitizen the packed citizen
+     * @return the year of birth, or {@link #ABSENT} if it is unknown
+     */
+    public static int yearOfBirth(final long packedCitizen) {
+        return unpackField(packedCitizen, YEAR_SHIFT, YEAR_MASK, HAS_YEAR);
+    }
+
+    public static OptionalInt getYearOfBirth(final long packedCitizen) {
+        return toOptionalInt(yearOfBirth(packedCitizen));
+    }
+
+    /**
+     * Returns the month of birth of a packed citizen.
+     *
+     * @param packedCitizen the packed citizen
+     * @return the month of birth, from 0 to 12, or {@link #ABSENT} if it is unknown
+     */
+    public static int monthOfBirth(final long packedCitizen) {
+        return unpackField(packedCitizen, MONTH_SHIFT, MONTH_MASK, HAS_MONTH);
+    }
+
+    public static OptionalInt getMonthOfBirth(final long packedCitizen) {
+        return toOptionalInt(monthOfBirth(packedCitizen));
+    }
+
+    /**
+     * Returns the day of birth of a packed citizen.
+     *
+     * @param packedCitizen the packed citizen
+     * @return the day of birth, from 0 to 31, or {@link #ABSENT} if it is unknown
+     */
+    public static int dayOfBirth(final long packedCitizen) {
+        return unpackField(packedCitizen, DAY_SHIFT, DAY_MASK, HAS_DAY);
+    }
+
+    public static OptionalInt getDayOfBirth(final long packedCitizen) {
+        return toOptionalInt(dayOfBirth(packedCitizen));
+    }
+
+    /**
+     * Returns the code of the place of birth of a packed citizen, which is specific to the country.
+     *
+     * @param packedCitizen the packed citizen
+     * @return the code of the place of birth, or {@link #ABSENT} if it is unknown
+     * @see NationalIdValidator#getPlaceOfBirth(int)
+     */
+    public static int placeOfBirthCode(final long packedCitizen) {
+        return unpackField(packedCitizen, PLACE_OF_BIRTH_SHIFT, PLACE_OF_BIRTH_MASK, HAS_PLACE_OF_BIRTH);
+    }
+
+    public static OptionalInt getPlaceOfBirthCode(final long packedCitizen) {
+        return toOptionalInt(placeOfBirthCode(packedCitizen));
+    }
+
+    private static int unpackField(final long packedCitizen, final int shift, final long mask, final long presenceBit) {
+        if (packedCitizen == NONE || (packedCitizen & presenceBit) == 0) {
+            return ABSENT;
+        }
+        return (int) (packedCitizen >>> shift & mask);
+    }
+
+    private static OptionalInt toOptionalInt(final int value) {
+        return value == ABSENT ? OptionalInt.empty() : OptionalInt.of(value);
+    }
+}
@@ -0,0 +1,443 @@
+package com.github.reducktion.socrates;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+import com.github.reducktion.socrates.nationalid.NationalIdRegistry;
+import com.github.reducktion.socrates.nationalid.NationalIdValidator;
+
+/**
+ * Validates and parses large batches of National Identification Numbers in parallel, in a {@link ForkJoinPool}.
+ * <p>
+ * A batch is split in halves until the ranges have at most the minimum chunk size, and each range is processed by one
+ * thread, with the per-thread buffers of the sequential batch methods of {@link Socrates}. The results are in the
+ * order of the ids.
+ * <p>
+ * Instances are thread-safe. An instance created with a parallelism owns its pool, which is shut down by
+ * {@link #close()}; otherwise it uses the common pool, or the pool it was given, which it never shuts down.
+ */
+public final class ParallelSocrates implements AutoCloseable {
+
+    /**
+     * The minimum chunk size used when none is configured, which is large enough to make the cost of a task
+     * negligible.
+     */
+    public static final int DEFAULT_MIN_CHUNK_SIZE = 4096;
+
+    private final ForkJoinPool forkJoinPool;
+    private final boolean ownsForkJoinPool;
+    private final int minChunkSize;
+    private final TwoDigitYearResolver twoDigitYearResolver;
+    private final NonAsciiDigitPolicy nonAsciiDigitPolicy;
+
+    private ParallelSocrates(final Builder builder) {
+        if (builder.parallelism > 0) {
+            forkJoinPool = new ForkJoinPool(builder.parallelism);
+            ownsForkJoinPool = true;
+        } else {
+            forkJoinPool = builder.forkJoinPool == null ? ForkJoinPool.commonPool() : builder.forkJoinPool;
+            ownsForkJoinPool = false;
+        }
+        minChunkSize = builder.minChunkSize;
+        twoDigitYearResolver = builder.clock == null
+            ? TwoDigitYearResolver.systemDefault()
+            : new TwoDigitYearResolver(builder.clock);
+        nonAsciiDigitPolicy = builder.nonAsciiDigitPolicy;
+    }
+
+    /**
+     * Creates a builder of {@link ParallelSocrates}, which uses the common pool by default.
+     *
+     * @return the {@link Builder}
+     */
+    public static ParallelSocrates.Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the parallelism of the pool that validates the batches.
+     *
+     * @return the number of threads of the pool
+     */
+    public int getParallelism() {
+        return forkJoinPool.getParallelism();
+    }
+
+    /**
+     * Returns the number of ids under which a range of a batch is not split further.
+     *
+     * @return the minimum chunk size
+     */
+    public int getMinChunkSize() {
+        return minChunkSize;
+    }
+
+    /**
+     * Validates a batch of National Identification Numbers in parallel.
+     *
+     * @param ids the national identification numbers, which may contain nulls
+     * @param country the country of the national identification numbers
+     * @return a {@link BitSet} in which the bit at index {@code i} is set if {@code ids[i]} is valid
+     * @throws IllegalArgumentException if the ids are null
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public BitSet validateAll(final CharSequence[] ids, final Country country) {
+        final boolean[] valid = new boolean[requireIds(ids).length];
+        validateAll(ids, country, valid);
+        return toBitSet(valid);
+    }
+
+    /**
+     * Validates a batch of National Identification Numbers in parallel, and counts the valid ids and the invalid ones
+     * by {@link FailureReason}.
+     *
+     * @param ids the national identification numbers, which may contain nulls
+     * @param country the country of the national identification numbers
+     * @param valid where the element at index {@code i} is set to whether {@code ids[i]} is valid, with at least as
+     *              many elements as {@code ids}
+     * @return the {@link ValidationSummary}
+     * @throws IllegalArgumentException if the ids or {@code valid} are null, or {@code valid} is too short
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public ValidationSummary validateAll(final CharSequence[] ids, final Country country, final boolean[] valid) {
+        requireResults(valid, requireIds(ids).length);
+        final ValidationTask task =
+            new ValidationTask(ids, null, 0, ids.length, NationalIdRegistry.getValidator(country), valid);
+        return invoke(task, ids.length).toSummary();
+    }
+
+    /**
+     * Validates a batch of National Identification Numbers in parallel.
+     *
+     * @param ids the national identification numbers, which may contain nulls
+     * @param country the country of the national identification numbers
+     * @return a {@link BitSet} in which the bit at index {@code i} is set if the id at index {@code i} is valid
+     * @throws IllegalArgumentException if the ids are null
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public BitSet validateAll(final List<? extends CharSequence> ids, final Country country) {
+        final boolean[] valid = new boolean[requireIds(ids).size()];
+        validateAll(ids, country, valid);
+        return toBitSet(valid);
+    }
+
+    /**
+     * Validates a batch of National Identification Numbers in parallel, and counts the valid ids and the invalid ones
+     * by {@link FailureReason}. The list must not be modified while it is validated.
+     *
+     * @param ids the national identification numbers, which may contain nulls
+     * @param country the country of the national identification numbers
+     * @param valid where the element at index {@code i} is set to whether the id at index {@code i} is valid, with at
+     *              least as many elements as {@code ids}
+     * @return the {@link ValidationSummary}
+     * @throws IllegalArgumentException if the ids or {@code valid} are null, or {@code valid} is too short
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public ValidationSummary validateAll(
+        final List<? extends CharSequence> ids,
+        final Country country,
+        final boolean[] valid
+    ) {
+        requireResults(valid, requireIds(ids).size());
+        if (!(ids instanceof RandomAccess)) {
+            return validateAll(ids.toArray(new CharSequence[0]), country, valid);
+        }
+
+        final ValidationTask task =
+            new ValidationTask(null, ids, 0, ids.size(), NationalIdRegistry.getValidator(country), valid);
+        return invoke(task, ids.size()).toSummary();
+    }
+
+    /**
+     * Validates a batch of National Identification Numbers and extracts the {@link Citizen}s from them, in parallel.
+     *
+     * @param ids the national identification numbers, which may contain nulls
+     * @param country the country of the national identification numbers
+     * @return the {@link ParseResult}s, in the order of the ids
+     * @throws IllegalArgumentException if the ids are null
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public ParseResult[] parseAll(final CharSequence[] ids, final Country country) {
+        final ParseResult[] results = new ParseResult[requireIds(ids).length];
+        invoke(new ParseTask(ids, 0, ids.length, NationalIdRegistry.getValidator(country), results), ids.length);
+        return results;
+    }
+
+    /**
+     * Validates a batch of National Identification Numbers and extracts the {@link Citizen}s from them, in parallel.
+     *
+     * @param ids the national identification numbers, which may contain nulls
+     * @param country the country of the national identification numbers
+     * @return an unmodifiable list of the {@link ParseResult}s, in the order of the ids
+     * @throws IllegalArgumentException if the ids are null
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public List<ParseResult> parseAll(final List<? extends CharSequence> ids, final Country country) {
+        final CharSequence[] idsArray = requireIds(ids).toArray(new CharSequence[0]);
+        return Collections.unmodifiableList(Arrays.asList(parseAll(idsArray, country)));
+    }
+
+    /**
+     * Shuts down the pool, if it was created by this instance.
+     */
+    @Override
+    public void close() {
+        if (ownsForkJoinPool) {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    // small batches are processed by the calling thread
+    private BatchValidation.Counts invoke(final ValidationTask task, final int size) {
+        return size <= minChunkSize ? task.compute() : forkJoinPool.invoke(task);
+    }
+
+    private void invoke(final ParseTask task, final int size) {
+        if (size <= minChunkSize) {
+            task.compute();
+        } else {
+            forkJoinPool.invoke(task);
+        }
+    }
+
+    private static <T> T requireIds(final T ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("The ids cannot be null.");
+        }
+        return ids;
+    }
+
+    private static void requireResults(final boolean[] results, final int size) {
+        if (results == null) {
+            throw new IllegalArgumentException("The results cannot be null.");
+        }
+        if (results.length < size) {
+            throw new IllegalArgumentException("The results array is shorter than the ids.");
+        }
+    }
+
+    private static BitSet toBitSet(final boolean[] valid) {
+        final long[] words = new long[(valid.length + 63) >>> 6];
+        for (int i = 0; i < valid.length; i++) {
+            if (valid[i]) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+        return BitSet.valueOf(words);
+    }
+
+    public static final class Builder {
+        private int parallelism;
+        private ForkJoinPool forkJoinPool;
+        private int minChunkSize = DEFAULT_MIN_CHUNK_SIZE;
+        private Clock clock;
+        private NonAsciiDigitPolicy nonAsciiDigitPolicy = NonAsciiDigitPolicy.systemDefault();
+
+        private Builder() {}
+
+        /**
+         * Makes the instance create its own pool, with the {@code parallelism}, which is shut down by
+         * {@link ParallelSocrates#close()}.
+         *
+         * @param parallelism the number of threads of the pool
+         * @return the builder
+         * @throws IllegalArgumentException if the parallelism is not positive
+         */
+        public Builder parallelism(final int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("The parallelism must be positive.");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Makes the instance use the {@code forkJoinPool}, which is not shut down by {@link ParallelSocrates#close()}.
+         * By default, the common pool is used.
+         *
+         * @param forkJoinPool the pool
+         * @return the builder
+         */
+        public Builder forkJoinPool(final ForkJoinPool forkJoinPool) {
+            this.forkJoinPool = forkJoinPool;
+            return this;
+        }
+
+        /**
+         * Sets the number of ids under which a range of a batch is not split further.
+         *
+         * @param minChunkSize the minimum chunk size, {@link #DEFAULT_MIN_CHUNK_SIZE} by default
+         * @return the builder
+         * @throws IllegalArgumentException if the minimum chunk size is not positive
+         */
+        public Builder minChunkSize(final int minChunkSize) {
+            if (minChunkSize < 1) {
+                throw new IllegalArgumentException("The minimum chunk size must be positive.");
+            }
+            this.minChunkSize = minChunkSize;
+            return this;
+        }
+
+        /**
+         * Sets the clock used to resolve the century of the ids that only have the last two digits of the year of
+         * birth. By default, the system clock is used.
+         *
+         * @param clock the clock that gives the current year
+         * @return the builder
+         */
+        public Builder clock(final Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Sets what to do with the decimal digits that are not ASCII digits, as the {@link NonAsciiDigitPolicy} of a
+         * {@link Socrates} instance. By default, the policy of the system property
+         * {@value NonAsciiDigitPolicy#SYSTEM_PROPERTY} is used.
+         *
+         * @param nonAsciiDigitPolicy whether the decimal digits that are not ASCII digits are normalized or rejected
+         * @return the builder
+         * @throws IllegalArgumentException if the policy is null
+         */
+        public Builder nonAsciiDigitPolicy(final NonAsciiDigitPolicy nonAsciiDigitPolicy) {
+            if (nonAsciiDigitPolicy == null) {
+                throw new IllegalArgumentException("The non-ASCII digit policy cannot be null.");
+            }
+            this.nonAsciiDigitPolicy = nonAsciiDigitPolicy;
+            return this;
+        }
+
+        /**
+         * Creates the {@link ParallelSocrates}.
+         *
+         * @return the {@link ParallelSocrates}
+         * @throws IllegalStateException if both a parallelism and a pool were set
+         */
+        public ParallelSocrates build() {
+            if (parallelism > 0 && forkJoinPool != null) {
+                throw new IllegalStateException("Either the parallelism or the pool can be set, not both.");
+            }
+            return new ParallelSocrates(this);
+        }
+    }
+
+    // either ids or idsList is not null
+    private final class ValidationTask extends RecursiveTask<BatchValidation.Counts> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final CharSequence[] ids;
+        private final List<? extends CharSequence> idsList;
+        private final int from;
+        private final int to;
+        private final NationalIdValidator validator;
+        private final boolean[] valid;
+
+        private ValidationTask(
+            final CharSequence[] ids,
+            final List<? extends CharSequence> idsList,
+            final int from,
+            final int to,
+            final NationalIdValidator validator,
+            final boolean[] valid
+        ) {
+            this.ids = ids;
+            this.idsList = idsList;
+            this.from = from;
+            this.to = to;
+            this.validator = validator;
+            this.valid = valid;
+        }
+
+        @Override
+        protected BatchValidation.Counts compute() {
+            if (to - from <= minChunkSize) {
+                final BatchValidation.Counts counts = new BatchValidation.Counts();
+                if (ids != null) {
+                    BatchValidation.validateRange(
+                        ids,
+                        from,
+                        to,
+                        validator,
+                        twoDigitYearResolver,
+                        nonAsciiDigitPolicy,
+                        null,
+                        valid,
+                        counts
+                    );
+                } else {
+                    BatchValidation.validateRange(
+                        idsList,
+                        from,
+                        to,
+                        validator,
+                        twoDigitYearResolver,
+                        nonAsciiDigitPolicy,
+                        null,
+                        valid,
+                        counts
+                    );
+                }
+                return counts;
+            }
+
+            final int middle = (from + to) >>> 1;
+            final ValidationTask left = new ValidationTask(ids, idsList, from, middle, validator, valid);
+            left.fork();
+            final BatchValidation.Counts counts =
+                new ValidationTask(ids, idsList, middle, to, validator, valid).compute();
+            counts.addAll(left.join());
+            return counts;
+        }
+    }
+
+    private final class ParseTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final CharSequence[] ids;
+        private final int from;
+        private final int to;
+        private final NationalIdValidator validator;
+        private final ParseResult[] results;
+
+        private ParseTask(
+            final CharSequence[] ids,
+            final int from,
+            final int to,
+            final NationalIdValidator validator,
+            final ParseResult[] results
+        ) {
+            this.ids = ids;
+            this.from = from;
+            this.to = to;
+            this.validator = validator;
+            this.results = results;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= minChunkSize) {
+                for (int i = from; i < to; i++) {
+                    results[i] = nonAsciiDigitPolicy.rejects(ids[i])
+                        ? ParseResult.invalid(FailureReason.INVALID_CHARACTERS)
+                        : validator.parse(ids[i], twoDigitYearResolver);
+                }
+                return;
+            }
+
+            final int middle = (from + to) >>> 1;
+            invokeAll(
+                new ParseTask(ids, from, middle, validator, results),
+                new ParseTask(ids, middle, to, validator, results)
+            );
+        }
+    }
+}
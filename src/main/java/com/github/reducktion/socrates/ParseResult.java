@@ -0,0 +1,97 @@
+package com.github.reducktion.socrates;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Class that represents the result of parsing a National Identification Number: whether it is valid, why it is not
+ * valid and the {@link Citizen} extracted from it.
+ * <p>
+ * The results of invalid ids are shared instances, so parsing an invalid id does not allocate memory.
+ */
+public final class ParseResult {
+
+    private static final ParseResult VALID_WITHOUT_CITIZEN = new ParseResult(null, null);
+    private static final Map<FailureReason, ParseResult> INVALID_RESULTS = new EnumMap<>(FailureReason.class);
+
+    static {
+        for (final FailureReason failureReason : FailureReason.values()) {
+            INVALID_RESULTS.put(failureReason, new ParseResult(failureReason, null));
+        }
+    }
+
+    private final FailureReason failureReason;
+    private final Citizen citizen;
+
+    private ParseResult(final FailureReason failureReason, final Citizen citizen) {
+        this.failureReason = failureReason;
+        this.citizen = citizen;
+    }
+
+    /**
+     * Returns the result of a valid id.
+     *
+     * @param citizen the {@link Citizen} extracted from the id, or null if the country does not support extraction
+     * @return the {@link ParseResult}
+     */
+    public static ParseResult valid(final Citizen citizen) {
+        return citizen == null ? VALID_WITHOUT_CITIZEN : new ParseResult(null, citizen);
+    }
+
+    /**
+     * Returns the result of an invalid id.
+     *
+     * @param failureReason the reason why the id is not valid
+     * @return the {@link ParseResult}
+     * @throws IllegalArgumentException if the failure reason is null
+     */
+    public static ParseResult invalid(final FailureReason failureReason) {
+        if (failureReason == null) {
+            throw new IllegalArgumentException("The failure reason cannot be null.");
+        }
+        return INVALID_RESULTS.get(failureReason);
+    }
+
+    public boolean isValid() {
+        return failureReason == null;
+    }
+
+    public Optional<FailureReason> getFailureReason() {
+        return Optional.ofNullable(failureReason);
+    }
+
+    public Optional<Citizen> getCitizen() {
+        return Optional.ofNullable(citizen);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final ParseResult other = (ParseResult) obj;
+
+        return failureReason == other.failureReason
+            && Objects.equals(citizen, other.citizen);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(failureReason, citizen);
+    }
+
+    @Override
+    public String toString() {
+        return "ParseResult{"
+            + "failureReason=" + failureReason
+            + ", citizen=" + citizen
+            + '}';
+    }
+}
@@ -1,17 +1,92 @@
 package com.github.reducktion.socrates;
 
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Optional;
 
 import com.github.reducktion.socrates.generator.NationalIdGenerator;
-import com.github.reducktion.socrates.generator.NationalIdGeneratorFactory;
-import com.github.reducktion.socrates.nationalid.NationalId;
-import com.github.reducktion.socrates.nationalid.NationalIdFactory;
+import com.github.reducktion.socrates.internal.AsciiByteSequence;
+import com.github.reducktion.socrates.nationalid.NationalIdProvider;
+import com.github.reducktion.socrates.nationalid.NationalIdRegistry;
+import com.github.reducktion.socrates.nationalid.NationalIdValidator;
 
 /**
  * Socrates allows you to validate and retrieve personal data from National Identification Numbers across the world.
+ * <p>
+ * The century of the ids that only have the last two digits of the year of birth, which decides whether some of them
+ * are valid, is resolved with the clock of the instance by the instance methods, and with the system clock by the
+ * static ones. Likewise, the decimal digits that are not ASCII digits are handled with the {@link NonAsciiDigitPolicy}
+ * of the instance by the instance methods, and always normalized by the static ones.
  */
 public class Socrates {
 
+    // the views of the ids given as bytes, which are only wrapped while they are validated
+    private static final ThreadLocal<AsciiByteSequence> SEQUENCES = ThreadLocal.withInitial(AsciiByteSequence::new);
+
+    private final TwoDigitYearResolver twoDigitYearResolver;
+    private final NonAsciiDigitPolicy nonAsciiDigitPolicy;
+
+    /**
+     * Creates an instance that uses the system clock to resolve the century of the ids that only have the last two
+     * digits of the year of birth, and the {@link NonAsciiDigitPolicy#systemDefault()} policy.
+     */
+    public Socrates() {
+        twoDigitYearResolver = TwoDigitYearResolver.systemDefault();
+        nonAsciiDigitPolicy = NonAsciiDigitPolicy.systemDefault();
+    }
+
+    /**
+     * Creates an instance that uses the {@code clock} to resolve the century of the ids that only have the last two
+     * digits of the year of birth, which makes the extraction deterministic, e.g. in tests, and the
+     * {@link NonAsciiDigitPolicy#systemDefault()} policy.
+     *
+     * @param clock the clock that gives the current year
+     * @throws IllegalArgumentException if the clock is null
+     */
+    public Socrates(final Clock clock) {
+        this(clock, NonAsciiDigitPolicy.systemDefault());
+    }
+
+    /**
+     * Creates an instance that uses the {@code clock} to resolve the century of the ids that only have the last two
+     * digits of the year of birth, and the {@code nonAsciiDigitPolicy} for the decimal digits that are not ASCII
+     * digits.
+     *
+     * @param clock the clock that gives the current year, e.g. {@link Clock#systemDefaultZone()}
+     * @param nonAsciiDigitPolicy whether the decimal digits that are not ASCII digits are normalized or rejected
+     * @throws IllegalArgumentException if the clock or the policy are null
+     */
+    public Socrates(final Clock clock, final NonAsciiDigitPolicy nonAsciiDigitPolicy) {
+        if (nonAsciiDigitPolicy == null) {
+            throw new IllegalArgumentException("The non-ASCII digit policy cannot be null.");
+        }
+        twoDigitYearResolver = new TwoDigitYearResolver(clock);
+        this.nonAsciiDigitPolicy = nonAsciiDigitPolicy;
+    }
+
+    /**
+     * Checks if the National Identification Numbers of the country can be validated, either by a built-in
+     * implementation or by a {@link NationalIdProvider} on the classpath.
+     *
+     * @param country the country
+     * @return true if the country is supported, false otherwise
+     */
+    public static boolean supports(final Country country) {
+        return NationalIdRegistry.supports(country);
+    }
+
+    /**
+     * Checks if National Identification Numbers can be generated for the country.
+     *
+     * @param country the country
+     * @return true if {@link #generateId(Citizen, Country)} supports the country, false otherwise
+     */
+    public static boolean supportsGeneration(final Country country) {
+        return NationalIdRegistry.supportsGeneration(country);
+    }
+
     /**
      * Validates the National Identification Number.
      *
@@ -21,8 +96,214 @@ public class Socrates {
      * @throws UnsupportedOperationException if the country is not supported
      */
     public boolean validateId(final String id, final Country country) {
-        final NationalId nationalId = NationalIdFactory.newInstance(id, country);
-        return nationalId.isValid();
+        final NationalIdValidator validator = NationalIdRegistry.getValidator(country);
+        return !nonAsciiDigitPolicy.rejects(id) && validator.isValid(id, twoDigitYearResolver);
+    }
+
+    /**
+     * Validates the National Identification Number, without allocating memory.
+     * <p>
+     * The {@code id} can be any {@link CharSequence}, e.g. a {@link String}, a {@link StringBuilder} or a
+     * {@link java.nio.CharBuffer}, and is only read, never copied.
+     *
+     * @param id the national identification number
+     * @param country the country of the national identification number
+     * @return true if the {@code id} is valid, false otherwise
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public static boolean isValid(final CharSequence id, final Country country) {
+        return NationalIdRegistry.getValidator(country).isValid(id);
+    }
+
+    /**
+     * Validates the National Identification Number in the bytes from index {@code from} (inclusive) to index
+     * {@code to} (exclusive), read as ASCII characters, without decoding them into a {@link String} and without
+     * allocating memory.
+     *
+     * @param id the bytes that contain the national identification number
+     * @param from the index of the first byte of the id
+     * @param to the index after the last byte of the id
+     * @param country the country of the national identification number
+     * @return true if the {@code id} is valid, false otherwise
+     * @throws IndexOutOfBoundsException if the range is not within the bytes
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public static boolean isValid(final byte[] id, final int from, final int to, final Country country) {
+        final NationalIdValidator validator = NationalIdRegistry.getValidator(country);
+        if (id == null) {
+            return validator.isValid(null);
+        }
+
+        final AsciiByteSequence sequence = SEQUENCES.get();
+        try {
+            return validator.isValid(sequence.wrap(id, from, to));
+        } finally {
+            sequence.clear();
+        }
+    }
+
+    /**
+     * Validates the National Identification Number in the bytes of a heap or direct buffer from index {@code from}
+     * (inclusive) to index {@code to} (exclusive), read as ASCII characters, without decoding them into a
+     * {@link String} and without allocating memory. The position of the buffer is not changed.
+     *
+     * @param id the buffer that contains the national identification number
+     * @param from the index of the first byte of the id
+     * @param to the index after the last byte of the id
+     * @param country the country of the national identification number
+     * @return true if the {@code id} is valid, false otherwise
+     * @throws IndexOutOfBoundsException if the range is not within the limit of the buffer
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public static boolean isValid(final ByteBuffer id, final int from, final int to, final Country country) {
+        final NationalIdValidator validator = NationalIdRegistry.getValidator(country);
+        if (id == null) {
+            return validator.isValid(null);
+        }
+
+        final AsciiByteSequence sequence = SEQUENCES.get();
+        try {
+            return validator.isValid(sequence.wrap(id, from, to));
+        } finally {
+            sequence.clear();
+        }
+    }
+
+    /**
+     * Validates a batch of National Identification Numbers.
+     * <p>
+     * The decimal digits that are not ASCII digits are always normalized; to reject them, use a
+     * {@link ParallelSocrates} built with {@link ParallelSocrates.Builder#nonAsciiDigitPolicy(NonAsciiDigitPolicy)}.
+     *
+     * @param ids the national identification numbers, which may contain nulls
+     * @param country the country of the national identification numbers
+     * @return a {@link BitSet} in which the bit at index {@code i} is set if {@code ids[i]} is valid
+     * @throws IllegalArgumentException if the ids are null
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public static BitSet validateAll(final CharSequence[] ids, final Country country) {
+        final BitSet valid = new BitSet(requireIds(ids).length);
+        validateAll(ids, country, valid);
+        return valid;
+    }
+
+    /**
+     * Validates a batch of National Identification Numbers, with a single lookup of the country and per-thread
+     * buffers, and counts the valid ids and the invalid ones by {@link FailureReason}.
+     * <p>
+     * The decimal digits that are not ASCII digits are always normalized; to reject them, use a
+     * {@link ParallelSocrates} built with {@link ParallelSocrates.Builder#nonAsciiDigitPolicy(NonAsciiDigitPolicy)}.
+     *
+     * @param ids the national identification numbers, which may contain nulls
+     * @param country the country of the national identification numbers
+     * @param valid where the bit at index {@code i} is set if {@code ids[i]} is valid, and cleared otherwise
+     * @return the {@link ValidationSummary}
+     * @throws IllegalArgumentException if the ids or {@code valid} are null
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public static ValidationSummary validateAll(final CharSequence[] ids, final Country country, final BitSet valid) {
+        return BatchValidation.validateAll(
+            requireIds(ids),
+            NationalIdRegistry.getValidator(country),
+            TwoDigitYearResolver.systemDefault(),
+            NonAsciiDigitPolicy.NORMALIZE,
+            requireResults(valid),
+            null
+        );
+    }
+
+    /**
+     * Validates a batch of National Identification Numbers, with a single lookup of the country and per-thread
+     * buffers, and counts the valid ids and the invalid ones by {@link FailureReason}.
+     * <p>
+     * The decimal digits that are not ASCII digits are always normalized; to reject them, use a
+     * {@link ParallelSocrates} built with {@link ParallelSocrates.Builder#nonAsciiDigitPolicy(NonAsciiDigitPolicy)}.
+     *
+     * @param ids the national identification numbers, which may contain nulls
+     * @param country the country of the national identification numbers
+     * @param valid where the element at index {@code i} is set to whether {@code ids[i]} is valid, with at least as
+     *              many elements as {@code ids}
+     * @return the {@link ValidationSummary}
+     * @throws IllegalArgumentException if the ids or {@code valid} are null, or {@code valid} is too short
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public static ValidationSummary validateAll(
+        final CharSequence[] ids,
+        final Country country,
+        final boolean[] valid
+    ) {
+        if (requireResults(valid).length < requireIds(ids).length) {
+            throw new IllegalArgumentException("The results array is shorter than the ids.");
+        }
+        return BatchValidation.validateAll(
+            ids,
+            NationalIdRegistry.getValidator(country),
+            TwoDigitYearResolver.systemDefault(),
+            NonAsciiDigitPolicy.NORMALIZE,
+            null,
+            valid
+        );
+    }
+
+    /**
+     * Validates a batch of National Identification Numbers.
+     * <p>
+     * The decimal digits that are not ASCII digits are always normalized; to reject them, use a
+     * {@link ParallelSocrates} built with {@link ParallelSocrates.Builder#nonAsciiDigitPolicy(NonAsciiDigitPolicy)}.
+     *
+     * @param ids the national identification numbers, which may contain nulls
+     * @param country the country of the national identification numbers
+     * @return a {@link BitSet} in which the bit at index {@code i} is set if the id at index {@code i} is valid
+     * @throws IllegalArgumentException if the ids are null
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public static BitSet validateAll(final List<? extends CharSequence> ids, final Country country) {
+        final BitSet valid = new BitSet(requireIds(ids).size());
+        validateAll(ids, country, valid);
+        return valid;
+    }
+
+    /**
+     * Validates a batch of National Identification Numbers, with a single lookup of the country and per-thread
+     * buffers, and counts the valid ids and the invalid ones by {@link FailureReason}.
+     * <p>
+     * The decimal digits that are not ASCII digits are always normalized; to reject them, use a
+     * {@link ParallelSocrates} built with {@link ParallelSocrates.Builder#nonAsciiDigitPolicy(NonAsciiDigitPolicy)}.
+     *
+     * @param ids the national identification numbers, which may contain nulls
+     * @param country the country of the national identification numbers
+     * @param valid where the bit at index {@code i} is set if the id at index {@code i} is valid, and cleared otherwise
+     * @return the {@link ValidationSummary}
+     * @throws IllegalArgumentException if the ids or {@code valid} are null
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public static ValidationSummary validateAll(
+        final List<? extends CharSequence> ids,
+        final Country country,
+        final BitSet valid
+    ) {
+        return BatchValidation.validateAll(
+            requireIds(ids),
+            NationalIdRegistry.getValidator(country),
+            TwoDigitYearResolver.systemDefault(),
+            NonAsciiDigitPolicy.NORMALIZE,
+            requireResults(valid),
+            null
+        );
+    }
+
+    private static <T> T requireIds(final T ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("The ids cannot be null.");
+        }
+        return ids;
+    }
+
+    private static <T> T requireResults(final T results) {
+        if (results == null) {
+            throw new IllegalArgumentException("The results cannot be null.");
+        }
+        return results;
     }
 
     /**
@@ -34,8 +315,161 @@ public class Socrates {
      * @throws UnsupportedOperationException if the country is not supported
      */
     public Optional<Citizen> extractCitizenFromId(final String id, final Country country) {
-        final NationalId nationalId = NationalIdFactory.newInstance(id, country);
-        return nationalId.extractCitizen();
+        return parse(id, country).getCitizen();
+    }
+
+    /**
+     * Validates the National Identification Numbers and extracts their citizens into columns, one primitive array per
+     * field, without creating a {@link Citizen} per id.
+     *
+     * @param ids the national identification numbers, which may contain nulls
+     * @param country the country of the national identification numbers
+     * @return the {@link CitizenColumns}, where index {@code i} has the citizen of the id at index {@code i}
+     * @throws IllegalArgumentException if the ids are null
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public CitizenColumns extractAll(final CharSequence[] ids, final Country country) {
+        return CitizenColumns.extract(requireIds(ids), country, twoDigitYearResolver, nonAsciiDigitPolicy);
+    }
+
+    /**
+     * Validates the National Identification Numbers and extracts their citizens into columns, one primitive array per
+     * field, without creating a {@link Citizen} per id.
+     *
+     * @param ids the national identification numbers, which may contain nulls
+     * @param country the country of the national identification numbers
+     * @return the {@link CitizenColumns}, where index {@code i} has the citizen of the id at index {@code i}
+     * @throws IllegalArgumentException if the ids are null
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public CitizenColumns extractAll(final List<? extends CharSequence> ids, final Country country) {
+        return CitizenColumns.extract(requireIds(ids), country, twoDigitYearResolver, nonAsciiDigitPolicy);
+    }
+
+    /**
+     * Finds the National Identification Numbers that occur more than once in a batch, once they are sanitized and,
+     * for Italy, once their omocodia substitutions are swapped back, by packing them into a primitive hash set.
+     * <p>
+     * The decimal digits that are not ASCII digits are always normalized, so the ids that only differ by them are
+     * duplicates.
+     *
+     * @param ids the national identification numbers, which may contain nulls
+     * @param country the country of the national identification numbers
+     * @return the {@link DuplicateGroups}, where the ids are referred to by their indexes
+     * @throws IllegalArgumentException if the ids are null
+     * @throws UnsupportedOperationException if the country is not supported or has no
+     *         {@link com.github.reducktion.socrates.nationalid.NationalIdCodec} layout
+     */
+    public static DuplicateGroups findDuplicates(final CharSequence[] ids, final Country country) {
+        return DuplicateGroups.find(requireIds(ids), country);
+    }
+
+    /**
+     * Finds the National Identification Numbers that occur more than once in a batch, once they are sanitized and,
+     * for Italy, once their omocodia substitutions are swapped back, by packing them into a primitive hash set.
+     * <p>
+     * The decimal digits that are not ASCII digits are always normalized, so the ids that only differ by them are
+     * duplicates.
+     *
+     * @param ids the national identification numbers, which may contain nulls
+     * @param country the country of the national identification numbers
+     * @return the {@link DuplicateGroups}, where the ids are referred to by their indexes
+     * @throws IllegalArgumentException if the ids are null
+     * @throws UnsupportedOperationException if the country is not supported or has no
+     *         {@link com.github.reducktion.socrates.nationalid.NationalIdCodec} layout
+     */
+    public static DuplicateGroups findDuplicates(final List<? extends CharSequence> ids, final Country country) {
+        return DuplicateGroups.find(requireIds(ids), country);
+    }
+
+    /**
+     * Extracts the citizen from the National Identification Number as a {@link PackedCitizen}, without allocating
+     * memory.
+     *
+     * @param id the national identification number
+     * @param country the country of the national identification number
+     * @return the packed citizen, or {@link PackedCitizen#NONE} if the {@code id} is not valid or the country does not
+     *         support extraction
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public long extractPacked(final CharSequence id, final Country country) {
+        final NationalIdValidator validator = NationalIdRegistry.getValidator(country);
+        return nonAsciiDigitPolicy.rejects(id) ? PackedCitizen.NONE : validator.parsePacked(id, twoDigitYearResolver);
+    }
+
+    /**
+     * Extracts the citizen from the National Identification Number in the bytes from index {@code from} (inclusive) to
+     * index {@code to} (exclusive), read as ASCII characters, as a {@link PackedCitizen}, without allocating memory.
+     *
+     * @param id the bytes that contain the national identification number
+     * @param from the index of the first byte of the id
+     * @param to the index after the last byte of the id
+     * @param country the country of the national identification number
+     * @return the packed citizen, or {@link PackedCitizen#NONE} if the {@code id} is not valid or the country does not
+     *         support extraction
+     * @throws IndexOutOfBoundsException if the range is not within the bytes
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public long extractPacked(final byte[] id, final int from, final int to, final Country country) {
+        final NationalIdValidator validator = NationalIdRegistry.getValidator(country);
+        if (id == null) {
+            return validator.parsePacked(null, twoDigitYearResolver);
+        }
+
+        final AsciiByteSequence sequence = SEQUENCES.get();
+        try {
+            return validator.parsePacked(sequence.wrap(id, from, to), twoDigitYearResolver);
+        } finally {
+            sequence.clear();
+        }
+    }
+
+    /**
+     * Extracts the citizen from the National Identification Number in the bytes of a heap or direct buffer from index
+     * {@code from} (inclusive) to index {@code to} (exclusive), read as ASCII characters, as a {@link PackedCitizen},
+     * without allocating memory. The position of the buffer is not changed.
+     *
+     * @param id the buffer that contains the national identification number
+     * @param from the index of the first byte of the id
+     * @param to the index after the last byte of the id
+     * @param country the country of the national identification number
+     * @return the packed citizen, or {@link PackedCitizen#NONE} if the {@code id} is not valid or the country does not
+     *         support extraction
+     * @throws IndexOutOfBoundsException if the range is not within the limit of the buffer
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public long extractPacked(final ByteBuffer id, final int from, final int to, final Country country) {
+        final NationalIdValidator validator = NationalIdRegistry.getValidator(country);
+        if (id == null) {
+            return validator.parsePacked(null, twoDigitYearResolver);
+        }
+
+        final AsciiByteSequence sequence = SEQUENCES.get();
+        try {
+            return validator.parsePacked(sequence.wrap(id, from, to), twoDigitYearResolver);
+        } finally {
+            sequence.clear();
+        }
+    }
+
+    /**
+     * Validates the National Identification Number and extracts the {@link Citizen} from it, in a single pass.
+     * <p>
+     * Use it instead of {@link #validateId(String, Country)} followed by
+     * {@link #extractCitizenFromId(String, Country)}, which validates the id twice.
+     *
+     * @param id the national identification number
+     * @param country the country of the national identification number
+     * @return the {@link ParseResult}, with the reason why the {@code id} is not valid, or the {@link Citizen} if the
+     *         {@code id} is valid and the country supports extraction
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public ParseResult parse(final CharSequence id, final Country country) {
+        final NationalIdValidator validator = NationalIdRegistry.getValidator(country);
+        if (nonAsciiDigitPolicy.rejects(id)) {
+            return ParseResult.invalid(FailureReason.INVALID_CHARACTERS);
+        }
+        return validator.parse(id, twoDigitYearResolver);
     }
 
     /**
@@ -47,7 +481,7 @@ public class Socrates {
      * @throws UnsupportedOperationException if the country is not supported
      */
     public String generateId(final Citizen citizen, final Country country) {
-        final NationalIdGenerator nationalIdGenerator = NationalIdGeneratorFactory.newInstance(country);
+        final NationalIdGenerator nationalIdGenerator = NationalIdRegistry.getGenerator(country);
         return nationalIdGenerator.generate(citizen);
     }
 }
@@ -0,0 +1,94 @@
+package com.github.reducktion.socrates;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Resolves a year (e.g. 1999), given its last two digits (e.g. 99).
+ * <p>
+ * It has a range of 100 years, ending on the year before the current one, meaning that in 2020 the digits 20 will
+ * result in 1920 and the digits 19 will result in 2019.
+ * <p>
+ * The current year is read from a {@link Clock} and cached until the year rolls over, so resolving a year is just
+ * arithmetic. Instances are thread-safe and meant to be shared; {@link #systemDefault()} returns the one that uses the
+ * system clock.
+ */
+public final class TwoDigitYearResolver {
+
+    private static final TwoDigitYearResolver SYSTEM_DEFAULT = new TwoDigitYearResolver(Clock.systemDefaultZone());
+
+    private final Clock clock;
+    private volatile Window window;
+
+    public TwoDigitYearResolver(final Clock clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("The clock cannot be null.");
+        }
+        this.clock = clock;
+        window = new Window(clock.getZone(), LocalDate.now(clock).getYear());
+    }
+
+    /**
+     * Returns the resolver that uses the system clock, in the default time-zone.
+     *
+     * @return the shared {@link TwoDigitYearResolver}
+     */
+    public static TwoDigitYearResolver systemDefault() {
+        return SYSTEM_DEFAULT;
+    }
+
+    /**
+     * Returns the year, given its last two digits, without allocating memory (except once a year, when the year rolls
+     * over).
+     *
+     * @param yearLastTwoDigits the last two digits of the year, from 0 to 99
+     * @return the respective year
+     * @throws IllegalArgumentException if {@code yearLastTwoDigits} is not between 0 and 99
+     */
+    public int resolve(final int yearLastTwoDigits) {
+        if (yearLastTwoDigits < 0 || yearLastTwoDigits > 99) {
+            throw new IllegalArgumentException("The last two digits of the year must be between 0 and 99.");
+        }
+
+        final int firstYear = currentWindow().firstYear;
+        final int year = firstYear - firstYear % 100 + yearLastTwoDigits;
+        return year < firstYear ? year + 100 : year;
+    }
+
+    private Window currentWindow() {
+        final Window currentWindow = window;
+        final long now = clock.millis();
+        if (currentWindow.contains(now)) {
+            return currentWindow;
+        }
+
+        final Window newWindow = new Window(clock.getZone(), LocalDate.now(clock).getYear());
+        window = newWindow;
+        return newWindow;
+    }
+
+    /**
+     * The range of years for a current year, along with the instants during which that year is the current one.
+     */
+    private static final class Window {
+
+        private final int firstYear;
+        private final long startMillis;
+        private final long endMillis;
+
+        private Window(final ZoneId zone, final int currentYear) {
+            firstYear = currentYear - 100;
+            startMillis = toEpochMilli(zone, currentYear);
+            endMillis = toEpochMilli(zone, currentYear + 1);
+        }
+
+        private static long toEpochMilli(final ZoneId zone, final int year) {
+            return LocalDate.of(year, 1, 1).atStartOfDay(zone).toInstant().toEpochMilli();
+        }
+
+        private boolean contains(final long epochMilli) {
+            return epochMilli >= startMillis && epochMilli < endMillis;
+        }
+    }
+}
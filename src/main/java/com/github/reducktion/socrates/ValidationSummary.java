@@ -0,0 +1,92 @@
+package com.github.reducktion.socrates;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Class that represents the aggregate counts of validating a batch of National Identification Numbers: how many ids
+ * were valid and, for the invalid ones, how many failed for each {@link FailureReason}.
+ */
+public final class ValidationSummary {
+
+    private final long validCount;
+    private final long[] failureCounts;
+
+    ValidationSummary(final long validCount, final long[] failureCounts) {
+        this.validCount = validCount;
+        this.failureCounts = failureCounts.clone();
+    }
+
+    public long getTotalCount() {
+        return validCount + getInvalidCount();
+    }
+
+    public long getValidCount() {
+        return validCount;
+    }
+
+    public long getInvalidCount() {
+        long invalidCount = 0;
+        for (final long failureCount : failureCounts) {
+            invalidCount += failureCount;
+        }
+        return invalidCount;
+    }
+
+    /**
+     * Returns the number of ids that were not valid for the {@code failureReason}.
+     *
+     * @param failureReason the {@link FailureReason}
+     * @return the number of ids
+     * @throws IllegalArgumentException if the failure reason is null
+     */
+    public long getFailureCount(final FailureReason failureReason) {
+        if (failureReason == null) {
+            throw new IllegalArgumentException("The failure reason cannot be null.");
+        }
+        return failureCounts[failureReason.ordinal()];
+    }
+
+    /**
+     * Returns the number of invalid ids for each {@link FailureReason}, including the ones without invalid ids.
+     *
+     * @return a new {@link Map} with the counts
+     */
+    public Map<FailureReason, Long> getFailureCounts() {
+        final Map<FailureReason, Long> counts = new EnumMap<>(FailureReason.class);
+        for (final FailureReason failureReason : FailureReason.values()) {
+            counts.put(failureReason, failureCounts[failureReason.ordinal()]);
+        }
+        return counts;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final ValidationSummary other = (ValidationSummary) obj;
+
+        return validCount == other.validCount
+            && Arrays.equals(failureCounts, other.failureCounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(validCount) + Arrays.hashCode(failureCounts);
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationSummary{"
+            + "validCount=" + validCount
+            + ", failureCounts=" + getFailureCounts()
+            + '}';
+    }
+}
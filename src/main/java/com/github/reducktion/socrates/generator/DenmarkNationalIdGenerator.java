@@ -2,6 +2,7 @@ package com.github.reducktion.socrates.generator;
 
 import com.github.reducktion.socrates.Citizen;
 import com.github.reducktion.socrates.Gender;
+import com.github.reducktion.socrates.internal.AsciiDigits;
 
 /**
  * Generates a new CPR for the provided information
@@ -10,7 +11,10 @@ import com.github.reducktion.socrates.Gender;
  *  * https://en.wikipedia.org/wiki/Personal_identification_number_(Denmark)
  *  * https://da.wikipedia.org/wiki/CPR-nummer
  */
-class DenmarkNationalIdGenerator implements NationalIdGenerator {
+final class DenmarkNationalIdGenerator implements NationalIdGenerator {
+
+    static final DenmarkNationalIdGenerator INSTANCE = new DenmarkNationalIdGenerator();
+
     private static final int[] MULTIPLIERS = { 4, 3, 2, 7, 6, 5, 4, 3, 2, 1 };
 
     @Override
@@ -63,7 +67,7 @@ class DenmarkNationalIdGenerator implements NationalIdGenerator {
     private static int calculateCheckSum(final String cpr) {
         int sum = 0;
         for (int i = 0; i < cpr.length() && i < MULTIPLIERS.length; i++) {
-            final int digit = Character.getNumericValue(cpr.charAt(i));
+            final int digit = AsciiDigits.toDigit(cpr.charAt(i));
             sum += digit * MULTIPLIERS[i];
         }
         return sum;
@@ -1,20 +1,41 @@
 package com.github.reducktion.socrates.generator;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 import com.github.reducktion.socrates.Country;
 
 public final class NationalIdGeneratorFactory {
 
+    private static final Map<Country, NationalIdGenerator> GENERATORS = new EnumMap<>(Country.class);
+
+    static {
+        GENERATORS.put(Country.DK, DenmarkNationalIdGenerator.INSTANCE);
+    }
+
     private NationalIdGeneratorFactory() {}
 
     /**
-     * Returns a new instance of {@link NationalIdGenerator}, that is specific for the country parameter.
+     * Returns the {@link NationalIdGenerator} that is specific for the country parameter. The generator is a shared,
+     * stateless instance.
      *
      * @throws UnsupportedOperationException if the country is not supported
      */
     public static NationalIdGenerator newInstance(final Country country) {
-        switch (country) {
-            case DK: return new DenmarkNationalIdGenerator();
-            default: throw new UnsupportedOperationException("Country not supported.");
+        final NationalIdGenerator generator = country == null ? null : GENERATORS.get(country);
+        if (generator == null) {
+            throw new UnsupportedOperationException("Country not supported.");
         }
+        return generator;
+    }
+
+    /**
+     * Checks if there is a built-in {@link NationalIdGenerator} for the country parameter.
+     *
+     * @param country the {@link Country}
+     * @return true if the country is supported, false otherwise
+     */
+    public static boolean supports(final Country country) {
+        return country != null && GENERATORS.containsKey(country);
     }
 }
@@ -0,0 +1,101 @@
+package com.github.reducktion.socrates.internal;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reusable {@link CharSequence} view of a range of ASCII bytes of a {@link ByteBuffer} or of a {@code byte[]}, e.g. a
+ * record of a memory-mapped file or a field of a binary message, so that it can be validated in place, without
+ * decoding it into a {@link String}.
+ * <p>
+ * Each byte is one character, so bytes outside the ASCII range become characters that no national id accepts. The
+ * bytes of a buffer are read with absolute gets, so the position of the buffer is never changed. It is not
+ * thread-safe.
+ */
+public final class AsciiByteSequence implements CharSequence {
+
+    private ByteBuffer buffer;
+    private byte[] bytes;
+    private int start;
+    private int length;
+
+    /**
+     * Makes this instance a view of the bytes of {@code buffer} from index {@code start} (inclusive) to index
+     * {@code end} (exclusive). The buffer can be a heap or a direct buffer.
+     *
+     * @param buffer the buffer
+     * @param start the index of the first byte
+     * @param end the index after the last byte
+     * @return this instance
+     * @throws IndexOutOfBoundsException if the range is not within the limit of the buffer
+     */
+    public AsciiByteSequence wrap(final ByteBuffer buffer, final int start, final int end) {
+        checkRange(start, end, buffer.limit());
+        this.buffer = buffer;
+        bytes = null;
+        this.start = start;
+        length = end - start;
+        return this;
+    }
+
+    /**
+     * Makes this instance a view of the bytes of {@code bytes} from index {@code start} (inclusive) to index
+     * {@code end} (exclusive).
+     *
+     * @param bytes the bytes
+     * @param start the index of the first byte
+     * @param end the index after the last byte
+     * @return this instance
+     * @throws IndexOutOfBoundsException if the range is not within the bytes
+     */
+    public AsciiByteSequence wrap(final byte[] bytes, final int start, final int end) {
+        checkRange(start, end, bytes.length);
+        buffer = null;
+        this.bytes = bytes;
+        this.start = start;
+        length = end - start;
+        return this;
+    }
+
+    private static void checkRange(final int start, final int end, final int limit) {
+        if (start < 0 || end > limit || start > end) {
+            throw new IndexOutOfBoundsException("Range: [" + start + ", " + end + "), limit: " + limit);
+        }
+    }
+
+    /**
+     * Releases the buffer or the bytes, so that they are not retained by this instance.
+     */
+    public void clear() {
+        buffer = null;
+        bytes = null;
+        start = 0;
+        length = 0;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", length: " + length);
+        }
+        return (char) ((bytes != null ? bytes[start + index] : buffer.get(start + index)) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return toString().substring(start, end);
+    }
+
+    @Override
+    public String toString() {
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = charAt(i);
+        }
+        return new String(chars);
+    }
+}
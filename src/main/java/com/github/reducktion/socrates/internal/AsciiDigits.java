@@ -0,0 +1,108 @@
+package com.github.reducktion.socrates.internal;
+
+import java.util.Arrays;
+
+/**
+ * Decodes ASCII digits and letters, which are the only characters that the national ids are validated against.
+ * <p>
+ * Unlike {@link Character#digit(char, int)} and {@link Character#getNumericValue(char)}, which look up the Unicode
+ * tables and accept any Unicode digit, a digit is decoded with one subtraction and one unsigned comparison, and a
+ * letter with one lookup in a table of the 128 ASCII characters. Other digits, e.g. Arabic-Indic or full-width ones,
+ * are normalized to ASCII digits when the id is sanitized, unless the
+ * {@link com.github.reducktion.socrates.NonAsciiDigitPolicy} of the caller rejects them beforehand.
+ */
+public final class AsciiDigits {
+
+    /**
+     * The value returned when a character is not an ASCII digit, or not an ASCII digit or letter.
+     */
+    public static final int INVALID = -1;
+
+    private static final int RADIX = 36;
+
+    // the value of each ASCII digit and letter, in upper or lower case, in base 36, or -1
+    private static final byte[] ALPHANUMERIC_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(ALPHANUMERIC_VALUES, (byte) INVALID);
+        for (int value = 0; value < RADIX; value++) {
+            final char c = Character.forDigit(value, RADIX);
+            ALPHANUMERIC_VALUES[c] = (byte) value;
+            ALPHANUMERIC_VALUES[Character.toUpperCase(c)] = (byte) value;
+        }
+    }
+
+    private AsciiDigits() {}
+
+    /**
+     * Decodes an ASCII digit.
+     *
+     * @param c the character
+     * @return the digit, from 0 to 9, or {@link #INVALID} if the character is not an ASCII digit
+     */
+    public static int toDigit(final char c) {
+        // the subtraction wraps around for the characters before '0', so a single comparison is enough
+        final char digit = (char) (c - '0');
+        return digit <= 9 ? digit : INVALID;
+    }
+
+    /**
+     * Decodes an ASCII digit or letter, in base 36.
+     *
+     * @param c the character
+     * @return the value, from 0 to 9 for the digits and from 10 to 35 for the letters "A" to "Z" in upper or lower
+     *         case, or {@link #INVALID} if the character is not an ASCII digit or letter
+     */
+    public static int toAlphanumeric(final char c) {
+        return c < ALPHANUMERIC_VALUES.length ? ALPHANUMERIC_VALUES[c] : INVALID;
+    }
+
+    /**
+     * Checks if every character from index {@code from} (inclusive) to index {@code to} (exclusive) is an ASCII digit.
+     *
+     * @param cs the characters
+     * @param from the index of the first character
+     * @param to the index after the last character
+     * @return true if they are all ASCII digits, false otherwise
+     */
+    public static boolean isNumeric(final CharSequence cs, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            if (toDigit(cs.charAt(i)) == INVALID) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes the number from index {@code from} (inclusive) to index {@code to} (exclusive).
+     *
+     * @param cs the characters, which must be ASCII digits in the range
+     * @param from the index of the first digit
+     * @param to the index after the last digit, with at most nine digits in the range
+     * @return the number
+     */
+    public static int toInt(final CharSequence cs, final int from, final int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            value = value * 10 + cs.charAt(i) - '0';
+        }
+        return value;
+    }
+
+    /**
+     * Decodes the number from index {@code from} (inclusive) to index {@code to} (exclusive).
+     *
+     * @param cs the characters, which must be ASCII digits in the range
+     * @param from the index of the first digit
+     * @param to the index after the last digit, with at most eighteen digits in the range
+     * @return the number
+     */
+    public static long toLong(final CharSequence cs, final int from, final int to) {
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            value = value * 10 + cs.charAt(i) - '0';
+        }
+        return value;
+    }
+}
@@ -0,0 +1,146 @@
+package com.github.reducktion.socrates.internal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Immutable set of words of four upper case ASCII letters (e.g. the inappropriate words of the Mexican CURP), which
+ * finds them in a text in a single pass, without allocating memory.
+ * <p>
+ * Every word of four letters has a perfect hash, its value in base 26 (from 0 for "AAAA" to 26^4 - 1 for "ZZZZ"), so
+ * the set is a bitmap with one bit per possible word. Finding the words in a text keeps the hash of the last four
+ * letters while scanning it, so its cost does not depend on the number of words in the set.
+ */
+public final class FourLetterWords {
+
+    private static final int WORD_LENGTH = 4;
+    private static final int LETTERS = 26;
+    private static final int WORD_COUNT = LETTERS * LETTERS * LETTERS * LETTERS;
+    private static final char COMMENT_CHARACTER = '#';
+
+    private final long[] bitmap = new long[(WORD_COUNT + Long.SIZE - 1) / Long.SIZE];
+
+    private FourLetterWords() {}
+
+    /**
+     * Creates the set from the given words.
+     *
+     * @param words the words of four upper case ASCII letters
+     * @return the {@link FourLetterWords}
+     * @throws IllegalArgumentException if any of the words does not have four upper case ASCII letters
+     */
+    public static FourLetterWords of(final String... words) {
+        final FourLetterWords fourLetterWords = new FourLetterWords();
+        for (final String word : words) {
+            fourLetterWords.add(word);
+        }
+        return fourLetterWords;
+    }
+
+    /**
+     * Creates the set from a classpath resource, encoded in UTF-8, with one word per line. Blank lines and lines that
+     * start with {@code #} are ignored.
+     *
+     * @param resource the name of the resource, e.g. "/mexico_inappropriate_words.txt"
+     * @return the {@link FourLetterWords}
+     * @throws IllegalStateException if the resource is not found
+     * @throws IllegalArgumentException if any of the words does not have four upper case ASCII letters
+     */
+    public static FourLetterWords fromResource(final String resource) {
+        final FourLetterWords fourLetterWords = new FourLetterWords();
+
+        try (
+            final InputStream inputStream = FourLetterWords.class.getResourceAsStream(resource);
+            final BufferedReader bufferedReader = new BufferedReader(
+                new InputStreamReader(requireResource(inputStream, resource), StandardCharsets.UTF_8)
+            )
+        ) {
+            String line;
+            while ((line = bufferedReader.readLine()) != null) {
+                final String word = line.trim();
+                if (!word.isEmpty() && word.charAt(0) != COMMENT_CHARACTER) {
+                    fourLetterWords.add(word);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Could not read " + resource, e);
+        }
+
+        return fourLetterWords;
+    }
+
+    private static InputStream requireResource(final InputStream inputStream, final String resource) {
+        if (inputStream == null) {
+            throw new IllegalStateException("Resource " + resource + " not found on the classpath");
+        }
+        return inputStream;
+    }
+
+    private void add(final String word) {
+        final int hash = word == null || word.length() != WORD_LENGTH ? -1 : hash(word, 0);
+        if (hash < 0) {
+            throw new IllegalArgumentException("The word must have four upper case ASCII letters, but was " + word);
+        }
+        bitmap[hash >>> 6] |= 1L << hash;
+    }
+
+    /**
+     * Checks if the word at {@code index} of the text is in the set.
+     *
+     * @param text the text
+     * @param index the index of the first letter of the word
+     * @return true if the four characters from {@code index} are one of the words, false otherwise
+     * @throws IndexOutOfBoundsException if the text has less than four characters from {@code index}
+     */
+    public boolean containsAt(final CharSequence text, final int index) {
+        final int hash = hash(text, index);
+        return hash >= 0 && isSet(hash);
+    }
+
+    /**
+     * Checks if any of the words occurs in the text, in a single pass.
+     *
+     * @param text the text
+     * @return true if any four consecutive characters of the text are one of the words, false otherwise
+     */
+    public boolean occursIn(final CharSequence text) {
+        int hash = 0;
+        int letterCount = 0;
+
+        for (int i = 0; i < text.length(); i++) {
+            final int letter = text.charAt(i) - 'A';
+            if (letter < 0 || letter >= LETTERS) {
+                letterCount = 0;
+                continue;
+            }
+
+            // drops the first letter of the previous four
+            hash = hash * LETTERS % WORD_COUNT + letter;
+            if (++letterCount >= WORD_LENGTH && isSet(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isSet(final int hash) {
+        return (bitmap[hash >>> 6] & 1L << hash) != 0;
+    }
+
+    // returns -1 if any of the characters is not an upper case ASCII letter
+    private static int hash(final CharSequence text, final int index) {
+        int hash = 0;
+        for (int i = index; i < index + WORD_LENGTH; i++) {
+            final int letter = text.charAt(i) - 'A';
+            if (letter < 0 || letter >= LETTERS) {
+                return -1;
+            }
+            hash = hash * LETTERS + letter;
+        }
+        return hash;
+    }
+}
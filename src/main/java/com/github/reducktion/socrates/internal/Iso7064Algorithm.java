@@ -0,0 +1,173 @@
+package com.github.reducktion.socrates.internal;
+
+/**
+ * Implementation of the ISO/IEC 7064 check character systems for numeric strings: the pure systems MOD 11-2 and
+ * MOD 97-10, and the hybrid system MOD 11,10, which is the one of the German tax identification number.
+ * <p>
+ * The digits are read straight from the {@link CharSequence}, keeping the check value so far, so nothing is
+ * allocated. The check values are returned as {@code int}s: MOD 11-2 has the check value 10, which is written as the
+ * character 'X'.
+ * <p>
+ * Source: https://en.wikipedia.org/wiki/ISO/IEC_7064
+ */
+public final class Iso7064Algorithm {
+
+    /**
+     * The value returned when the characters are not all ASCII digits.
+     */
+    public static final int INVALID = -1;
+
+    private static final int MOD_11_RADIX_2_CHECK_VALUE_X = 10;
+
+    private Iso7064Algorithm() {}
+
+    /**
+     * Computes the MOD 11-2 check value of the digits from index {@code from} (inclusive) to index {@code to}
+     * (exclusive).
+     *
+     * @param digits the characters of the number
+     * @param from the index of the first digit
+     * @param to the index after the last digit
+     * @return the check value, from 0 to 10, where 10 is written as 'X', or {@link #INVALID} if any of the characters
+     *         is not an ASCII digit
+     */
+    public static int computeMod11Radix2(final CharSequence digits, final int from, final int to) {
+        int product = 0;
+        for (int i = from; i < to; i++) {
+            final int digit = AsciiDigits.toDigit(digits.charAt(i));
+            if (digit < 0) {
+                return INVALID;
+            }
+            product = (product + digit) * 2 % 11;
+        }
+        return (12 - product) % 11;
+    }
+
+    /**
+     * Computes the MOD 11-2 check value of each number, where each number is all the characters of its
+     * {@link CharSequence}.
+     *
+     * @param numbers the numbers, which may contain nulls
+     * @param checkValues where to store the check value of the number at index {@code i}, or {@link #INVALID} if it
+     *        is null or not numeric, with at least as many elements as {@code numbers}
+     */
+    public static void computeMod11Radix2All(final CharSequence[] numbers, final int[] checkValues) {
+        for (int i = 0; i < numbers.length; i++) {
+            checkValues[i] = numbers[i] == null ? INVALID : computeMod11Radix2(numbers[i], 0, numbers[i].length());
+        }
+    }
+
+    /**
+     * Validates the MOD 11-2 check character, which is the last character of the range.
+     *
+     * @param id the id to be validated
+     * @param from the index of the first digit
+     * @param to the index after the check character
+     * @return true if the check character is valid, false otherwise
+     */
+    public static boolean validateMod11Radix2(final CharSequence id, final int from, final int to) {
+        if (to <= from) {
+            return false;
+        }
+        final char checkCharacter = id.charAt(to - 1);
+        final int checkValue = checkCharacter == 'X'
+            ? MOD_11_RADIX_2_CHECK_VALUE_X
+            : AsciiDigits.toDigit(checkCharacter);
+        return checkValue >= 0 && checkValue == computeMod11Radix2(id, from, to - 1);
+    }
+
+    /**
+     * Computes the MOD 97-10 check value of the digits from index {@code from} (inclusive) to index {@code to}
+     * (exclusive), which is written as two digits.
+     *
+     * @param digits the characters of the number
+     * @param from the index of the first digit
+     * @param to the index after the last digit
+     * @return the check value, from 2 to 98, or {@link #INVALID} if any of the characters is not an ASCII digit
+     */
+    public static int computeMod97Radix10(final CharSequence digits, final int from, final int to) {
+        final int remainder = Mod97Algorithm.remainder(digits, from, to);
+        return remainder == Mod97Algorithm.INVALID ? INVALID : 98 - remainder * 100 % 97;
+    }
+
+    /**
+     * Computes the MOD 97-10 check value of each number, where each number is all the characters of its
+     * {@link CharSequence}.
+     *
+     * @param numbers the numbers, which may contain nulls
+     * @param checkValues where to store the check value of the number at index {@code i}, or {@link #INVALID} if it
+     *        is null or not numeric, with at least as many elements as {@code numbers}
+     */
+    public static void computeMod97Radix10All(final CharSequence[] numbers, final int[] checkValues) {
+        for (int i = 0; i < numbers.length; i++) {
+            checkValues[i] = numbers[i] == null ? INVALID : computeMod97Radix10(numbers[i], 0, numbers[i].length());
+        }
+    }
+
+    /**
+     * Validates the MOD 97-10 check digits, which are the last two characters of the range.
+     *
+     * @param id the id to be validated
+     * @param from the index of the first digit
+     * @param to the index after the check digits
+     * @return true if the check digits are valid, false otherwise
+     */
+    public static boolean validateMod97Radix10(final CharSequence id, final int from, final int to) {
+        return to - from > 2 && Mod97Algorithm.remainder(id, from, to) == 1;
+    }
+
+    /**
+     * Computes the MOD 11,10 check digit of the digits from index {@code from} (inclusive) to index {@code to}
+     * (exclusive).
+     *
+     * @param digits the characters of the number
+     * @param from the index of the first digit
+     * @param to the index after the last digit
+     * @return the check digit, from 0 to 9, or {@link #INVALID} if any of the characters is not an ASCII digit
+     */
+    public static int computeMod11Mod10(final CharSequence digits, final int from, final int to) {
+        int product = 10;
+        for (int i = from; i < to; i++) {
+            final int digit = AsciiDigits.toDigit(digits.charAt(i));
+            if (digit < 0) {
+                return INVALID;
+            }
+            int sum = (product + digit) % 10;
+            if (sum == 0) {
+                sum = 10;
+            }
+            product = sum * 2 % 11;
+        }
+        return (11 - product) % 10;
+    }
+
+    /**
+     * Computes the MOD 11,10 check digit of each number, where each number is all the characters of its
+     * {@link CharSequence}.
+     *
+     * @param numbers the numbers, which may contain nulls
+     * @param checkDigits where to store the check digit of the number at index {@code i}, or {@link #INVALID} if it
+     *        is null or not numeric, with at least as many elements as {@code numbers}
+     */
+    public static void computeMod11Mod10All(final CharSequence[] numbers, final int[] checkDigits) {
+        for (int i = 0; i < numbers.length; i++) {
+            checkDigits[i] = numbers[i] == null ? INVALID : computeMod11Mod10(numbers[i], 0, numbers[i].length());
+        }
+    }
+
+    /**
+     * Validates the MOD 11,10 check digit, which is the last character of the range.
+     *
+     * @param id the id to be validated
+     * @param from the index of the first digit
+     * @param to the index after the check digit
+     * @return true if the check digit is valid, false otherwise
+     */
+    public static boolean validateMod11Mod10(final CharSequence id, final int from, final int to) {
+        if (to <= from) {
+            return false;
+        }
+        final int checkDigit = AsciiDigits.toDigit(id.charAt(to - 1));
+        return checkDigit >= 0 && checkDigit == computeMod11Mod10(id, from, to - 1);
+    }
+}
@@ -1,5 +1,7 @@
 package com.github.reducktion.socrates.internal;
 
+import java.util.Arrays;
+
 /**
  * When the alphanumeric expression relating to the first fifteen characters of the code is common to two or more
  * subjects, it is differentiated for each of the subjects following the first coded subject.
@@ -13,33 +15,52 @@ package com.github.reducktion.socrates.internal;
 public final class ItalyOmocodiaSwapper {
 
     private static final int ID_NUMBER_OF_CHARACTERS = 16;
-    private static final int[] NUMERICAL_CHARACTER_POSITIONS = {6, 7, 9, 10, 12, 13, 14};
     private static final String NUMERICAL_CHARACTER_SUBSTITUTIONS = "LMNPQRSTUV";
+    private static final int NUMERICAL_CHARACTER_POSITIONS_MASK = 0b111_0110_1100_0000;
+
+    // the digit of each ASCII character at a numerical position, or -1 if it is neither a digit nor a substitution
+    private static final byte[] DIGITS = new byte[128];
+
+    static {
+        Arrays.fill(DIGITS, (byte) -1);
+        for (int digit = 0; digit <= 9; digit++) {
+            DIGITS['0' + digit] = (byte) digit;
+            DIGITS[NUMERICAL_CHARACTER_SUBSTITUTIONS.charAt(digit)] = (byte) digit;
+        }
+    }
 
     private ItalyOmocodiaSwapper() {}
 
     /**
-     * Swaps characters according to the algorithm for Italy.
-     * <p>
-     * <b>Note:</b> The {@code id} must not contain spaces or other special characters and the alpha characters must be
-     * upper case.
+     * Checks if the character at {@code index} of the id is one of the seven numerical characters, which may have
+     * been swapped.
      *
-     * @param id the identification number
-     * @return the identification number with the characters swapped or {@code id} if the {@code id} is either null or
-     *         does not have 16 characters
+     * @param index the index of the character
+     * @return true if it is a numerical character, false otherwise
      */
-    public static String swap(final String id) {
-        if (id == null || id.length() != ID_NUMBER_OF_CHARACTERS) {
-            return id;
-        }
+    public static boolean isNumericalCharacterPosition(final int index) {
+        return index >= 0 && index < ID_NUMBER_OF_CHARACTERS && (NUMERICAL_CHARACTER_POSITIONS_MASK >>> index & 1) != 0;
+    }
 
-        final char[] idCharArray = id.toCharArray();
+    /**
+     * Returns the digit of a numerical character, which is either the digit itself or the letter it was swapped with,
+     * with a table lookup.
+     *
+     * @param character the numerical character
+     * @return the digit, from 0 to 9, or -1 if the character is neither a digit nor one of the letters "LMNPQRSTUV"
+     */
+    public static int toDigit(final char character) {
+        return character < DIGITS.length ? DIGITS[character] : -1;
+    }
 
-        for (final int i : NUMERICAL_CHARACTER_POSITIONS) {
-            if (Character.isAlphabetic(idCharArray[i])) {
-                idCharArray[i] = (char) (NUMERICAL_CHARACTER_SUBSTITUTIONS.indexOf(idCharArray[i]) + '0');
-            }
-        }
-        return String.valueOf(idCharArray);
+    /**
+     * Returns the letter that a digit is swapped with.
+     *
+     * @param digit the digit, from 0 to 9
+     * @return the letter, one of "LMNPQRSTUV"
+     * @throws IndexOutOfBoundsException if the digit is not between 0 and 9
+     */
+    public static char toLetter(final int digit) {
+        return NUMERICAL_CHARACTER_SUBSTITUTIONS.charAt(digit);
     }
 }
@@ -0,0 +1,152 @@
+package com.github.reducktion.socrates.internal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Index of the Italian places of birth, keyed by their cadastral code (codice Belfiore).
+ * <p>
+ * A cadastral code is one letter followed by three digits (e.g. "F205" for Milano), so the table is stored in an
+ * array with one slot per possible code, which gives constant-time lookups. The table is read once from the
+ * {@code italy_regions.csv} classpath resource, the first time this class is used, and shared afterwards.
+ * <p>
+ * The index of a cadastral code in that array (from 0 for "A000" to 25999 for "Z999") identifies the place of birth in
+ * a packed citizen.
+ */
+public final class ItalyRegions {
+
+    private static final String REGIONS_RESOURCE = "/italy_regions.csv";
+    private static final int CODE_LENGTH = 4;
+    private static final int CODES_PER_LETTER = 1000;
+    private static final String[] REGIONS = loadRegions();
+    private static final Map<String, Integer> INDEXES_BY_REGION = indexRegions();
+
+    private ItalyRegions() {}
+
+    /**
+     * Returns the place of birth for the cadastral code.
+     *
+     * @param code the cadastral code, e.g. "F205"
+     * @return the place of birth, e.g. "MILANO (MI)", or null if the code is unknown or malformed
+     */
+    public static String getRegionByCode(final CharSequence code) {
+        if (code == null || code.length() != CODE_LENGTH) {
+            return null;
+        }
+
+        final int index = indexOf(code);
+        return index < 0 ? null : REGIONS[index];
+    }
+
+    /**
+     * Returns the place of birth for the cadastral code, given its letter and its number.
+     *
+     * @param letter the letter of the cadastral code, e.g. 'F'
+     * @param number the number of the cadastral code, e.g. 205
+     * @return the place of birth, e.g. "MILANO (MI)", or null if the code is unknown or malformed
+     */
+    public static String getRegionByCode(final char letter, final int number) {
+        return getRegionByIndex(indexOfCode(letter, number));
+    }
+
+    /**
+     * Returns the place of birth for the index of its cadastral code.
+     *
+     * @param index the index of the cadastral code, e.g. 5205 for "F205"
+     * @return the place of birth, e.g. "MILANO (MI)", or null if the index is unknown or out of range
+     */
+    public static String getRegionByIndex(final int index) {
+        return index < 0 || index >= REGIONS.length ? null : REGIONS[index];
+    }
+
+    /**
+     * Returns the index of a cadastral code, given its letter and its number, whether the code is known or not.
+     *
+     * @param letter the letter of the cadastral code, e.g. 'F'
+     * @param number the number of the cadastral code, e.g. 205
+     * @return the index of the cadastral code, e.g. 5205, or -1 if the code is malformed
+     */
+    public static int indexOfCode(final char letter, final int number) {
+        if (letter < 'A' || letter > 'Z' || number < 0 || number >= CODES_PER_LETTER) {
+            return -1;
+        }
+        return (letter - 'A') * CODES_PER_LETTER + number;
+    }
+
+    /**
+     * Returns the index of the cadastral code of a place of birth.
+     *
+     * @param region the place of birth, e.g. "MILANO (MI)", may be null
+     * @return the index of its cadastral code, e.g. 5205, or -1 if the place of birth is unknown
+     */
+    public static int indexOfRegion(final String region) {
+        final Integer index = region == null ? null : INDEXES_BY_REGION.get(region);
+        return index == null ? -1 : index;
+    }
+
+    private static int indexOf(final CharSequence code) {
+        final char letter = code.charAt(0);
+        if (letter < 'A' || letter > 'Z') {
+            return -1;
+        }
+
+        int index = letter - 'A';
+        for (int i = 1; i < CODE_LENGTH; i++) {
+            final int digit = AsciiDigits.toDigit(code.charAt(i));
+            if (digit < 0) {
+                return -1;
+            }
+            index = index * 10 + digit;
+        }
+        return index;
+    }
+
+    private static String[] loadRegions() {
+        final String[] regions = new String[('Z' - 'A' + 1) * CODES_PER_LETTER];
+
+        try (
+            final InputStream inputStream = ItalyRegions.class.getResourceAsStream(REGIONS_RESOURCE);
+            final BufferedReader bufferedReader =
+                new BufferedReader(new InputStreamReader(requireResource(inputStream), StandardCharsets.UTF_8))
+        ) {
+            bufferedReader.readLine(); // skip header
+
+            String line;
+            while ((line = bufferedReader.readLine()) != null) {
+                final int separatorIndex = line.indexOf(',');
+                final int index = separatorIndex == CODE_LENGTH ? indexOf(line) : -1;
+                if (index >= 0) {
+                    regions[index] = line.substring(separatorIndex + 1);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Could not read " + REGIONS_RESOURCE, e);
+        }
+
+        return regions;
+    }
+
+    // the first code of the places of birth that have more than one
+    private static Map<String, Integer> indexRegions() {
+        final Map<String, Integer> indexesByRegion = new HashMap<>();
+        for (int i = 0; i < REGIONS.length; i++) {
+            if (REGIONS[i] != null) {
+                indexesByRegion.putIfAbsent(REGIONS[i], i);
+            }
+        }
+        return indexesByRegion;
+    }
+
+    private static InputStream requireResource(final InputStream inputStream) {
+        if (inputStream == null) {
+            throw new IllegalStateException("Resource " + REGIONS_RESOURCE + " not found on the classpath");
+        }
+        return inputStream;
+    }
+}
@@ -5,10 +5,18 @@ import java.util.Optional;
 /**
  * Implementation of the Luhn algorithm.
  * <p>
+ * The characters are read right to left straight from the {@link CharSequence}, and mapped to their values by
+ * {@link AsciiDigits}, so the {@code int} methods do not allocate memory.
+ * <p>
  * Source: https://en.wikipedia.org/wiki/Luhn_algorithm
  */
 public final class LuhnAlgorithm {
 
+    /**
+     * The value returned when a character is not valid in the radix.
+     */
+    public static final int INVALID = -1;
+
     private static final int DEFAULT_RADIX = 10;
 
     private LuhnAlgorithm() {}
@@ -19,7 +27,7 @@ public final class LuhnAlgorithm {
      * @param id the id to be validated
      * @return true if the {@code id} is valid, false otherwise
      */
-    public static boolean validate(final String id) {
+    public static boolean validate(final CharSequence id) {
         if (!StringUtils.isNumeric(id)) {
             return false;
         }
@@ -37,20 +45,59 @@ public final class LuhnAlgorithm {
      * @param radix the radix used to map the characters
      * @return true if the {@code id} is valid, false otherwise
      */
-    public static boolean validate(final String id, final int radix) {
+    public static boolean validate(final CharSequence id, final int radix) {
         if (id == null) {
             return false;
         }
 
-        return sum(id, radix) % 10 == 0;
+        return validate(id, 0, id.length(), radix);
+    }
+
+    /**
+     * Validates the Luhn Algorithm over a range of the {@code id}, whose last character is the check digit, without
+     * allocating memory.
+     *
+     * @param id the id to be validated
+     * @param beginIndex the index of the first character, inclusive
+     * @param endIndex the index of the check digit plus one, exclusive
+     * @param radix the radix used to map the characters, up to 36
+     * @return true if the range is valid, false otherwise, including when a character is not valid in the radix
+     */
+    public static boolean validate(final CharSequence id, final int beginIndex, final int endIndex, final int radix) {
+        final int sum = sum(id, beginIndex, endIndex, radix, false);
+        return sum != INVALID && sum % 10 == 0;
     }
 
-    private static int sum(final String id, final int radix) {
+    /**
+     * Validates the Luhn Algorithm for each id, where each id is all the characters of its {@link CharSequence}.
+     *
+     * @param ids the ids, which may contain nulls
+     * @param radix the radix used to map the characters, up to 36
+     * @param valid where to store whether the id at index {@code i} is valid, with at least as many elements as
+     *        {@code ids}
+     */
+    public static void validateAll(final CharSequence[] ids, final int radix, final boolean[] valid) {
+        for (int i = 0; i < ids.length; i++) {
+            valid[i] = ids[i] != null && validate(ids[i], 0, ids[i].length(), radix);
+        }
+    }
+
+    // when withCheckDigit is true, the sum is computed as if a check digit was appended to the range
+    private static int sum(
+        final CharSequence id,
+        final int beginIndex,
+        final int endIndex,
+        final int radix,
+        final boolean withCheckDigit
+    ) {
         int sum = 0;
-        boolean everyOtherDigit = false;
+        boolean everyOtherDigit = withCheckDigit;
 
-        for (int i = id.length() - 1; i >= 0; --i) {
-            int value = Character.digit(id.charAt(i), radix);
+        for (int i = endIndex - 1; i >= beginIndex; --i) {
+            int value = valueOf(id.charAt(i), radix);
+            if (value == INVALID) {
+                return INVALID;
+            }
 
             if (everyOtherDigit) {
                 value *= 2;
@@ -65,13 +112,18 @@ public final class LuhnAlgorithm {
         return sum;
     }
 
+    private static int valueOf(final char c, final int radix) {
+        final int value = AsciiDigits.toAlphanumeric(c);
+        return value < radix ? value : INVALID;
+    }
+
     /**
      * Computes the check digit for the Luhn Algorithm, with the radix 10, i.e. it only accepts numerical characters.
      *
      * @param id the id to compute the check digit
      * @return the check digit
      */
-    public static Optional<Integer> computeCheckDigit(final String id) {
+    public static Optional<Integer> computeCheckDigit(final CharSequence id) {
         if (!StringUtils.isNumeric(id)) {
             return Optional.empty();
         }
@@ -89,13 +141,58 @@ public final class LuhnAlgorithm {
      * @param radix the radix used to map the characters
      * @return the check digit
      */
-    public static Optional<Integer> computeCheckDigit(final String id, final int radix) {
+    public static Optional<Integer> computeCheckDigit(final CharSequence id, final int radix) {
         if (id == null) {
             return Optional.empty();
         }
 
-        final int sum = sum(id + "0", radix);
-        final int checkDigit = (sum * 9) % 10;
-        return Optional.of(checkDigit);
+        final int checkDigit = computeCheckDigit(id, 0, id.length(), radix);
+        return checkDigit == INVALID ? Optional.empty() : Optional.of(checkDigit);
+    }
+
+    /**
+     * Computes the check digit for the Luhn Algorithm, with the radix 10, over a range of the {@code id}, without
+     * allocating memory.
+     *
+     * @param id the id to compute the check digit
+     * @param beginIndex the index of the first character, inclusive
+     * @param endIndex the index of the last character, exclusive
+     * @return the check digit, or {@link #INVALID} if a character is not an ASCII digit
+     */
+    public static int computeCheckDigit(final CharSequence id, final int beginIndex, final int endIndex) {
+        return computeCheckDigit(id, beginIndex, endIndex, DEFAULT_RADIX);
+    }
+
+    /**
+     * Computes the check digit for the Luhn Algorithm over a range of the {@code id}, without allocating memory.
+     *
+     * @param id the id to compute the check digit
+     * @param beginIndex the index of the first character, inclusive
+     * @param endIndex the index of the last character, exclusive
+     * @param radix the radix used to map the characters, up to 36
+     * @return the check digit, or {@link #INVALID} if a character is not valid in the radix
+     */
+    public static int computeCheckDigit(
+        final CharSequence id,
+        final int beginIndex,
+        final int endIndex,
+        final int radix
+    ) {
+        final int sum = sum(id, beginIndex, endIndex, radix, true);
+        return sum == INVALID ? INVALID : (sum * 9) % 10;
+    }
+
+    /**
+     * Computes the check digit for the Luhn Algorithm, with the radix 10, for each id, where each id is all the
+     * characters of its {@link CharSequence}.
+     *
+     * @param ids the ids, which may contain nulls
+     * @param checkDigits where to store the check digit of the id at index {@code i}, or {@link #INVALID} if it is
+     *        null or not numeric, with at least as many elements as {@code ids}
+     */
+    public static void computeCheckDigitAll(final CharSequence[] ids, final int[] checkDigits) {
+        for (int i = 0; i < ids.length; i++) {
+            checkDigits[i] = ids[i] == null ? INVALID : computeCheckDigit(ids[i], 0, ids[i].length());
+        }
     }
 }
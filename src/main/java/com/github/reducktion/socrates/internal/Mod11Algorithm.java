@@ -0,0 +1,62 @@
+package com.github.reducktion.socrates.internal;
+
+/**
+ * Computes the remainder of a weighted sum of digits divided by 11, as used by the check digits of the Brazilian CPF
+ * and of the Danish CPR number.
+ * <p>
+ * The digits are read right to left straight from the {@link CharSequence}, and each one is multiplied by the weight
+ * of its position, so nothing is allocated.
+ */
+public final class Mod11Algorithm {
+
+    /**
+     * The value returned when the characters are not all ASCII digits.
+     */
+    public static final int INVALID = -1;
+
+    private static final int MODULUS = 11;
+
+    private Mod11Algorithm() {}
+
+    /**
+     * Computes the remainder of the sum of the digits from index {@code from} (inclusive) to index {@code to}
+     * (exclusive), each one multiplied by its weight, divided by 11.
+     *
+     * @param digits the characters of the number
+     * @param from the index of the first digit
+     * @param to the index after the last digit
+     * @param weights the weights, where the weight of the digit at index {@code i} is {@code weights[i - from]}, with
+     *        at least {@code to - from} elements
+     * @return the remainder, from 0 to 10, or {@link #INVALID} if any of the characters is not an ASCII digit
+     */
+    public static int remainder(final CharSequence digits, final int from, final int to, final int[] weights) {
+        int sum = 0;
+        for (int i = to - 1; i >= from; i--) {
+            final int digit = AsciiDigits.toDigit(digits.charAt(i));
+            if (digit < 0) {
+                return INVALID;
+            }
+            sum += digit * weights[i - from];
+        }
+        return sum % MODULUS;
+    }
+
+    /**
+     * Computes the remainder of the weighted sum of each number divided by 11, where each number is all the characters
+     * of its {@link CharSequence}.
+     *
+     * @param numbers the numbers, which may contain nulls
+     * @param weights the weights of the digits, with as many elements as the digits of each number
+     * @param remainders where to store the remainder of the number at index {@code i}, or {@link #INVALID} if it is
+     *        null, not numeric or does not have as many digits as weights, with at least as many elements as
+     *        {@code numbers}
+     */
+    public static void remainderAll(final CharSequence[] numbers, final int[] weights, final int[] remainders) {
+        for (int i = 0; i < numbers.length; i++) {
+            final CharSequence number = numbers[i];
+            remainders[i] = number == null || number.length() != weights.length
+                ? INVALID
+                : remainder(number, 0, weights.length, weights);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.reducktion.socrates.internal;
+
+/**
+ * Computes the remainder of a decimal number divided by 23, and its check letter, as used by the Spanish DNI and NIE.
+ * <p>
+ * The number is read digit by digit from a {@link CharSequence}, keeping the remainder so far, so nothing is
+ * allocated: {@code remainder = (remainder * 10 + digit) % 23}.
+ */
+public final class Mod23Algorithm {
+
+    /**
+     * The value returned when the characters are not all ASCII digits.
+     */
+    public static final int INVALID = -1;
+
+    /**
+     * The divisor.
+     */
+    public static final int MODULUS = 23;
+
+    private static final String CHECK_LETTERS = "TRWAGMYFPDXBNJZSQVHLCKE";
+
+    private Mod23Algorithm() {}
+
+    /**
+     * Computes the remainder of the number from index {@code from} (inclusive) to index {@code to} (exclusive),
+     * divided by 23.
+     *
+     * @param digits the characters of the number
+     * @param from the index of the first digit
+     * @param to the index after the last digit
+     * @return the remainder, from 0 to 22, or {@link #INVALID} if any of the characters is not an ASCII digit
+     */
+    public static int remainder(final CharSequence digits, final int from, final int to) {
+        int remainder = 0;
+        for (int i = from; i < to; i++) {
+            final int digit = AsciiDigits.toDigit(digits.charAt(i));
+            if (digit < 0) {
+                return INVALID;
+            }
+            remainder = (remainder * 10 + digit) % MODULUS;
+        }
+        return remainder;
+    }
+
+    /**
+     * Computes the remainder of each number divided by 23, where each number is all the characters of its
+     * {@link CharSequence}.
+     *
+     * @param numbers the numbers, which may contain nulls
+     * @param remainders where to store the remainder of the number at index {@code i}, or {@link #INVALID} if it is
+     *        null or not numeric, with at least as many elements as {@code numbers}
+     */
+    public static void remainderAll(final CharSequence[] numbers, final int[] remainders) {
+        for (int i = 0; i < numbers.length; i++) {
+            remainders[i] = numbers[i] == null ? INVALID : remainder(numbers[i], 0, numbers[i].length());
+        }
+    }
+
+    /**
+     * Returns the check letter of a remainder.
+     *
+     * @param remainder the remainder, from 0 to 22
+     * @return the check letter, e.g. 'T' for 0
+     */
+    public static char checkLetter(final int remainder) {
+        return CHECK_LETTERS.charAt(remainder);
+    }
+}
@@ -0,0 +1,147 @@
+package com.github.reducktion.socrates.internal;
+
+/**
+ * Computes the remainder of a decimal number divided by 97, as used by the check digits of the French NIR and of the
+ * Belgian national register number.
+ * <p>
+ * The number is read digit by digit from a {@link CharSequence}, keeping the remainder so far, so it can have any
+ * number of digits and nothing is allocated: {@code remainder = (remainder * 10 + digit) % 97}.
+ * <p>
+ * Source: https://en.wikipedia.org/wiki/International_Bank_Account_Number#Modulo_operation_on_IBAN
+ */
+public final class Mod97Algorithm {
+
+    /**
+     * The value returned when the characters are not all ASCII digits.
+     */
+    public static final int INVALID = -1;
+
+    private static final int MODULUS = 97;
+    private static final int REMAINDER_BITS = 8;
+    private static final int REMAINDER_MASK = (1 << REMAINDER_BITS) - 1;
+
+    private Mod97Algorithm() {}
+
+    /**
+     * Computes the remainder of the number from index {@code from} (inclusive) to index {@code to} (exclusive),
+     * divided by 97.
+     *
+     * @param digits the characters of the number
+     * @param from the index of the first digit
+     * @param to the index after the last digit
+     * @return the remainder, from 0 to 96, or {@link #INVALID} if any of the characters is not an ASCII digit
+     */
+    public static int remainder(final CharSequence digits, final int from, final int to) {
+        int remainder = 0;
+        for (int i = from; i < to; i++) {
+            final int digit = AsciiDigits.toDigit(digits.charAt(i));
+            if (digit < 0) {
+                return INVALID;
+            }
+            remainder = (remainder * 10 + digit) % MODULUS;
+        }
+        return remainder;
+    }
+
+    /**
+     * Computes the remainder of each number divided by 97, where each number is all the characters of its
+     * {@link CharSequence}.
+     *
+     * @param numbers the numbers, which may contain nulls
+     * @param remainders where to store the remainder of the number at index {@code i}, or {@link #INVALID} if it is
+     *        null or not numeric, with at least as many elements as {@code numbers}
+     */
+    public static void remainderAll(final CharSequence[] numbers, final int[] remainders) {
+        for (int i = 0; i < numbers.length; i++) {
+            remainders[i] = numbers[i] == null ? INVALID : remainder(numbers[i], 0, numbers[i].length());
+        }
+    }
+
+    /**
+     * Computes the remainder of the number divided by 97, where the Corsican departments "2A" and "2B" at index
+     * {@code departmentIndex} are read as "19" and "18" respectively, as in the French NIR.
+     *
+     * @param digits the characters of the number
+     * @param from the index of the first digit
+     * @param to the index after the last digit
+     * @param departmentIndex the index of the department
+     * @return the remainder, from 0 to 96, or {@link #INVALID} if any of the characters is not an ASCII digit, other
+     *         than the letter of a Corsican department
+     */
+    public static int remainderWithCorsicanDepartment(
+        final CharSequence digits,
+        final int from,
+        final int to,
+        final int departmentIndex
+    ) {
+        int remainder = 0;
+        int i = from;
+
+        while (i < to) {
+            final char c = digits.charAt(i);
+            final int digit = AsciiDigits.toDigit(c);
+
+            if (i == departmentIndex && c == '2' && i + 1 < to && isCorsicanLetter(digits.charAt(i + 1))) {
+                final int corsicanDigit = digits.charAt(i + 1) == 'A' ? 9 : 8;
+                remainder = ((remainder * 10 + 1) * 10 + corsicanDigit) % MODULUS;
+                i += 2;
+            } else if (digit >= 0) {
+                remainder = (remainder * 10 + digit) % MODULUS;
+                i++;
+            } else {
+                return INVALID;
+            }
+        }
+        return remainder;
+    }
+
+    private static boolean isCorsicanLetter(final char c) {
+        return c == 'A' || c == 'B';
+    }
+
+    /**
+     * Computes, in a single pass, the remainders divided by 97 of the number and of the number prefixed with the digit
+     * {@code prefixDigit}, e.g. of "971116001" and of "2971116001", as needed for the two centuries of the Belgian
+     * national register number.
+     *
+     * @param digits the characters of the number
+     * @param from the index of the first digit
+     * @param to the index after the last digit
+     * @param prefixDigit the digit that prefixes the number, from 0 to 9
+     * @return both remainders, read with {@link #withoutPrefix(int)} and {@link #withPrefix(int)}, or {@link #INVALID}
+     *         if any of the characters is not an ASCII digit
+     */
+    public static int remainders(final CharSequence digits, final int from, final int to, final int prefixDigit) {
+        int remainder = 0;
+        int prefixedRemainder = prefixDigit;
+        for (int i = from; i < to; i++) {
+            final int digit = AsciiDigits.toDigit(digits.charAt(i));
+            if (digit < 0) {
+                return INVALID;
+            }
+            remainder = (remainder * 10 + digit) % MODULUS;
+            prefixedRemainder = (prefixedRemainder * 10 + digit) % MODULUS;
+        }
+        return prefixedRemainder << REMAINDER_BITS | remainder;
+    }
+
+    /**
+     * Returns the remainder of the number without the prefix.
+     *
+     * @param remainders the result of {@link #remainders(CharSequence, int, int, int)}, other than {@link #INVALID}
+     * @return the remainder of the number
+     */
+    public static int withoutPrefix(final int remainders) {
+        return remainders & REMAINDER_MASK;
+    }
+
+    /**
+     * Returns the remainder of the number with the prefix.
+     *
+     * @param remainders the result of {@link #remainders(CharSequence, int, int, int)}, other than {@link #INVALID}
+     * @return the remainder of the prefixed number
+     */
+    public static int withPrefix(final int remainders) {
+        return remainders >>> REMAINDER_BITS;
+    }
+}
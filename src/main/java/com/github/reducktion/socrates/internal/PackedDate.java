@@ -0,0 +1,98 @@
+package com.github.reducktion.socrates.internal;
+
+/**
+ * Dates packed in an {@code int} as {@code yyyymmdd} (e.g. 19820819 for 19 August 1982), which can be validated and
+ * decoded straight from the characters of an id, without throwing exceptions or allocating memory.
+ * <p>
+ * A month or a day of 0 means that it is unknown, as some national ids allow it (e.g. Belgium), so it is not checked
+ * against the calendar. Invalid dates are represented by {@link #INVALID}.
+ */
+public final class PackedDate {
+
+    /**
+     * The value returned for an invalid date.
+     */
+    public static final int INVALID = -1;
+
+    private static final int MAX_YEAR = 9999;
+
+    // index 0 is the unknown month, which can have any day up to 31
+    private static final int[] DAYS_IN_MONTH = { 31, 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31 };
+
+    private PackedDate() {}
+
+    /**
+     * Validates and packs the date, given the {@code year}, {@code month} and {@code day}.
+     *
+     * @param year the year, from 0 to 9999
+     * @param month the month, from 1 to 12, or 0 if it is unknown
+     * @param day the day, from 1 to the number of days in the month, or 0 if it is unknown
+     * @return the packed date, or {@link #INVALID} if the date is not valid
+     */
+    public static int of(final int year, final int month, final int day) {
+        if (year < 0 || year > MAX_YEAR || month < 0 || month > 12 || day < 0 || day > lengthOfMonth(year, month)) {
+            return INVALID;
+        }
+        return year * 10_000 + month * 100 + day;
+    }
+
+    private static int lengthOfMonth(final int year, final int month) {
+        return month == 2 && isLeapYear(year) ? 29 : DAYS_IN_MONTH[month];
+    }
+
+    /**
+     * Checks if the year is a leap year, according to the proleptic Gregorian calendar.
+     *
+     * @param year the year
+     * @return true if the year is a leap year, false otherwise
+     */
+    public static boolean isLeapYear(final int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * Decodes the two ASCII digits at {@code index} and {@code index + 1}, e.g. the day of a date.
+     *
+     * @param id the id
+     * @param index the index of the first digit
+     * @return the value of the two digits, from 0 to 99, or -1 if any of the characters is not an ASCII digit
+     */
+    public static int decodeTwoDigits(final CharSequence id, final int index) {
+        final int tens = AsciiDigits.toDigit(id.charAt(index));
+        final int units = AsciiDigits.toDigit(id.charAt(index + 1));
+        if (tens < 0 || units < 0) {
+            return -1;
+        }
+        return tens * 10 + units;
+    }
+
+    /**
+     * Returns the year of a packed date.
+     *
+     * @param packedDate a valid packed date
+     * @return the year
+     */
+    public static int year(final int packedDate) {
+        return packedDate / 10_000;
+    }
+
+    /**
+     * Returns the month of a packed date.
+     *
+     * @param packedDate a valid packed date
+     * @return the month, or 0 if it is unknown
+     */
+    public static int month(final int packedDate) {
+        return packedDate / 100 % 100;
+    }
+
+    /**
+     * Returns the day of a packed date.
+     *
+     * @param packedDate a valid packed date
+     * @return the day, or 0 if it is unknown
+     */
+    public static int day(final int packedDate) {
+        return packedDate % 100;
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.reducktion.socrates.internal;
+
+/**
+ * Reusable {@link CharSequence} that holds a national id without separators (spaces, dots and dashes), with its letters
+ * in upper case and its decimal digits as ASCII digits.
+ * <p>
+ * It is meant to be reused (e.g. one instance per thread), so that ids can be sanitized without allocating. It is not
+ * thread-safe.
+ */
+public final class SanitizedId implements CharSequence {
+
+    /**
+     * Maximum number of characters, without separators, that an id can have. No supported national id is this long.
+     */
+    public static final int MAX_LENGTH = 32;
+
+    private final char[] chars = new char[MAX_LENGTH];
+    private int length;
+
+    /**
+     * Replaces the content of this instance with the sanitized {@code id}.
+     *
+     * @param id the national id, may be null
+     * @return true if the {@code id} was sanitized, false if it is null or has more than {@link #MAX_LENGTH}
+     *         characters without separators, in which case this instance is left empty
+     */
+    public boolean sanitize(final CharSequence id) {
+        length = 0;
+        if (id == null) {
+            return false;
+        }
+
+        int count = 0;
+        for (int i = 0; i < id.length(); i++) {
+            final char c = id.charAt(i);
+            if (isSeparator(c)) {
+                continue;
+            }
+            if (count == MAX_LENGTH) {
+                return false;
+            }
+            chars[count++] = normalize(c);
+        }
+
+        length = count;
+        return true;
+    }
+
+    private static boolean isSeparator(final char c) {
+        return c == ' ' || c == '.' || c == '-';
+    }
+
+    // the ASCII characters are handled without looking up the Unicode tables
+    private static char normalize(final char c) {
+        if (c >= 'a' && c <= 'z') {
+            return (char) (c - 'a' + 'A');
+        }
+        if (c < 128) {
+            return c;
+        }
+
+        final int digit = Character.digit(c, 10);
+        return digit >= 0 ? (char) ('0' + digit) : Character.toUpperCase(c);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", length: " + length);
+        }
+        return chars[index];
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return toString().substring(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return new String(chars, 0, length);
+    }
+}
@@ -8,8 +8,9 @@ public final class StringUtils {
     private StringUtils() {}
 
     /**
-     * Checks if the CharSequence contains only Unicode digits.
-     * A decimal point is not a Unicode digit and returns {@code false}.
+     * Checks if the CharSequence contains only ASCII digits.
+     * A decimal point is not a digit and returns {@code false}, and neither are the digits of other scripts (e.g.
+     * Arabic-Indic digits), see {@link AsciiDigits}.
      * <p>
      * {@code null} will return {@code false}.
      * An empty CharSequence (length()=0) will return {@code false}.
@@ -26,13 +27,7 @@ public final class StringUtils {
         if (isEmpty(cs)) {
             return false;
         }
-        final int sz = cs.length();
-        for (int i = 0; i < sz; i++) {
-            if (!Character.isDigit(cs.charAt(i))) {
-                return false;
-            }
-        }
-        return true;
+        return AsciiDigits.isNumeric(cs, 0, cs.length());
     }
 
     /**
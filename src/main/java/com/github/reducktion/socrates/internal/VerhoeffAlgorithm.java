@@ -4,11 +4,19 @@ import java.util.Optional;
 
 /**
  * Implementation of the Verhoeff algorithm.
- *
+ * <p>
+ * The digits are read right to left straight from the {@link CharSequence}, so the {@code int} methods do not
+ * allocate memory.
+ * <p>
  * Source: https://en.wikipedia.org/wiki/Verhoeff_algorithm
  */
 public final class VerhoeffAlgorithm {
 
+    /**
+     * The value returned when a character is not an ASCII digit.
+     */
+    public static final int INVALID = -1;
+
     private static final int[][] MULTIPLICATION_TABLE = new int[][] {
         { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 },
         { 1, 2, 3, 4, 0, 6, 7, 8, 9, 5 },
@@ -43,11 +51,37 @@ public final class VerhoeffAlgorithm {
      * @param id the id to be validated
      * @return true if the {@code id} is valid, false otherwise
      */
-    public static boolean validate(final String id) {
+    public static boolean validate(final CharSequence id) {
         if (!StringUtils.isNumeric(id)) {
             return false;
         }
-        return computeChecksum(id) == 0;
+        return validate(id, 0, id.length());
+    }
+
+    /**
+     * Validates the Verhoeff Algorithm over a range of the {@code id}, whose last character is the check digit,
+     * without allocating memory.
+     *
+     * @param id the id to be validated
+     * @param beginIndex the index of the first character, inclusive
+     * @param endIndex the index of the check digit plus one, exclusive
+     * @return true if the range is valid, false otherwise, including when a character is not an ASCII digit
+     */
+    public static boolean validate(final CharSequence id, final int beginIndex, final int endIndex) {
+        return computeChecksum(id, beginIndex, endIndex, false) == 0;
+    }
+
+    /**
+     * Validates the Verhoeff Algorithm for each id, where each id is all the characters of its {@link CharSequence}.
+     *
+     * @param ids the ids, which may contain nulls
+     * @param valid where to store whether the id at index {@code i} is valid, with at least as many elements as
+     *        {@code ids}
+     */
+    public static void validateAll(final CharSequence[] ids, final boolean[] valid) {
+        for (int i = 0; i < ids.length; i++) {
+            valid[i] = ids[i] != null && validate(ids[i], 0, ids[i].length());
+        }
     }
 
     /**
@@ -56,25 +90,59 @@ public final class VerhoeffAlgorithm {
      * @param id the id to compute the check digit
      * @return the check digit
      */
-    public static Optional<Integer> computeCheckDigit(final String id) {
+    public static Optional<Integer> computeCheckDigit(final CharSequence id) {
         if (!StringUtils.isNumeric(id)) {
             return Optional.empty();
         }
 
-        final int checksum = computeChecksum(id + "0");
-        return Optional.of(checksum);
+        final int checkDigit = computeCheckDigit(id, 0, id.length());
+        return checkDigit == INVALID ? Optional.empty() : Optional.of(checkDigit);
     }
 
-    private static int computeChecksum(final String id) {
-        final String reversedId = new StringBuilder(id)
-            .reverse()
-            .toString();
+    /**
+     * Computes the check digit for the Verhoeff Algorithm, over a range of the {@code id}, without allocating memory.
+     *
+     * @param id the id to compute the check digit
+     * @param beginIndex the index of the first character, inclusive
+     * @param endIndex the index of the last character, exclusive
+     * @return the check digit, or {@link #INVALID} if a character is not an ASCII digit
+     */
+    public static int computeCheckDigit(final CharSequence id, final int beginIndex, final int endIndex) {
+        return computeChecksum(id, beginIndex, endIndex, true);
+    }
+
+    /**
+     * Computes the check digit for the Verhoeff Algorithm for each id, where each id is all the characters of its
+     * {@link CharSequence}.
+     *
+     * @param ids the ids, which may contain nulls
+     * @param checkDigits where to store the check digit of the id at index {@code i}, or {@link #INVALID} if it is
+     *        null or not numeric, with at least as many elements as {@code ids}
+     */
+    public static void computeCheckDigitAll(final CharSequence[] ids, final int[] checkDigits) {
+        for (int i = 0; i < ids.length; i++) {
+            checkDigits[i] = ids[i] == null ? INVALID : computeCheckDigit(ids[i], 0, ids[i].length());
+        }
+    }
 
+    // when withCheckDigit is true, the checksum is computed as if a zero was appended to the range; returns -1 if a
+    // character is not an ASCII digit
+    private static int computeChecksum(
+        final CharSequence id,
+        final int beginIndex,
+        final int endIndex,
+        final boolean withCheckDigit
+    ) {
         int c = 0;
-        for (int i = 0; i < reversedId.length(); i++) {
-            final int digit = Character.getNumericValue(reversedId.charAt(i));
-            final int p = PERMUTATION_TABLE[i % 8][digit];
+        int position = withCheckDigit ? 1 : 0;
+        for (int i = endIndex - 1; i >= beginIndex; i--) {
+            final int digit = AsciiDigits.toDigit(id.charAt(i));
+            if (digit < 0) {
+                return INVALID;
+            }
+            final int p = PERMUTATION_TABLE[position % 8][digit];
             c = MULTIPLICATION_TABLE[c][p];
+            position++;
         }
 
         return INVERSE_TABLE[c];
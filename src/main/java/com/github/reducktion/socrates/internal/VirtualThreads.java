@@ -0,0 +1,54 @@
+package com.github.reducktion.socrates.internal;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Access to the virtual threads of Java 21 and later, through reflection, so that the library can still be compiled
+ * for and run on Java 8.
+ */
+public final class VirtualThreads {
+
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findNewVirtualThreadPerTaskExecutor();
+
+    private VirtualThreads() {}
+
+    /**
+     * Checks if the running JVM supports virtual threads.
+     *
+     * @return true if virtual threads are available, false otherwise
+     */
+    public static boolean isAvailable() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Creates an executor that runs each task in a new virtual thread.
+     *
+     * @return the result of {@code Executors.newVirtualThreadPerTaskExecutor()}, or an empty {@link Optional} if the
+     *         running JVM does not support virtual threads or cannot create the executor, e.g. Java 19 and 20 without
+     *         {@code --enable-preview}, where the method exists but throws an {@link UnsupportedOperationException}
+     */
+    public static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+        if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of((ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null));
+        } catch (final ReflectiveOperationException | RuntimeException | LinkageError e) {
+            // including the InvocationTargetException that wraps the UnsupportedOperationException of the previews
+            return Optional.empty();
+        }
+    }
+
+    private static Method findNewVirtualThreadPerTaskExecutor() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (final NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.github.reducktion.socrates.nationalid;
+
+import com.github.reducktion.socrates.FailureReason;
+import com.github.reducktion.socrates.PackedCitizen;
+import com.github.reducktion.socrates.ParseResult;
+import com.github.reducktion.socrates.TwoDigitYearResolver;
+import com.github.reducktion.socrates.internal.AsciiDigits;
+import com.github.reducktion.socrates.internal.SanitizedId;
+
+/**
+ * Base class for the {@link NationalIdValidator}s, which sanitizes the id into a per-thread {@link SanitizedId} before
+ * validating it, and extracts the citizen from the values decoded during the validation.
+ */
+abstract class AbstractNationalIdValidator implements NationalIdValidator {
+
+    private static final ThreadLocal<Scratch> SCRATCHES = ThreadLocal.withInitial(Scratch::new);
+
+    @Override
+    public final boolean isValid(final CharSequence id) {
+        return validate(id, TwoDigitYearResolver.systemDefault(), SCRATCHES.get()) == null;
+    }
+
+    @Override
+    public final boolean isValid(final CharSequence id, final TwoDigitYearResolver twoDigitYearResolver) {
+        return validate(id, twoDigitYearResolver, SCRATCHES.get()) == null;
+    }
+
+    @Override
+    public final FailureReason validate(final CharSequence id) {
+        return validate(id, TwoDigitYearResolver.systemDefault(), SCRATCHES.get());
+    }
+
+    @Override
+    public final FailureReason validate(final CharSequence id, final TwoDigitYearResolver twoDigitYearResolver) {
+        return validate(id, twoDigitYearResolver, SCRATCHES.get());
+    }
+
+    @Override
+    public final void validateAll(
+        final CharSequence[] ids,
+        final int from,
+        final int to,
+        final FailureReason[] failureReasons
+    ) {
+        validateAll(ids, from, to, TwoDigitYearResolver.systemDefault(), failureReasons);
+    }
+
+    @Override
+    public void validateAll(
+        final CharSequence[] ids,
+        final int from,
+        final int to,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final FailureReason[] failureReasons
+    ) {
+        final Scratch scratch = SCRATCHES.get();
+        for (int i = from; i < to; i++) {
+            failureReasons[i - from] = validate(ids[i], twoDigitYearResolver, scratch);
+        }
+    }
+
+    @Override
+    public final ParseResult parse(final CharSequence id, final TwoDigitYearResolver twoDigitYearResolver) {
+        final Scratch scratch = SCRATCHES.get();
+        final FailureReason failureReason = validate(id, twoDigitYearResolver, scratch);
+
+        if (failureReason != null) {
+            return ParseResult.invalid(failureReason);
+        }
+        final long packedCitizen = extractPackedCitizen(scratch.sanitizedId, scratch.decodedId);
+        if (packedCitizen == PackedCitizen.NONE) {
+            return ParseResult.valid(null);
+        }
+        return ParseResult.valid(PackedCitizen.toCitizen(packedCitizen, this));
+    }
+
+    @Override
+    public final long parsePacked(final CharSequence id, final TwoDigitYearResolver twoDigitYearResolver) {
+        final Scratch scratch = SCRATCHES.get();
+        if (validate(id, twoDigitYearResolver, scratch) != null) {
+            return PackedCitizen.NONE;
+        }
+        return extractPackedCitizen(scratch.sanitizedId, scratch.decodedId);
+    }
+
+    @Override
+    public final FailureReason parsePacked(
+        final CharSequence id,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final long[] packedCitizen
+    ) {
+        final Scratch scratch = SCRATCHES.get();
+        final FailureReason failureReason = validate(id, twoDigitYearResolver, scratch);
+        packedCitizen[0] = failureReason == null
+            ? extractPackedCitizen(scratch.sanitizedId, scratch.decodedId)
+            : PackedCitizen.NONE;
+        return failureReason;
+    }
+
+    // returns null if the id is valid
+    private FailureReason validate(
+        final CharSequence id,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final Scratch scratch
+    ) {
+        if (id == null) {
+            return FailureReason.MISSING;
+        }
+        if (!scratch.sanitizedId.sanitize(id)) {
+            return FailureReason.INVALID_LENGTH;
+        }
+
+        scratch.decodedId.reset();
+        return validateSanitized(scratch.sanitizedId, twoDigitYearResolver, scratch.decodedId);
+    }
+
+    /**
+     * Validates a national id that has already been sanitized. Implementations must not allocate memory.
+     *
+     * @param id the id, without separators, in upper case and with ASCII digits only
+     * @param twoDigitYearResolver the resolver for the ids that only have the last two digits of the year of birth
+     * @param decodedId where to store the values decoded from the id that are needed to extract the citizen
+     * @return null if the {@code id} is valid, the reason why it is not valid otherwise
+     */
+    abstract FailureReason validateSanitized(
+        CharSequence id,
+        TwoDigitYearResolver twoDigitYearResolver,
+        DecodedId decodedId
+    );
+
+    /**
+     * Extracts the packed citizen from a valid national id. Countries that support extraction override this method,
+     * which must not allocate memory, and the ones with places of birth also override
+     * {@link #getPlaceOfBirth(int)} and {@link #getPlaceOfBirthCode(String)}.
+     *
+     * @param id the valid id, sanitized
+     * @param decodedId the values decoded from the id while it was validated
+     * @return the {@link PackedCitizen}, or {@link PackedCitizen#NONE} if the country does not support extraction
+     */
+    long extractPackedCitizen(final CharSequence id, final DecodedId decodedId) {
+        return PackedCitizen.NONE;
+    }
+
+    static boolean isNumeric(final CharSequence id, final int beginIndex, final int endIndex) {
+        return AsciiDigits.isNumeric(id, beginIndex, endIndex);
+    }
+
+    // the characters in the range must be ASCII digits
+    static int toInt(final CharSequence id, final int beginIndex, final int endIndex) {
+        return AsciiDigits.toInt(id, beginIndex, endIndex);
+    }
+
+    // the per-thread buffers, so that validating an id does not allocate memory
+    private static final class Scratch {
+        private final SanitizedId sanitizedId = new SanitizedId();
+        private final DecodedId decodedId = new DecodedId();
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.reducktion.socrates.nationalid;
+
+import com.github.reducktion.socrates.FailureReason;
+import com.github.reducktion.socrates.Gender;
+import com.github.reducktion.socrates.PackedCitizen;
+import com.github.reducktion.socrates.TwoDigitYearResolver;
+import com.github.reducktion.socrates.internal.Mod97Algorithm;
+import com.github.reducktion.socrates.internal.PackedDate;
+
+/**
+ * {@link NationalIdValidator} for Belgium.
+ *
+ * @see BelgiumNationalId
+ */
+final class BelgiumNationalIdValidator extends AbstractNationalIdValidator {
+
+    static final BelgiumNationalIdValidator INSTANCE = new BelgiumNationalIdValidator();
+
+    private static final int ID_NUMBER_OF_CHARACTERS = 11;
+    private static final int Y2K_PREFIX_DIGIT = 2;
+
+    private BelgiumNationalIdValidator() {}
+
+    @Override
+    FailureReason validateSanitized(
+        final CharSequence id,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final DecodedId decodedId
+    ) {
+        if (id.length() != ID_NUMBER_OF_CHARACTERS) {
+            return FailureReason.INVALID_LENGTH;
+        }
+        if (!isNumeric(id, 0, ID_NUMBER_OF_CHARACTERS)) {
+            return FailureReason.INVALID_CHARACTERS;
+        }
+        if (!hasValidSequenceNumber(id)) {
+            return FailureReason.RESERVED_VALUE;
+        }
+
+        final int century = decodeCentury(id);
+        if (century < 0) {
+            return FailureReason.INVALID_CHECKSUM;
+        }
+
+        decodedId.dateOfBirth = PackedDate.of(
+            century + PackedDate.decodeTwoDigits(id, 0),
+            PackedDate.decodeTwoDigits(id, 2),
+            PackedDate.decodeTwoDigits(id, 4)
+        );
+        return decodedId.dateOfBirth == PackedDate.INVALID ? FailureReason.INVALID_DATE_OF_BIRTH : null;
+    }
+
+    @Override
+    long extractPackedCitizen(final CharSequence id, final DecodedId decodedId) {
+        final int sequenceNumberLastDigit = id.charAt(8) - '0';
+
+        return PackedCitizen.pack(
+            sequenceNumberLastDigit % 2 == 0 ? Gender.FEMALE : Gender.MALE,
+            PackedDate.year(decodedId.dateOfBirth),
+            toAbsentIfUnknown(PackedDate.month(decodedId.dateOfBirth)),
+            toAbsentIfUnknown(PackedDate.day(decodedId.dateOfBirth)),
+            PackedCitizen.ABSENT
+        );
+    }
+
+    private static boolean hasValidSequenceNumber(final CharSequence id) {
+        final int sequenceNumber = toInt(id, 6, 9);
+        return sequenceNumber != 0 && sequenceNumber != 999; // range from 001 to 998
+    }
+
+    // the checksum is computed as if the id was prefixed with "2" for people born after 1999; returns -1 if the
+    // checksum does not match either century
+    private static int decodeCentury(final CharSequence id) {
+        final int checksum = toInt(id, 9, 11);
+        final int remainders = Mod97Algorithm.remainders(id, 0, 9, Y2K_PREFIX_DIGIT);
+
+        if (checksum == computeChecksum(Mod97Algorithm.withoutPrefix(remainders))) {
+            return 1900;
+        } else if (checksum == computeChecksum(Mod97Algorithm.withPrefix(remainders))) {
+            return 2000;
+        } else {
+            return -1;
+        }
+    }
+
+    private static int computeChecksum(final int remainder) {
+        return 97 - remainder;
+    }
+
+    // the month and the day are 0 when they are unknown
+    private static int toAbsentIfUnknown(final int value) {
+        return value == 0 ? PackedCitizen.ABSENT : value;
+    }
+}
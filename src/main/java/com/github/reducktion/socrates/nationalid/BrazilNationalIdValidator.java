@@ -0,0 +1,44 @@
+package com.github.reducktion.socrates.nationalid;
+
+import com.github.reducktion.socrates.FailureReason;
+import com.github.reducktion.socrates.TwoDigitYearResolver;
+import com.github.reducktion.socrates.internal.Mod11Algorithm;
+
+/**
+ * {@link NationalIdValidator} for Brazil.
+ *
+ * @see BrazilNationalId
+ */
+final class BrazilNationalIdValidator extends AbstractNationalIdValidator {
+
+    static final BrazilNationalIdValidator INSTANCE = new BrazilNationalIdValidator();
+
+    private static final int ID_NUMBER_OF_CHARACTERS = 11;
+    private static final int[] FIRST_CHECK_DIGIT_WEIGHTS = { 1, 2, 3, 4, 5, 6, 7, 8, 9 };
+    private static final int[] SECOND_CHECK_DIGIT_WEIGHTS = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 };
+
+    private BrazilNationalIdValidator() {}
+
+    @Override
+    FailureReason validateSanitized(
+        final CharSequence id,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final DecodedId decodedId
+    ) {
+        if (id.length() != ID_NUMBER_OF_CHARACTERS) {
+            return FailureReason.INVALID_LENGTH;
+        }
+        if (!isNumeric(id, 0, ID_NUMBER_OF_CHARACTERS)) {
+            return FailureReason.INVALID_CHARACTERS;
+        }
+        return hasValidChecksum(id) ? null : FailureReason.INVALID_CHECKSUM;
+    }
+
+    // the second check digit is computed over the first one as well, which must be valid for the id to be valid
+    private static boolean hasValidChecksum(final CharSequence id) {
+        final int v1 = Mod11Algorithm.remainder(id, 0, 9, FIRST_CHECK_DIGIT_WEIGHTS) % 10;
+        final int v2 = Mod11Algorithm.remainder(id, 0, 10, SECOND_CHECK_DIGIT_WEIGHTS) % 10;
+
+        return id.charAt(9) - '0' == v1 && id.charAt(10) - '0' == v2;
+    }
+}
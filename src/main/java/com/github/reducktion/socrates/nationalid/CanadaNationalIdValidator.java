@@ -0,0 +1,34 @@
+package com.github.reducktion.socrates.nationalid;
+
+import com.github.reducktion.socrates.FailureReason;
+import com.github.reducktion.socrates.TwoDigitYearResolver;
+import com.github.reducktion.socrates.internal.LuhnAlgorithm;
+
+/**
+ * {@link NationalIdValidator} for Canada.
+ *
+ * @see CanadaNationalId
+ */
+final class CanadaNationalIdValidator extends AbstractNationalIdValidator {
+
+    static final CanadaNationalIdValidator INSTANCE = new CanadaNationalIdValidator();
+
+    private static final int ID_NUMBER_OF_CHARACTERS = 9;
+
+    private CanadaNationalIdValidator() {}
+
+    @Override
+    FailureReason validateSanitized(
+        final CharSequence id,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final DecodedId decodedId
+    ) {
+        if (id.length() != ID_NUMBER_OF_CHARACTERS) {
+            return FailureReason.INVALID_LENGTH;
+        }
+        if (!isNumeric(id, 0, ID_NUMBER_OF_CHARACTERS)) {
+            return FailureReason.INVALID_CHARACTERS;
+        }
+        return LuhnAlgorithm.validate(id) ? null : FailureReason.INVALID_CHECKSUM;
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.reducktion.socrates.nationalid;
+
+import java.util.Optional;
+
+import com.github.reducktion.socrates.Country;
+
+/**
+ * Immutable value that holds a valid national identification number packed by {@link NationalIdCodec}, along with its
+ * country, which takes a few bytes instead of the two {@link String}s of a {@link NationalId}.
+ * <p>
+ * Two instances are equal if they have the same country and the same packed id, i.e. if their sanitized ids are equal.
+ * The hash code is computed once, when the instance is created, and the instances are sorted by country and then by
+ * packed id, so they can be used as keys of hash and sorted maps, or replaced by the packed ids themselves in the maps
+ * of primitives, with {@link NationalIdCodec#hash(long)}.
+ */
+public final class CompactNationalId implements Comparable<CompactNationalId> {
+
+    private final Country country;
+    private final long packedId;
+    private final int hashCode;
+
+    private CompactNationalId(final Country country, final long packedId) {
+        this.country = country;
+        this.packedId = packedId;
+        hashCode = 31 * country.ordinal() + Long.hashCode(NationalIdCodec.hash(packedId));
+    }
+
+    /**
+     * Validates the national identification number and, if it is valid, packs it.
+     *
+     * @param id the national identification number, may be null
+     * @param country the {@link Country}
+     * @return the {@link CompactNationalId} wrapped in an {@link Optional}, if the {@code id} is valid and can be
+     *         packed
+     * @throws UnsupportedOperationException if the country is not supported
+     * @see NationalIdCodec#encode(CharSequence, Country)
+     */
+    public static Optional<CompactNationalId> of(final CharSequence id, final Country country) {
+        final long packedId = NationalIdCodec.encode(id, country);
+        return packedId == NationalIdCodec.NONE
+            ? Optional.empty()
+            : Optional.of(new CompactNationalId(country, packedId));
+    }
+
+    /**
+     * Wraps a packed id.
+     *
+     * @param packedId the packed id, from {@link NationalIdCodec#encode(CharSequence, Country)} with the same country
+     * @param country the {@link Country}
+     * @return the {@link CompactNationalId}
+     * @throws IllegalArgumentException if the packed id is out of the range of the packed ids of the country
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public static CompactNationalId ofPacked(final long packedId, final Country country) {
+        NationalIdCodec.checkPackedId(packedId, country);
+        return new CompactNationalId(country, packedId);
+    }
+
+    public Country getCountry() {
+        return country;
+    }
+
+    public long getPackedId() {
+        return packedId;
+    }
+
+    @Override
+    public int compareTo(final CompactNationalId other) {
+        final int countryComparison = country.compareTo(other.country);
+        return countryComparison != 0 ? countryComparison : Long.compare(packedId, other.packedId);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+
+        if (!(obj instanceof CompactNationalId)) {
+            return false;
+        }
+
+        final CompactNationalId compactNationalId = (CompactNationalId) obj;
+        return compactNationalId.country == country && compactNationalId.packedId == packedId;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    /**
+     * Returns the sanitized national identification number, decoded from the packed id.
+     *
+     * @return the national identification number, without separators and with upper case letters and ASCII digits
+     */
+    @Override
+    public String toString() {
+        return NationalIdCodec.decode(packedId, country);
+    }
+}
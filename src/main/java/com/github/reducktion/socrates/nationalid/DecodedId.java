@@ -0,0 +1,28 @@
+package com.github.reducktion.socrates.nationalid;
+
+import com.github.reducktion.socrates.internal.PackedDate;
+
+/**
+ * Values decoded from a national id while it is validated, which are reused to extract the citizen, so that they are
+ * only decoded once.
+ * <p>
+ * It is reused by the thread that validates the id, so it is mutable and not thread-safe.
+ */
+final class DecodedId {
+
+    /**
+     * The {@link PackedDate} of birth, or {@link PackedDate#INVALID} if it was not decoded.
+     */
+    int dateOfBirth;
+
+    /**
+     * Digits decoded from the id, in a way specific to the country, e.g. the numerical characters of the Italian
+     * codice fiscale after swapping the omocodia characters, or -1 if they were not decoded.
+     */
+    int digits;
+
+    void reset() {
+        dateOfBirth = PackedDate.INVALID;
+        digits = -1;
+    }
+}
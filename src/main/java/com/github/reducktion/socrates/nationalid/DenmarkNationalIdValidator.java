@@ -0,0 +1,89 @@
+package com.github.reducktion.socrates.nationalid;
+
+import com.github.reducktion.socrates.FailureReason;
+import com.github.reducktion.socrates.Gender;
+import com.github.reducktion.socrates.PackedCitizen;
+import com.github.reducktion.socrates.TwoDigitYearResolver;
+import com.github.reducktion.socrates.internal.Mod11Algorithm;
+import com.github.reducktion.socrates.internal.PackedDate;
+
+/**
+ * {@link NationalIdValidator} for Denmark.
+ *
+ * @see DenmarkNationalId
+ */
+final class DenmarkNationalIdValidator extends AbstractNationalIdValidator {
+
+    static final DenmarkNationalIdValidator INSTANCE = new DenmarkNationalIdValidator();
+
+    private static final int ID_NUMBER_OF_CHARACTERS = 10;
+    private static final int[] MULTIPLIERS = { 4, 3, 2, 7, 6, 5, 4, 3, 2, 1 };
+
+    private DenmarkNationalIdValidator() {}
+
+    @Override
+    FailureReason validateSanitized(
+        final CharSequence id,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final DecodedId decodedId
+    ) {
+        if (id.length() != ID_NUMBER_OF_CHARACTERS) {
+            return FailureReason.INVALID_LENGTH;
+        }
+        if (!isNumeric(id, 0, ID_NUMBER_OF_CHARACTERS)) {
+            return FailureReason.INVALID_CHARACTERS;
+        }
+
+        decodedId.dateOfBirth = PackedDate.of(
+            extractYearOfBirth(id),
+            PackedDate.decodeTwoDigits(id, 2),
+            PackedDate.decodeTwoDigits(id, 0)
+        );
+        if (decodedId.dateOfBirth == PackedDate.INVALID) {
+            return FailureReason.INVALID_DATE_OF_BIRTH;
+        }
+        return hasValidChecksum(id) ? null : FailureReason.INVALID_CHECKSUM;
+    }
+
+    @Override
+    long extractPackedCitizen(final CharSequence id, final DecodedId decodedId) {
+        final int lastDigit = id.charAt(9) - '0';
+
+        return PackedCitizen.pack(
+            lastDigit % 2 == 0 ? Gender.MALE : Gender.FEMALE,
+            PackedDate.year(decodedId.dateOfBirth),
+            PackedDate.month(decodedId.dateOfBirth),
+            PackedDate.day(decodedId.dateOfBirth),
+            PackedCitizen.ABSENT
+        );
+    }
+
+    private static boolean hasValidChecksum(final CharSequence id) {
+        return Mod11Algorithm.remainder(id, 0, ID_NUMBER_OF_CHARACTERS, MULTIPLIERS) == 0;
+    }
+
+    // the century is given by the seventh digit and the last two digits of the year
+    private static int extractYearOfBirth(final CharSequence id) {
+        final int centuryDigit = id.charAt(6) - '0';
+        final int twoDigitsYear = PackedDate.decodeTwoDigits(id, 4);
+
+        final int century;
+        if (centuryDigit < 4) {
+            century = 1900;
+        } else if (centuryDigit == 4 || centuryDigit == 9) {
+            if (twoDigitsYear <= 36) {
+                century = 2000;
+            } else {
+                century = 1900;
+            }
+        } else {
+            if (twoDigitsYear >= 58) {
+                century = 1800;
+            } else {
+                century = 2000;
+            }
+        }
+
+        return century + twoDigitsYear;
+    }
+}
@@ -0,0 +1,291 @@
+package com.github.reducktion.socrates.nationalid;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.github.reducktion.socrates.FailureReason;
+import com.github.reducktion.socrates.Gender;
+import com.github.reducktion.socrates.PackedCitizen;
+import com.github.reducktion.socrates.TwoDigitYearResolver;
+import com.github.reducktion.socrates.internal.AsciiDigits;
+import com.github.reducktion.socrates.internal.Mod97Algorithm;
+import com.github.reducktion.socrates.internal.PackedDate;
+
+/**
+ * {@link NationalIdValidator} for France.
+ *
+ * @see FranceNationalId
+ */
+final class FranceNationalIdValidator extends AbstractNationalIdValidator {
+
+    static final FranceNationalIdValidator INSTANCE = new FranceNationalIdValidator();
+
+    private static final int ID_NUMBER_OF_CHARACTERS = 15;
+    private static final int CONTROL_DIGIT_INDEX = 13;
+    private static final int CONTROL_DIGIT_MAX_VALUE = 97;
+    private static final int DEPARTMENT_INDEX = 5;
+    private static final char CHARACTER_MALE = '1';
+    private static final int JANUARY = 1;
+    private static final int DECEMBER = 12;
+    private static final int PSEUDO_FICTITIOUS_JANUARY = 31;
+    private static final int PSEUDO_FICTITIOUS_DECEMBER = 42;
+
+    // the code of a place of birth is the number of its two characters, where "2A" and "2B" are 100 and 101, or 1000
+    // plus the number of its three characters
+    private static final int CORSICA_A_CODE = 100;
+    private static final int CORSICA_B_CODE = 101;
+    private static final int THREE_CHARACTERS_CODE_OFFSET = 1000;
+    private static final String[] PLACES_OF_BIRTH = indexPlacesOfBirth();
+    private static final Map<String, Integer> PLACE_OF_BIRTH_CODES = indexPlaceOfBirthCodes();
+
+    private FranceNationalIdValidator() {}
+
+    @Override
+    FailureReason validateSanitized(
+        final CharSequence id,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final DecodedId decodedId
+    ) {
+        if (id.length() != ID_NUMBER_OF_CHARACTERS) {
+            return FailureReason.INVALID_LENGTH;
+        }
+
+        // the Corsican departments 2A and 2B are replaced by 19 and 18 respectively
+        final int remainder =
+            Mod97Algorithm.remainderWithCorsicanDepartment(id, 0, CONTROL_DIGIT_INDEX, DEPARTMENT_INDEX);
+        if (remainder == Mod97Algorithm.INVALID || !isNumeric(id, CONTROL_DIGIT_INDEX, ID_NUMBER_OF_CHARACTERS)) {
+            return FailureReason.INVALID_CHARACTERS;
+        }
+
+        final int controlDigit = toInt(id, CONTROL_DIGIT_INDEX, ID_NUMBER_OF_CHARACTERS);
+        if (controlDigit != CONTROL_DIGIT_MAX_VALUE - remainder) {
+            return FailureReason.INVALID_CHECKSUM;
+        }
+
+        decodedId.dateOfBirth = decodeDateOfBirth(id, twoDigitYearResolver);
+        return null;
+    }
+
+    @Override
+    long extractPackedCitizen(final CharSequence id, final DecodedId decodedId) {
+        final int monthOfBirth = PackedDate.month(decodedId.dateOfBirth);
+
+        return PackedCitizen.pack(
+            id.charAt(0) == CHARACTER_MALE ? Gender.MALE : Gender.FEMALE,
+            PackedDate.year(decodedId.dateOfBirth),
+            monthOfBirth == 0 ? PackedCitizen.ABSENT : monthOfBirth,
+            PackedCitizen.ABSENT,
+            extractPlaceOfBirthCode(id)
+        );
+    }
+
+    @Override
+    public String getPlaceOfBirth(final int placeOfBirthCode) {
+        return placeOfBirthCode >= 0 && placeOfBirthCode < PLACES_OF_BIRTH.length
+            ? PLACES_OF_BIRTH[placeOfBirthCode]
+            : null;
+    }
+
+    @Override
+    public int getPlaceOfBirthCode(final String placeOfBirth) {
+        final Integer code = placeOfBirth == null ? null : PLACE_OF_BIRTH_CODES.get(placeOfBirth);
+        return code == null ? PackedCitizen.ABSENT : code;
+    }
+
+    /**
+     * Decodes the date of birth, which only has the last two digits of the year and the month. The month is unknown
+     * when it is not between 1 and 12, nor between 31 and 42 (for some people born abroad).
+     *
+     * @param id an id with ASCII digits from the 2nd to the 5th character
+     * @param twoDigitYearResolver the resolver for the year
+     * @return the {@link PackedDate}, whose day is always 0 (unknown)
+     */
+    private static int decodeDateOfBirth(final CharSequence id, final TwoDigitYearResolver twoDigitYearResolver) {
+        final int yearOfBirth = twoDigitYearResolver.resolve(PackedDate.decodeTwoDigits(id, 1));
+        final int monthCode = PackedDate.decodeTwoDigits(id, 3);
+
+        final int monthOfBirth;
+        if (monthCode >= JANUARY && monthCode <= DECEMBER) {
+            monthOfBirth = monthCode;
+        } else if (monthCode >= PSEUDO_FICTITIOUS_JANUARY && monthCode <= PSEUDO_FICTITIOUS_DECEMBER) {
+            monthOfBirth = monthCode - (PSEUDO_FICTITIOUS_JANUARY - 1);
+        } else {
+            monthOfBirth = 0;
+        }
+
+        return PackedDate.of(yearOfBirth, monthOfBirth, 0);
+    }
+
+    // the region of the two characters, if any, otherwise the region of the three characters
+    private static int extractPlaceOfBirthCode(final CharSequence id) {
+        final int twoCharactersCode = toPlaceOfBirthCode(id.charAt(5), id.charAt(6));
+        if (twoCharactersCode >= 0 && PLACES_OF_BIRTH[twoCharactersCode] != null) {
+            return twoCharactersCode;
+        }
+
+        final int threeCharactersCode = toPlaceOfBirthCode(id.charAt(5), id.charAt(6), id.charAt(7));
+        if (threeCharactersCode >= 0 && PLACES_OF_BIRTH[threeCharactersCode] != null) {
+            return threeCharactersCode;
+        }
+        return PackedCitizen.ABSENT;
+    }
+
+    private static int toPlaceOfBirthCode(final char first, final char second) {
+        if (first == '2' && second == 'A') {
+            return CORSICA_A_CODE;
+        } else if (first == '2' && second == 'B') {
+            return CORSICA_B_CODE;
+        }
+        final int tens = AsciiDigits.toDigit(first);
+        final int units = AsciiDigits.toDigit(second);
+        return tens < 0 || units < 0 ? -1 : tens * 10 + units;
+    }
+
+    private static int toPlaceOfBirthCode(final char first, final char second, final char third) {
+        final int hundreds = AsciiDigits.toDigit(first);
+        final int tens = AsciiDigits.toDigit(second);
+        final int units = AsciiDigits.toDigit(third);
+        if (hundreds < 0 || tens < 0 || units < 0) {
+            return -1;
+        }
+        return THREE_CHARACTERS_CODE_OFFSET + hundreds * 100 + tens * 10 + units;
+    }
+
+    private static String[] indexPlacesOfBirth() {
+        final String[] placesOfBirth = new String[THREE_CHARACTERS_CODE_OFFSET * 2];
+        for (int code = 0; code < 100; code++) {
+            placesOfBirth[code] = getRegionByCode(String.format("%02d", code));
+        }
+        placesOfBirth[CORSICA_A_CODE] = getRegionByCode("2A");
+        placesOfBirth[CORSICA_B_CODE] = getRegionByCode("2B");
+        for (int code = 0; code < THREE_CHARACTERS_CODE_OFFSET; code++) {
+            placesOfBirth[THREE_CHARACTERS_CODE_OFFSET + code] = getRegionByCode(String.format("%03d", code));
+        }
+        return placesOfBirth;
+    }
+
+    private static Map<String, Integer> indexPlaceOfBirthCodes() {
+        final Map<String, Integer> placeOfBirthCodes = new HashMap<>();
+        for (int code = 0; code < PLACES_OF_BIRTH.length; code++) {
+            if (PLACES_OF_BIRTH[code] != null) {
+                placeOfBirthCodes.putIfAbsent(PLACES_OF_BIRTH[code], code);
+            }
+        }
+        return placeOfBirthCodes;
+    }
+
+    private static String getRegionByCode(final String code) {
+        switch (code) {
+            case "01": return "Ain";
+            case "02": return "Aisne";
+            case "03": return "Allier";
+            case "04": return "Alpes-de-Haute-Provence";
+            case "05": return "Hautes-Alpes";
+            case "06": return "Alpes-Maritimes";
+            case "07": return "Ardèche";
+            case "08": return "Ardennes";
+            case "09": return "Ariège";
+            case "10": return "Aube";
+            case "11": return "Aude";
+            case "12": return "Aveyron";
+            case "13": return "Bouches-du-Rhône";
+            case "14": return "Calvados";
+            case "15": return "Cantal";
+            case "16": return "Charente";
+            case "17": return "Charente-Maritime";
+            case "18": return "Cher";
+            case "19": return "Corrèze";
+            case "2A": return "Corse-du-Sud";
+            case "2B": return "Haute-Corse";
+            case "21": return "Côte-d’Or";
+            case "22": return "Côtes-d’Armor";
+            case "23": return "Creuse";
+            case "24": return "Dordogne";
+            case "25": return "Doubs";
+            case "26": return "Drôme";
+            case "27": return "Eure";
+            case "28": return "Eure-et-Loir";
+            case "29": return "Finistère";
+            case "30": return "Gard";
+            case "31": return "Haute-Garonne";
+            case "32": return "Gers";
+            case "33": return "Gironde";
+            case "34": return "Hérault";
+            case "35": return "Ille-et-Vilaine";
+            case "36": return "Indre";
+            case "37": return "Indre-et-Loire";
+            case "38": return "Isère";
+            case "39": return "Jura";
+            case "40": return "Landes";
+            case "41": return "Loir-et-Cher";
+            case "42": return "Loire";
+            case "43": return "Haute-Loire";
+            case "44": return "Loire-Atlantique";
+            case "45": return "Loiret";
+            case "46": return "Lot";
+            case "47": return "Lot-et-Garonne";
+            case "48": return "Lozère";
+            case "49": return "Maine-et-Loire";
+            case "50": return "Manche";
+            case "51": return "Marne";
+            case "52": return "Haute-Marne";
+            case "53": return "Mayenne";
+            case "54": return "Meurthe-et-Moselle";
+            case "55": return "Meuse";
+            case "56": return "Morbihan";
+            case "57": return "Moselle";
+            case "58": return "Nièvre";
+            case "59": return "Nord";
+            case "60": return "Oise";
+            case "61": return "Orne";
+            case "62": return "Pas-de-Calais";
+            case "63": return "Puy-de-Dôme";
+            case "64": return "Pyrénées-Atlantiques";
+            case "65": return "Hautes-Pyrénées";
+            case "66": return "Pyrénées-Orientales";
+            case "67": return "Bas-Rhin";
+            case "68": return "Haut-Rhin";
+            case "69": return "Rhône";
+            case "70": return "Haute-Saône";
+            case "71": return "Saône-et-Loire";
+            case "72": return "Sarthe";
+            case "73": return "Savoie";
+            case "74": return "Haute-Savoie";
+            case "75": return "Paris";
+            case "76": return "Seine-Maritime";
+            case "77": return "Seine-et-Marne";
+            case "78": return "Yvelines";
+            case "79": return "Deux-Sèvres";
+            case "80": return "Somme";
+            case "81": return "Tarn";
+            case "82": return "Tarn-et-Garonne";
+            case "83": return "Var";
+            case "84": return "Vaucluse";
+            case "85": return "Vendée";
+            case "86": return "Vienne";
+            case "87": return "Haute-Vienne";
+            case "88": return "Vosges";
+            case "89": return "Yonne";
+            case "90": return "Territoire de Belfort";
+            case "91": return "Essonne";
+            case "92": return "Hauts-de-Seine";
+            case "93": return "Seine-Saint-Denis";
+            case "94": return "Val-de-Marne";
+            case "95": return "Val-d'Oise";
+            case "971": return "Guadeloupe";
+            case "972": return "Martinique";
+            case "973": return "Guyane (française)";
+            case "974": return "La Réunion";
+            case "975": return "Saint Pierre and Miquelon";
+            case "976": return "Mayotte";
+            case "977": return "Saint-Barthélemy";
+            case "978": return "Saint-Martin";
+            case "984": return "Terres australes et antarctiques françaises";
+            case "986": return "Wallis-et-Futuna";
+            case "987": return "Polynésie française";
+            case "988": return "Nouvelle-Calédonie";
+            case "989": return "Île de Clipperton";
+            default: return null;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.github.reducktion.socrates.nationalid;
+
+import com.github.reducktion.socrates.FailureReason;
+import com.github.reducktion.socrates.TwoDigitYearResolver;
+import com.github.reducktion.socrates.internal.AsciiDigits;
+
+/**
+ * {@link NationalIdValidator} for Germany.
+ *
+ * @see GermanyNationalId
+ */
+final class GermanyNationalIdValidator extends AbstractNationalIdValidator {
+
+    static final GermanyNationalIdValidator INSTANCE = new GermanyNationalIdValidator();
+
+    private static final int ID_NUMBER_OF_CHARACTERS = 11;
+    private static final int ID_NR_NUMBER_OF_CHARACTERS = 10;
+    private static final int CHECK_DIGIT_INDEX = 10;
+    private static final int MAX_EQUAL_DIGITS = 3;
+    private static final int MAX_CONSECUTIVE_EQUAL_DIGITS = 2;
+    private static final int INITIAL_REMAINDER_MOD_ELEVEN = 10; // from the official source code, see below
+
+    // the histogram of the digits is a long with 4 bits per digit, since each digit occurs at most 10 times
+    private static final int HISTOGRAM_BITS_PER_DIGIT = 4;
+    private static final int HISTOGRAM_COUNT_MASK = (1 << HISTOGRAM_BITS_PER_DIGIT) - 1;
+
+    // returned by the fast path of validateAll for the ids that must be sanitized first; no rule of the sanitized ids
+    // returns it, since their length is checked before the rules
+    private static final FailureReason NOT_SANITIZED = FailureReason.INVALID_LENGTH;
+
+    private GermanyNationalIdValidator() {}
+
+    /**
+     * Validates the ids one by one. Most of the ids in a column are already 11 ASCII digits, which are validated as
+     * they are, and only the other ones are sanitized, so the results are the same as for
+     * {@link #validate(CharSequence, TwoDigitYearResolver)}.
+     */
+    @Override
+    public void validateAll(
+        final CharSequence[] ids,
+        final int from,
+        final int to,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final FailureReason[] failureReasons
+    ) {
+        for (int i = from; i < to; i++) {
+            final CharSequence id = ids[i];
+            FailureReason failureReason = NOT_SANITIZED;
+            if (id != null && id.length() == ID_NUMBER_OF_CHARACTERS) {
+                failureReason = validateDigits(id, NOT_SANITIZED);
+            }
+            // an id with separators or non-ASCII digits may still be valid once it is sanitized
+            if (failureReason == NOT_SANITIZED) {
+                failureReason = validate(id, twoDigitYearResolver);
+            }
+            failureReasons[i - from] = failureReason;
+        }
+    }
+
+    @Override
+    FailureReason validateSanitized(
+        final CharSequence id,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final DecodedId decodedId
+    ) {
+        if (id.length() != ID_NUMBER_OF_CHARACTERS) {
+            return FailureReason.INVALID_LENGTH;
+        }
+        return validateDigits(id, FailureReason.INVALID_CHARACTERS);
+    }
+
+    // computes the check digit, the histogram of the digits and the length of their runs in a single pass; the id must
+    // have 11 characters, and the ones that are not ASCII digits fail with notDigitReason
+    private static FailureReason validateDigits(final CharSequence id, final FailureReason notDigitReason) {
+        int remainderModEleven = INITIAL_REMAINDER_MOD_ELEVEN;
+        long histogram = 0;
+        int previousDigit = -1;
+        int consecutiveEqualDigits = 0;
+        boolean hasTooManyEqualDigits = false;
+
+        for (int i = 0; i < ID_NR_NUMBER_OF_CHARACTERS; i++) {
+            final int digit = AsciiDigits.toDigit(id.charAt(i));
+            if (digit < 0) {
+                return notDigitReason;
+            }
+            remainderModEleven = computeRemainderModEleven(remainderModEleven, digit);
+
+            final int shift = digit * HISTOGRAM_BITS_PER_DIGIT;
+            histogram += 1L << shift;
+            consecutiveEqualDigits = digit == previousDigit ? consecutiveEqualDigits + 1 : 1;
+            previousDigit = digit;
+            hasTooManyEqualDigits |= (histogram >>> shift & HISTOGRAM_COUNT_MASK) > MAX_EQUAL_DIGITS
+                || consecutiveEqualDigits > MAX_CONSECUTIVE_EQUAL_DIGITS;
+        }
+
+        final int checkDigit = AsciiDigits.toDigit(id.charAt(CHECK_DIGIT_INDEX));
+        if (checkDigit < 0) {
+            return notDigitReason;
+        }
+        if (hasTestIdentifierPrefix(id)) {
+            return FailureReason.RESERVED_VALUE;
+        }
+        if (checkDigit != computeCheckDigit(remainderModEleven)) {
+            return FailureReason.INVALID_CHECKSUM;
+        }
+        return hasTooManyEqualDigits ? FailureReason.INVALID_CHARACTERS : null;
+    }
+
+    // id's with leading zeros indicate a test and are not considered valid
+    private static boolean hasTestIdentifierPrefix(final CharSequence id) {
+        return id.charAt(0) == '0';
+    }
+
+    /*
+     * == adapted from the official source code of the document below; keep the arithmetic unchanged ==
+     *
+     * This method computes the check digit for a German tax identification
+     * number (IdNr).
+     * Based on finding the division remainder (modulo calculation) the check
+     * digit depends on each preceding numeric digit on position 1 to 10.
+     * The chosen way of calculation combines and applies two commonly used modulo
+     * operations. For each digit on positions 1 to 10 the remainders of both
+     * divisions by eleven and ten are used in consecutive arithmetic steps.
+     * The calculation result must correspond with the numeric digit on position 11.
+     * This approach considers each digit in a specific way for being able
+     * to detect falsely edited IdNr in a reliable and efficient way.
+     *
+     * The official source code is split into the initial remainder, the body of the loop over the digits and the
+     * statements after the loop, so that the loop can also check the other rules of the IdNr, and the check digit is
+     * returned as an int. The arithmetic is the same, statement by statement.
+     *
+     * Source: https://www.zfa.deutsche-rentenversicherung-bund.de/de/Inhalt/public/4_ID/47_Pruefziffernberechnung/
+     * 001_Pruefziffernberechnung.pdf (Informations Technik Zentrum Bund, Steueridentifikationsnummer (IdNr) nach
+     * § 139b AO, Informationen zur Berechnung gültiger Prüfziffern)
+     */
+    private static int computeRemainderModEleven(final int remainderModEleven, final int digit) {
+        final int ten = 10;
+        final int eleven = 11;
+        int remainderModTen = (digit + remainderModEleven) % ten;
+        if (remainderModTen == 0) {
+            remainderModTen = ten;
+        }
+        return (2 * remainderModTen) % eleven;
+    }
+
+    private static int computeCheckDigit(final int remainderModEleven) {
+        final int eleven = 11;
+        int digit = eleven - remainderModEleven;
+        if (digit == 10) {
+            digit = 0;
+        }
+        return digit;
+    }
+}
@@ -0,0 +1,171 @@
+package com.github.reducktion.socrates.nationalid;
+
+import java.util.Arrays;
+
+import com.github.reducktion.socrates.FailureReason;
+import com.github.reducktion.socrates.Gender;
+import com.github.reducktion.socrates.PackedCitizen;
+import com.github.reducktion.socrates.TwoDigitYearResolver;
+import com.github.reducktion.socrates.internal.ItalyOmocodiaSwapper;
+import com.github.reducktion.socrates.internal.ItalyRegions;
+import com.github.reducktion.socrates.internal.PackedDate;
+
+/**
+ * {@link NationalIdValidator} for Italy.
+ *
+ * @see ItalyNationalId
+ */
+final class ItalyNationalIdValidator extends AbstractNationalIdValidator {
+
+    static final ItalyNationalIdValidator INSTANCE = new ItalyNationalIdValidator();
+
+    private static final int ID_NUMBER_OF_CHARACTERS = 16;
+    private static final int CONTROL_CHARACTER_INDEX = 15;
+    private static final int MONTH_INDEX = 8;
+    static final String MONTH_CODES = "ABCDEHLMPRST";
+    private static final int FEMALE_DAY_OFFSET = 40;
+
+    // positions are 1-based, so odd positions are at even indexes
+    private static final String ODD_CHARACTERS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final int[] ODD_CHARACTER_VALUES = {
+        1, 0, 5, 7, 9, 13, 15, 17, 19, 21,
+        1, 0, 5, 7, 13, 9, 15, 17, 19, 21, 2, 4, 18, 20, 11, 3, 6, 8, 12, 14, 16, 10, 22, 25, 24, 23
+    };
+
+    // the value of each ASCII character at odd and even positions, or -1 if it is not valid
+    private static final byte[] ODD_VALUES = new byte[128];
+    private static final byte[] EVEN_VALUES = new byte[128];
+    private static final byte[] MONTHS = new byte[128];
+
+    // the seven numerical characters, read as a number, are the year, the day and the number of the place of birth
+    private static final int YEAR_DIVISOR = 100_000;
+    private static final int DAY_DIVISOR = 1_000;
+
+    static {
+        Arrays.fill(ODD_VALUES, (byte) -1);
+        Arrays.fill(EVEN_VALUES, (byte) -1);
+        for (int i = 0; i < ODD_CHARACTERS.length(); i++) {
+            ODD_VALUES[ODD_CHARACTERS.charAt(i)] = (byte) ODD_CHARACTER_VALUES[i];
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            EVEN_VALUES[c] = (byte) (c - '0');
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            EVEN_VALUES[c] = (byte) (c - 'A');
+        }
+        for (int i = 0; i < MONTH_CODES.length(); i++) {
+            MONTHS[MONTH_CODES.charAt(i)] = (byte) (i + 1);
+        }
+    }
+
+    private ItalyNationalIdValidator() {}
+
+    // computes the checksum, swaps the omocodia characters and decodes the numerical characters in a single pass
+    @Override
+    FailureReason validateSanitized(
+        final CharSequence id,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final DecodedId decodedId
+    ) {
+        if (id.length() != ID_NUMBER_OF_CHARACTERS) {
+            return FailureReason.INVALID_LENGTH;
+        }
+
+        int sum = 0;
+        int digits = 0;
+        for (int i = 0; i < CONTROL_CHARACTER_INDEX; i++) {
+            char character = id.charAt(i);
+            if (ItalyOmocodiaSwapper.isNumericalCharacterPosition(i)) {
+                final int digit = ItalyOmocodiaSwapper.toDigit(character);
+                if (digit < 0) {
+                    return FailureReason.INVALID_CHARACTERS;
+                }
+                digits = digits * 10 + digit;
+                character = (char) ('0' + digit);
+            }
+
+            final int value = getValue(character, i);
+            if (value < 0) {
+                return FailureReason.INVALID_CHARACTERS;
+            }
+            sum += value;
+        }
+
+        decodedId.digits = digits;
+        decodedId.dateOfBirth = decodeDateOfBirth(id.charAt(MONTH_INDEX), digits, twoDigitYearResolver);
+        if (decodedId.dateOfBirth == PackedDate.INVALID) {
+            return FailureReason.INVALID_DATE_OF_BIRTH;
+        }
+        return id.charAt(CONTROL_CHARACTER_INDEX) == (char) ('A' + sum % 26) ? null : FailureReason.INVALID_CHECKSUM;
+    }
+
+    @Override
+    long extractPackedCitizen(final CharSequence id, final DecodedId decodedId) {
+        final int placeOfBirthIndex = ItalyRegions.indexOfCode(id.charAt(11), decodedId.digits % DAY_DIVISOR);
+
+        return PackedCitizen.pack(
+            decodeDayCode(decodedId.digits) > FEMALE_DAY_OFFSET ? Gender.FEMALE : Gender.MALE,
+            PackedDate.year(decodedId.dateOfBirth),
+            PackedDate.month(decodedId.dateOfBirth),
+            PackedDate.day(decodedId.dateOfBirth),
+            ItalyRegions.getRegionByIndex(placeOfBirthIndex) == null ? PackedCitizen.ABSENT : placeOfBirthIndex
+        );
+    }
+
+    // the code of a place of birth is the index of its cadastral code
+    @Override
+    public String getPlaceOfBirth(final int placeOfBirthCode) {
+        return ItalyRegions.getRegionByIndex(placeOfBirthCode);
+    }
+
+    @Override
+    public int getPlaceOfBirthCode(final String placeOfBirth) {
+        final int index = ItalyRegions.indexOfRegion(placeOfBirth);
+        return index < 0 ? PackedCitizen.ABSENT : index;
+    }
+
+    /**
+     * Computes the control character of an id, from its first fifteen characters, with the omocodia characters swapped
+     * back to their digits, as when it is validated.
+     *
+     * @param id the id, with at least fifteen characters that are valid in their positions
+     * @return the control character
+     */
+    static char computeControlCharacter(final CharSequence id) {
+        int sum = 0;
+        for (int i = 0; i < CONTROL_CHARACTER_INDEX; i++) {
+            final char character = id.charAt(i);
+            sum += ItalyOmocodiaSwapper.isNumericalCharacterPosition(i)
+                ? getValue((char) ('0' + ItalyOmocodiaSwapper.toDigit(character)), i)
+                : getValue(character, i);
+        }
+        return (char) ('A' + sum % 26);
+    }
+
+    private static int getValue(final char character, final int index) {
+        if (character >= ODD_VALUES.length) {
+            return -1;
+        }
+        return index % 2 == 0 ? ODD_VALUES[character] : EVEN_VALUES[character];
+    }
+
+    // the day of birth of women is increased by 40
+    private static int decodeDateOfBirth(
+        final char monthCode,
+        final int digits,
+        final TwoDigitYearResolver twoDigitYearResolver
+    ) {
+        final int month = monthCode < MONTHS.length ? MONTHS[monthCode] : 0;
+        final int dayCode = decodeDayCode(digits);
+        final int day = dayCode > FEMALE_DAY_OFFSET ? dayCode - FEMALE_DAY_OFFSET : dayCode;
+
+        if (month == 0 || day <= 0) {
+            return PackedDate.INVALID;
+        }
+        return PackedDate.of(twoDigitYearResolver.resolve(digits / YEAR_DIVISOR), month, day);
+    }
+
+    private static int decodeDayCode(final int digits) {
+        return digits / DAY_DIVISOR % 100;
+    }
+}
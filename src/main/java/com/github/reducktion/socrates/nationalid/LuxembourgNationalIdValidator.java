@@ -0,0 +1,43 @@
+package com.github.reducktion.socrates.nationalid;
+
+import com.github.reducktion.socrates.FailureReason;
+import com.github.reducktion.socrates.TwoDigitYearResolver;
+import com.github.reducktion.socrates.internal.LuhnAlgorithm;
+import com.github.reducktion.socrates.internal.VerhoeffAlgorithm;
+
+/**
+ * {@link NationalIdValidator} for Luxembourg.
+ *
+ * @see LuxembourgNationalId
+ */
+final class LuxembourgNationalIdValidator extends AbstractNationalIdValidator {
+
+    static final LuxembourgNationalIdValidator INSTANCE = new LuxembourgNationalIdValidator();
+
+    private static final int ID_NUMBER_OF_CHARACTERS = 13;
+    private static final int PARTIAL_ID_NUMBER_OF_CHARACTERS = 11;
+
+    private LuxembourgNationalIdValidator() {}
+
+    @Override
+    FailureReason validateSanitized(
+        final CharSequence id,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final DecodedId decodedId
+    ) {
+        if (id.length() != ID_NUMBER_OF_CHARACTERS) {
+            return FailureReason.INVALID_LENGTH;
+        }
+        if (!isNumeric(id, 0, ID_NUMBER_OF_CHARACTERS)) {
+            return FailureReason.INVALID_CHARACTERS;
+        }
+
+        final int luhnCheckDigit = id.charAt(11) - '0';
+        final int verhoeffCheckDigit = id.charAt(12) - '0';
+
+        return luhnCheckDigit == LuhnAlgorithm.computeCheckDigit(id, 0, PARTIAL_ID_NUMBER_OF_CHARACTERS)
+            && verhoeffCheckDigit == VerhoeffAlgorithm.computeCheckDigit(id, 0, PARTIAL_ID_NUMBER_OF_CHARACTERS)
+            ? null
+            : FailureReason.INVALID_CHECKSUM;
+    }
+}
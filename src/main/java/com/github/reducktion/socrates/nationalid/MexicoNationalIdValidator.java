@@ -0,0 +1,225 @@
+package com.github.reducktion.socrates.nationalid;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.github.reducktion.socrates.FailureReason;
+import com.github.reducktion.socrates.Gender;
+import com.github.reducktion.socrates.PackedCitizen;
+import com.github.reducktion.socrates.TwoDigitYearResolver;
+import com.github.reducktion.socrates.internal.FourLetterWords;
+import com.github.reducktion.socrates.internal.PackedDate;
+
+/**
+ * {@link NationalIdValidator} for Mexico.
+ *
+ * @see MexicoNationalId
+ */
+final class MexicoNationalIdValidator extends AbstractNationalIdValidator {
+
+    static final MexicoNationalIdValidator INSTANCE = new MexicoNationalIdValidator();
+
+    private static final int ID_NUMBER_OF_CHARACTERS = 18;
+    private static final char FEMALE_CHARACTER = 'M';
+    private static final int CHECK_DIGIT_INDEX = 17;
+    private static final int DATE_OF_BIRTH_INDEX = 4;
+    private static final int GENDER_INDEX = 10;
+    private static final int ASCII_CHARACTERS = 128;
+
+    // the classes of characters, as bits, and the classes allowed at each position:
+    // [A-Z]{4}[0-9]{6}[HM][A-Z]{2}[B-DF-HJ-NP-TV-Z]{3}[A-Z0-9][0-9]
+    private static final int LETTER = 1;
+    private static final int DIGIT = 1 << 1;
+    private static final int CONSONANT = 1 << 2;
+    private static final int GENDER = 1 << 3;
+    private static final int[] POSITION_CLASSES = {
+        LETTER, LETTER, LETTER, LETTER,
+        DIGIT, DIGIT, DIGIT, DIGIT, DIGIT, DIGIT,
+        GENDER,
+        LETTER, LETTER,
+        CONSONANT, CONSONANT, CONSONANT,
+        LETTER | DIGIT,
+        DIGIT
+    };
+    private static final byte[] CHARACTER_CLASSES = classifyCharacters();
+
+    // the value of each character in the check digit, i.e. its index in the dictionary
+    private static final String DICTIONARY = "0123456789ABCDEFGHIJKLMN&OPQRSTUVWXYZ";
+    private static final byte[] CHARACTER_VALUES = valueCharacters();
+
+    private static final FourLetterWords INAPPROPRIATE_WORDS =
+        FourLetterWords.fromResource("/mexico_inappropriate_words.txt");
+
+    // the code of a place of birth is the index of its two letters, from 0 for "AA" to 675 for "ZZ"
+    private static final int LETTERS = 26;
+    private static final String[] PLACES_OF_BIRTH = indexPlacesOfBirth();
+    private static final Map<String, Integer> PLACE_OF_BIRTH_CODES = indexPlaceOfBirthCodes();
+
+    private MexicoNationalIdValidator() {}
+
+    @Override
+    FailureReason validateSanitized(
+        final CharSequence id,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final DecodedId decodedId
+    ) {
+        if (id.length() != ID_NUMBER_OF_CHARACTERS) {
+            return FailureReason.INVALID_LENGTH;
+        }
+
+        // checks the class of every character, while decoding the date of birth and summing the check digit
+        int dateOfBirthDigits = 0;
+        int sum = 0;
+        for (int i = 0; i < ID_NUMBER_OF_CHARACTERS; i++) {
+            final char c = id.charAt(i);
+            if (c >= ASCII_CHARACTERS || (CHARACTER_CLASSES[c] & POSITION_CLASSES[i]) == 0) {
+                return FailureReason.INVALID_CHARACTERS;
+            }
+            if (i >= DATE_OF_BIRTH_INDEX && i < GENDER_INDEX) {
+                dateOfBirthDigits = dateOfBirthDigits * 10 + c - '0';
+            }
+            if (i < CHECK_DIGIT_INDEX) {
+                sum += CHARACTER_VALUES[c] * (ID_NUMBER_OF_CHARACTERS - i);
+            }
+        }
+
+        if (INAPPROPRIATE_WORDS.occursIn(id)) {
+            return FailureReason.RESERVED_VALUE;
+        }
+
+        // the digits are yymmdd
+        decodedId.dateOfBirth = PackedDate.of(
+            twoDigitYearResolver.resolve(dateOfBirthDigits / 10_000),
+            dateOfBirthDigits / 100 % 100,
+            dateOfBirthDigits % 100
+        );
+        if (decodedId.dateOfBirth == PackedDate.INVALID) {
+            return FailureReason.INVALID_DATE_OF_BIRTH;
+        }
+        return id.charAt(CHECK_DIGIT_INDEX) - '0' == (10 - sum % 10) % 10 ? null : FailureReason.INVALID_CHECKSUM;
+    }
+
+    @Override
+    long extractPackedCitizen(final CharSequence id, final DecodedId decodedId) {
+        final int placeOfBirthCode = (id.charAt(11) - 'A') * LETTERS + id.charAt(12) - 'A';
+
+        return PackedCitizen.pack(
+            id.charAt(GENDER_INDEX) == FEMALE_CHARACTER ? Gender.FEMALE : Gender.MALE,
+            PackedDate.year(decodedId.dateOfBirth),
+            PackedDate.month(decodedId.dateOfBirth),
+            PackedDate.day(decodedId.dateOfBirth),
+            PLACES_OF_BIRTH[placeOfBirthCode] == null ? PackedCitizen.ABSENT : placeOfBirthCode
+        );
+    }
+
+    @Override
+    public String getPlaceOfBirth(final int placeOfBirthCode) {
+        return placeOfBirthCode >= 0 && placeOfBirthCode < PLACES_OF_BIRTH.length
+            ? PLACES_OF_BIRTH[placeOfBirthCode]
+            : null;
+    }
+
+    @Override
+    public int getPlaceOfBirthCode(final String placeOfBirth) {
+        final Integer code = placeOfBirth == null ? null : PLACE_OF_BIRTH_CODES.get(placeOfBirth);
+        return code == null ? PackedCitizen.ABSENT : code;
+    }
+
+    /**
+     * Computes the check digit of an id, from its first seventeen characters.
+     *
+     * @param id the id, with at least seventeen characters that are valid in their positions
+     * @return the check digit, from '0' to '9'
+     */
+    static char computeCheckDigit(final CharSequence id) {
+        int sum = 0;
+        for (int i = 0; i < CHECK_DIGIT_INDEX; i++) {
+            sum += CHARACTER_VALUES[id.charAt(i)] * (ID_NUMBER_OF_CHARACTERS - i);
+        }
+        return (char) ('0' + (10 - sum % 10) % 10);
+    }
+
+    private static byte[] classifyCharacters() {
+        final byte[] characterClasses = new byte[ASCII_CHARACTERS];
+        for (char c = '0'; c <= '9'; c++) {
+            characterClasses[c] = DIGIT;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            characterClasses[c] = (byte) (isVowel(c) ? LETTER : LETTER | CONSONANT);
+        }
+        characterClasses['H'] |= GENDER;
+        characterClasses['M'] |= GENDER;
+        return characterClasses;
+    }
+
+    private static boolean isVowel(final char c) {
+        return c == 'A' || c == 'E' || c == 'I' || c == 'O' || c == 'U';
+    }
+
+    private static byte[] valueCharacters() {
+        final byte[] characterValues = new byte[ASCII_CHARACTERS];
+        for (int i = 0; i < DICTIONARY.length(); i++) {
+            characterValues[DICTIONARY.charAt(i)] = (byte) i;
+        }
+        return characterValues;
+    }
+
+    private static String[] indexPlacesOfBirth() {
+        final String[] placesOfBirth = new String[LETTERS * LETTERS];
+        for (int code = 0; code < placesOfBirth.length; code++) {
+            placesOfBirth[code] = getRegionByCode(
+                new String(new char[] { (char) ('A' + code / LETTERS), (char) ('A' + code % LETTERS) })
+            );
+        }
+        return placesOfBirth;
+    }
+
+    private static Map<String, Integer> indexPlaceOfBirthCodes() {
+        final Map<String, Integer> placeOfBirthCodes = new HashMap<>();
+        for (int code = 0; code < PLACES_OF_BIRTH.length; code++) {
+            if (PLACES_OF_BIRTH[code] != null) {
+                placeOfBirthCodes.put(PLACES_OF_BIRTH[code], code);
+            }
+        }
+        return placeOfBirthCodes;
+    }
+
+    private static String getRegionByCode(final String code) {
+        switch (code) {
+            case "AS": return "AGUASCALIENTES";
+            case "BS": return "BAJA CALIFORNIA SUR";
+            case "CL": return "COAHUILA";
+            case "CS": return "CHIAPAS";
+            case "DF": return "DISTRITO FEDERAL";
+            case "GT": return "GUANAJUATO";
+            case "HG": return "HIDALGO";
+            case "MC": return "MÉXICO";
+            case "MS": return "MORELOS";
+            case "NL": return "NUEVO LEÓN";
+            case "PL": return "PUEBLA";
+            case "QR": return "QUINTANA ROO";
+            case "SL": return "SINALOA";
+            case "TC": return "TABASCO";
+            case "TL": return "TLAXCALA";
+            case "YN": return "YUCATÁN";
+            case "NE": return "NACIDO EN EL EXTRANJERO";
+            case "BC": return "BAJA CALIFORNIA";
+            case "CC": return "CAMPECHE";
+            case "CM": return "COLIMA";
+            case "CH": return "CHIHUAHUA";
+            case "DG": return "DURANGO";
+            case "GR": return "GUERRERO";
+            case "JC": return "JALISCO";
+            case "MN": return "MICHOACÁN";
+            case "NT": return "NAYARIT";
+            case "OC": return "OAXACA";
+            case "QT": return "QUERÉTARO";
+            case "SP": return "SAN LUIS POTOSÍ";
+            case "SR": return "SONORA";
+            case "TS": return "TAMAULIPAS";
+            case "VZ": return "VERACRUZ";
+            case "ZS": return "ZACATECAS";
+            default: return null;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.util.Objects;
 import java.util.Optional;
 
 import com.github.reducktion.socrates.Citizen;
+import com.github.reducktion.socrates.internal.SanitizedId;
 
 public abstract class NationalId {
 
@@ -15,8 +16,14 @@ public abstract class NationalId {
         sanitizedId = sanitize(id);
     }
 
+    // the digits are converted to ASCII digits, so that the extraction only has to decode those
     private String sanitize(final String id) {
-        return id == null ? null : id.replaceAll("[. -]+", "").toUpperCase();
+        if (id == null) {
+            return null;
+        }
+
+        final SanitizedId sanitized = new SanitizedId();
+        return sanitized.sanitize(id) ? sanitized.toString() : id.replaceAll("[. -]+", "").toUpperCase();
     }
 
     public abstract boolean isValid();
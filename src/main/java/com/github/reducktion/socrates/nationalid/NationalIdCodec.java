@@ -0,0 +1,462 @@
+package com.github.reducktion.socrates.nationalid;
+
+import com.github.reducktion.socrates.Country;
+import com.github.reducktion.socrates.internal.AsciiDigits;
+import com.github.reducktion.socrates.internal.ItalyOmocodiaSwapper;
+import com.github.reducktion.socrates.internal.LongHashSet;
+import com.github.reducktion.socrates.internal.Mod23Algorithm;
+import com.github.reducktion.socrates.internal.SanitizedId;
+
+/**
+ * Packs the valid national identification numbers of every country in a {@code long}, from which they are decoded
+ * without loss, so that millions of ids can be stored, hashed and sorted as primitives instead of {@link NationalId}s.
+ * <p>
+ * The id is packed in its sanitized form, i.e. without separators and with upper case letters and ASCII digits, so the
+ * ids that only differ by those have the same packed id, as the {@link NationalId}s that are equal. Each character is
+ * stored as its index in the alphabet of its position, in a mixed radix number read from left to right, and the check
+ * characters are left out where they are needed to fit in 63 bits, since they are computed back from the others:
+ * <ul>
+ *     <li>the ids of Belgium, Brazil, Canada, Denmark, Germany, Luxembourg and the USA are their digits, read as a
+ *     number;</li>
+ *     <li>the French NIR is its digits, with the Corsican departments "2A" and "2B" stored above them;</li>
+ *     <li>the Spanish DNI and NIE are their first eight characters in base 13, since the "X", "Y" and "Z" of the NIE
+ *     are accepted in any of them;</li>
+ *     <li>the Portuguese Cartão de Cidadão is its twelve characters in base 36;</li>
+ *     <li>the Italian codice fiscale is its first fifteen characters, where the day of birth is one of the 80 codes
+ *     from "00" to "79", followed by its number of omocodia substitutions;</li>
+ *     <li>the Mexican CURP is its first seventeen characters, where the month and the day of birth are one of the 416
+ *     codes from "0000" to "1231".</li>
+ * </ul>
+ * An Italian codice fiscale is only packed if it has letters in the positions of the names and of the place of birth,
+ * and if its omocodia substitutions start from the rightmost digit, as the law prescribes: the other codes that the
+ * validator accepts do not fit in 63 bits. {@link #encodeCanonical(CharSequence, Country)} leaves the substitutions
+ * out, so it only requires the letters.
+ * <p>
+ * The ids are validated with the validator of the {@link NationalIdRegistry}, so a validator supplied by a
+ * {@link NationalIdProvider} must only accept ids in the format of the layout of its country; the ids that do not have
+ * the length of the layout, or that are not numeric for the decimal layouts, are not packed.
+ * <p>
+ * Packed ids are never negative, so {@link #NONE} is never a packed id. Encoding an id does not allocate memory.
+ *
+ * @see CompactNationalId
+ */
+public final class NationalIdCodec {
+
+    /**
+     * The value for an id that is not valid, or that cannot be packed. No packed id has this value.
+     */
+    public static final long NONE = -1L;
+
+    private static final int DECIMAL_RADIX = 10;
+    private static final int LETTERS = 26;
+    private static final String ALPHANUMERIC_CHARACTERS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    private static final int FRANCE_LENGTH = 15;
+    private static final int FRANCE_CORSICAN_LETTER_INDEX = 6;
+    private static final long FRANCE_DIGITS_RADIX = pow(DECIMAL_RADIX, FRANCE_LENGTH);
+    private static final String FRANCE_CORSICAN_LETTERS = " AB";
+
+    private static final int SPAIN_LENGTH = 9;
+    private static final int SPAIN_CHECK_LETTER_INDEX = 8;
+    private static final String SPAIN_CHARACTERS = "0123456789XYZ";
+
+    private static final int PORTUGAL_LENGTH = 12;
+
+    private static final int ITALY_LENGTH = 16;
+    private static final int ITALY_NAMES_LENGTH = 6;
+    private static final int ITALY_MONTH_INDEX = 8;
+    private static final int ITALY_PLACE_OF_BIRTH_INDEX = 11;
+    private static final int ITALY_CONTROL_CHARACTER_INDEX = 15;
+    private static final String ITALY_MONTH_CODES = ItalyNationalIdValidator.MONTH_CODES;
+    private static final int ITALY_DAY_CODES = 80;
+    // the numerical characters, from the right, which is the order of the omocodia substitutions
+    private static final int[] ITALY_NUMERICAL_CHARACTER_INDEXES = { 14, 13, 12, 10, 9, 7, 6 };
+    private static final int ITALY_SUBSTITUTION_COUNTS = ITALY_NUMERICAL_CHARACTER_INDEXES.length + 1;
+
+    private static final int MEXICO_LENGTH = 18;
+    private static final int MEXICO_NAMES_LENGTH = 4;
+    private static final int MEXICO_CHECK_DIGIT_INDEX = 17;
+    private static final int MEXICO_DAYS = 32;
+    private static final int MEXICO_MONTH_DAY_CODES = 13 * MEXICO_DAYS;
+    private static final String MEXICO_GENDERS = "HM";
+    private static final String MEXICO_CONSONANTS = "BCDFGHJKLMNPQRSTVWXYZ";
+
+    // the length of the sanitized ids and the limit (exclusive) of the packed ids, indexed by the country ordinal
+    private static final int[] LENGTHS = new int[Country.values().length];
+    private static final long[] LIMITS = new long[Country.values().length];
+
+    private static final ThreadLocal<SanitizedId> SANITIZED_IDS = ThreadLocal.withInitial(SanitizedId::new);
+
+    static {
+        registerDecimal(Country.BE, 11);
+        registerDecimal(Country.BR, 11);
+        registerDecimal(Country.CA, 9);
+        registerDecimal(Country.DE, 11);
+        registerDecimal(Country.DK, 10);
+        registerDecimal(Country.LU, 13);
+        registerDecimal(Country.US, 9);
+        register(Country.FR, FRANCE_LENGTH, FRANCE_CORSICAN_LETTERS.length() * FRANCE_DIGITS_RADIX);
+        register(Country.ES, SPAIN_LENGTH, pow(SPAIN_CHARACTERS.length(), SPAIN_CHECK_LETTER_INDEX));
+        register(Country.PT, PORTUGAL_LENGTH, pow(ALPHANUMERIC_CHARACTERS.length(), PORTUGAL_LENGTH));
+        register(
+            Country.IT,
+            ITALY_LENGTH,
+            pow(LETTERS, ITALY_NAMES_LENGTH + 1) * 100 * ITALY_MONTH_CODES.length() * ITALY_DAY_CODES * 1000
+                * ITALY_SUBSTITUTION_COUNTS
+        );
+        register(
+            Country.MX,
+            MEXICO_LENGTH,
+            pow(LETTERS, MEXICO_NAMES_LENGTH + 2) * 100 * MEXICO_MONTH_DAY_CODES * MEXICO_GENDERS.length()
+                * pow(MEXICO_CONSONANTS.length(), 3) * ALPHANUMERIC_CHARACTERS.length()
+        );
+    }
+
+    private NationalIdCodec() {}
+
+    private static void registerDecimal(final Country country, final int length) {
+        register(country, length, pow(DECIMAL_RADIX, length));
+    }
+
+    private static void register(final Country country, final int length, final long limit) {
+        LENGTHS[country.ordinal()] = length;
+        LIMITS[country.ordinal()] = limit;
+    }
+
+    /**
+     * Checks if the national identification numbers of the country can be packed, i.e. if the country has a layout.
+     *
+     * @param country the {@link Country}
+     * @return true if the country has a layout, false otherwise
+     */
+    public static boolean supports(final Country country) {
+        return country != null && LENGTHS[country.ordinal()] != 0;
+    }
+
+    private static long pow(final int base, final int exponent) {
+        long power = 1;
+        for (int i = 0; i < exponent; i++) {
+            power *= base;
+        }
+        return power;
+    }
+
+    /**
+     * Validates the national identification number and, if it is valid, packs it in a {@code long}.
+     *
+     * @param id the national identification number, may be null
+     * @param country the {@link Country}
+     * @return the packed id, which is not negative, or {@link #NONE} if the {@code id} is not valid or cannot be packed
+     * @throws UnsupportedOperationException if the country is not supported or has no layout
+     */
+    public static long encode(final CharSequence id, final Country country) {
+        return encode(id, country, false);
+    }
+
+    /**
+     * Validates the national identification number and, if it is valid, packs it in a {@code long}, as the id without
+     * omocodia substitutions for Italy, so that all the variants of an Italian codice fiscale have the same packed id,
+     * whatever digits were swapped. The ids of the other countries are packed as by
+     * {@link #encode(CharSequence, Country)}.
+     *
+     * @param id the national identification number, may be null
+     * @param country the {@link Country}
+     * @return the packed id, which is not negative, or {@link #NONE} if the {@code id} is not valid or cannot be packed
+     * @throws UnsupportedOperationException if the country is not supported or has no layout
+     */
+    public static long encodeCanonical(final CharSequence id, final Country country) {
+        return encode(id, country, true);
+    }
+
+    private static long encode(final CharSequence id, final Country country, final boolean canonical) {
+        requireLayout(country);
+        if (!NationalIdRegistry.getValidator(country).isValid(id)) {
+            return NONE;
+        }
+
+        final SanitizedId sanitizedId = SANITIZED_IDS.get();
+        sanitizedId.sanitize(id);
+        if (sanitizedId.length() != LENGTHS[country.ordinal()]) {
+            return NONE;
+        }
+        switch (country) {
+            case ES: return encodeSpain(sanitizedId);
+            case FR: return encodeFrance(sanitizedId);
+            case IT: return encodeItaly(sanitizedId, canonical);
+            case MX: return encodeMexico(sanitizedId);
+            case PT: return encodePortugal(sanitizedId);
+            default: return encodeDecimal(sanitizedId);
+        }
+    }
+
+    /**
+     * Decodes a packed id back into the sanitized national identification number, i.e. without separators and with
+     * upper case letters and ASCII digits.
+     *
+     * @param packedId the packed id, from {@link #encode(CharSequence, Country)} with the same country
+     * @param country the {@link Country}
+     * @return the national identification number
+     * @throws IllegalArgumentException if the packed id is out of the range of the packed ids of the country
+     * @throws UnsupportedOperationException if the country is not supported or has no layout
+     */
+    public static String decode(final long packedId, final Country country) {
+        checkPackedId(packedId, country);
+
+        final StringBuilder id = new StringBuilder(LENGTHS[country.ordinal()]);
+        id.setLength(LENGTHS[country.ordinal()]);
+        switch (country) {
+            case ES:
+                decodeSpain(packedId, id);
+                break;
+            case FR:
+                decodeFrance(packedId, id);
+                break;
+            case IT:
+                decodeItaly(packedId, id);
+                break;
+            case MX:
+                decodeMexico(packedId, id);
+                break;
+            case PT:
+                decodePortugal(packedId, id);
+                break;
+            default:
+                setDigits(id, 0, id.length(), packedId);
+        }
+        return id.toString();
+    }
+
+    /**
+     * Mixes the bits of a packed id, whose high bits are mostly zero, so that its low bits can index the buckets of a
+     * hash table.
+     *
+     * @param packedId the packed id
+     * @return the hash of the packed id
+     */
+    public static long hash(final long packedId) {
+        return LongHashSet.hash(packedId);
+    }
+
+    static void checkPackedId(final long packedId, final Country country) {
+        requireLayout(country);
+        if (packedId < 0 || packedId >= LIMITS[country.ordinal()]) {
+            throw new IllegalArgumentException("Invalid packed id " + packedId + " for " + country + ".");
+        }
+    }
+
+    private static long encodeDecimal(final CharSequence id) {
+        return AsciiDigits.isNumeric(id, 0, id.length()) ? AsciiDigits.toLong(id, 0, id.length()) : NONE;
+    }
+
+    private static void requireLayout(final Country country) {
+        if (country == null) {
+            throw new UnsupportedOperationException("Country not supported.");
+        }
+        if (!supports(country)) {
+            throw new UnsupportedOperationException(
+                "Country " + country + " has no codec layout, so its ids cannot be packed."
+            );
+        }
+    }
+
+    // writes the value as decimal digits, padded with zeros, from index from (inclusive) to index to (exclusive)
+    private static void setDigits(final StringBuilder id, final int from, final int to, final long value) {
+        long remaining = value;
+        for (int i = to - 1; i >= from; i--) {
+            id.setCharAt(i, (char) ('0' + remaining % DECIMAL_RADIX));
+            remaining /= DECIMAL_RADIX;
+        }
+    }
+
+    private static int toLetter(final char c) {
+        final int letter = c - 'A';
+        return letter >= 0 && letter < LETTERS ? letter : -1;
+    }
+
+    private static char fromLetter(final long letter) {
+        return (char) ('A' + letter);
+    }
+
+    // the Corsican letter is read as 0, and stored above the digits
+    private static long encodeFrance(final CharSequence id) {
+        long digits = 0;
+        for (int i = 0; i < FRANCE_LENGTH; i++) {
+            digits = digits * DECIMAL_RADIX + Math.max(AsciiDigits.toDigit(id.charAt(i)), 0);
+        }
+        final int corsicanLetter = FRANCE_CORSICAN_LETTERS.indexOf(id.charAt(FRANCE_CORSICAN_LETTER_INDEX));
+        return Math.max(corsicanLetter, 0) * FRANCE_DIGITS_RADIX + digits;
+    }
+
+    private static void decodeFrance(final long packedId, final StringBuilder id) {
+        setDigits(id, 0, FRANCE_LENGTH, packedId % FRANCE_DIGITS_RADIX);
+
+        final int corsicanLetter = (int) (packedId / FRANCE_DIGITS_RADIX);
+        if (corsicanLetter > 0) {
+            id.setCharAt(FRANCE_CORSICAN_LETTER_INDEX, FRANCE_CORSICAN_LETTERS.charAt(corsicanLetter));
+        }
+    }
+
+    private static long encodeSpain(final CharSequence id) {
+        long packedId = 0;
+        for (int i = 0; i < SPAIN_CHECK_LETTER_INDEX; i++) {
+            packedId = packedId * SPAIN_CHARACTERS.length() + SPAIN_CHARACTERS.indexOf(id.charAt(i));
+        }
+        return packedId;
+    }
+
+    // the NIE prefixes X, Y and Z stand for 0, 1 and 2 respectively in the check letter
+    private static void decodeSpain(final long packedId, final StringBuilder id) {
+        long remaining = packedId;
+        for (int i = SPAIN_CHECK_LETTER_INDEX - 1; i >= 0; i--) {
+            id.setCharAt(i, SPAIN_CHARACTERS.charAt((int) (remaining % SPAIN_CHARACTERS.length())));
+            remaining /= SPAIN_CHARACTERS.length();
+        }
+
+        int remainder = 0;
+        for (int i = 0; i < SPAIN_CHECK_LETTER_INDEX; i++) {
+            final int value = SPAIN_CHARACTERS.indexOf(id.charAt(i));
+            remainder = (remainder * DECIMAL_RADIX + value % DECIMAL_RADIX) % Mod23Algorithm.MODULUS;
+        }
+        id.setCharAt(SPAIN_CHECK_LETTER_INDEX, Mod23Algorithm.checkLetter(remainder));
+    }
+
+    private static long encodePortugal(final CharSequence id) {
+        long packedId = 0;
+        for (int i = 0; i < PORTUGAL_LENGTH; i++) {
+            packedId = packedId * ALPHANUMERIC_CHARACTERS.length() + AsciiDigits.toAlphanumeric(id.charAt(i));
+        }
+        return packedId;
+    }
+
+    private static void decodePortugal(final long packedId, final StringBuilder id) {
+        long remaining = packedId;
+        for (int i = PORTUGAL_LENGTH - 1; i >= 0; i--) {
+            id.setCharAt(i, ALPHANUMERIC_CHARACTERS.charAt((int) (remaining % ALPHANUMERIC_CHARACTERS.length())));
+            remaining /= ALPHANUMERIC_CHARACTERS.length();
+        }
+    }
+
+    // the numerical characters are read as their digits, whether they were swapped or not, and the substitutions are
+    // left out of the canonical id
+    private static long encodeItaly(final CharSequence id, final boolean canonical) {
+        long packedId = 0;
+        for (int i = 0; i < ITALY_NAMES_LENGTH; i++) {
+            final int letter = toLetter(id.charAt(i));
+            if (letter < 0) {
+                return NONE;
+            }
+            packedId = packedId * LETTERS + letter;
+        }
+
+        final int placeOfBirthLetter = toLetter(id.charAt(ITALY_PLACE_OF_BIRTH_INDEX));
+        final int substitutionCount = canonical ? 0 : countItalySubstitutions(id);
+        if (placeOfBirthLetter < 0 || substitutionCount < 0) {
+            return NONE;
+        }
+
+        packedId = packedId * 100 + toItalyNumber(id, 6, 8);
+        packedId = packedId * ITALY_MONTH_CODES.length() + ITALY_MONTH_CODES.indexOf(id.charAt(ITALY_MONTH_INDEX));
+        packedId = packedId * ITALY_DAY_CODES + toItalyNumber(id, 9, 11);
+        packedId = packedId * LETTERS + placeOfBirthLetter;
+        packedId = packedId * 1000 + toItalyNumber(id, 12, 15);
+        return packedId * ITALY_SUBSTITUTION_COUNTS + substitutionCount;
+    }
+
+    private static int toItalyNumber(final CharSequence id, final int from, final int to) {
+        int number = 0;
+        for (int i = from; i < to; i++) {
+            number = number * DECIMAL_RADIX + ItalyOmocodiaSwapper.toDigit(id.charAt(i));
+        }
+        return number;
+    }
+
+    // returns the number of numerical characters swapped with letters, or -1 if they are not the rightmost ones
+    private static int countItalySubstitutions(final CharSequence id) {
+        int count = 0;
+        while (count < ITALY_NUMERICAL_CHARACTER_INDEXES.length
+            && AsciiDigits.toDigit(id.charAt(ITALY_NUMERICAL_CHARACTER_INDEXES[count])) < 0) {
+            count++;
+        }
+
+        for (int i = count; i < ITALY_NUMERICAL_CHARACTER_INDEXES.length; i++) {
+            if (AsciiDigits.toDigit(id.charAt(ITALY_NUMERICAL_CHARACTER_INDEXES[i])) < 0) {
+                return -1;
+            }
+        }
+        return count;
+    }
+
+    private static void decodeItaly(final long packedId, final StringBuilder id) {
+        long remaining = packedId;
+        final int substitutionCount = (int) (remaining % ITALY_SUBSTITUTION_COUNTS);
+        remaining /= ITALY_SUBSTITUTION_COUNTS;
+        setDigits(id, 12, 15, remaining % 1000);
+        remaining /= 1000;
+        id.setCharAt(ITALY_PLACE_OF_BIRTH_INDEX, fromLetter(remaining % LETTERS));
+        remaining /= LETTERS;
+        setDigits(id, 9, 11, remaining % ITALY_DAY_CODES);
+        remaining /= ITALY_DAY_CODES;
+        id.setCharAt(ITALY_MONTH_INDEX, ITALY_MONTH_CODES.charAt((int) (remaining % ITALY_MONTH_CODES.length())));
+        remaining /= ITALY_MONTH_CODES.length();
+        setDigits(id, 6, 8, remaining % 100);
+        remaining /= 100;
+        for (int i = ITALY_NAMES_LENGTH - 1; i >= 0; i--) {
+            id.setCharAt(i, fromLetter(remaining % LETTERS));
+            remaining /= LETTERS;
+        }
+
+        for (int i = 0; i < substitutionCount; i++) {
+            final int index = ITALY_NUMERICAL_CHARACTER_INDEXES[i];
+            id.setCharAt(index, ItalyOmocodiaSwapper.toLetter(id.charAt(index) - '0'));
+        }
+        id.setCharAt(ITALY_CONTROL_CHARACTER_INDEX, ItalyNationalIdValidator.computeControlCharacter(id));
+    }
+
+    private static long encodeMexico(final CharSequence id) {
+        long packedId = 0;
+        for (int i = 0; i < MEXICO_NAMES_LENGTH; i++) {
+            packedId = packedId * LETTERS + toLetter(id.charAt(i));
+        }
+
+        final int month = AsciiDigits.toInt(id, 6, 8);
+        final int day = AsciiDigits.toInt(id, 8, 10);
+        packedId = packedId * 100 + AsciiDigits.toInt(id, 4, 6);
+        packedId = packedId * MEXICO_MONTH_DAY_CODES + month * MEXICO_DAYS + day;
+        packedId = packedId * MEXICO_GENDERS.length() + MEXICO_GENDERS.indexOf(id.charAt(10));
+        packedId = packedId * LETTERS + toLetter(id.charAt(11));
+        packedId = packedId * LETTERS + toLetter(id.charAt(12));
+        for (int i = 13; i < 16; i++) {
+            packedId = packedId * MEXICO_CONSONANTS.length() + MEXICO_CONSONANTS.indexOf(id.charAt(i));
+        }
+        return packedId * ALPHANUMERIC_CHARACTERS.length() + AsciiDigits.toAlphanumeric(id.charAt(16));
+    }
+
+    private static void decodeMexico(final long packedId, final StringBuilder id) {
+        long remaining = packedId;
+        id.setCharAt(16, ALPHANUMERIC_CHARACTERS.charAt((int) (remaining % ALPHANUMERIC_CHARACTERS.length())));
+        remaining /= ALPHANUMERIC_CHARACTERS.length();
+        for (int i = 15; i >= 13; i--) {
+            id.setCharAt(i, MEXICO_CONSONANTS.charAt((int) (remaining % MEXICO_CONSONANTS.length())));
+            remaining /= MEXICO_CONSONANTS.length();
+        }
+        id.setCharAt(12, fromLetter(remaining % LETTERS));
+        remaining /= LETTERS;
+        id.setCharAt(11, fromLetter(remaining % LETTERS));
+        remaining /= LETTERS;
+        id.setCharAt(10, MEXICO_GENDERS.charAt((int) (remaining % MEXICO_GENDERS.length())));
+        remaining /= MEXICO_GENDERS.length();
+
+        final int monthDayCode = (int) (remaining % MEXICO_MONTH_DAY_CODES);
+        remaining /= MEXICO_MONTH_DAY_CODES;
+        setDigits(id, 6, 8, monthDayCode / MEXICO_DAYS);
+        setDigits(id, 8, 10, monthDayCode % MEXICO_DAYS);
+        setDigits(id, 4, 6, remaining % 100);
+        remaining /= 100;
+        for (int i = MEXICO_NAMES_LENGTH - 1; i >= 0; i--) {
+            id.setCharAt(i, fromLetter(remaining % LETTERS));
+            remaining /= LETTERS;
+        }
+
+        id.setCharAt(MEXICO_CHECK_DIGIT_INDEX, MexicoNationalIdValidator.computeCheckDigit(id));
+    }
+}
@@ -1,11 +1,42 @@
 package com.github.reducktion.socrates.nationalid;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 import com.github.reducktion.socrates.Country;
+import com.github.reducktion.socrates.TwoDigitYearResolver;
 
 public final class NationalIdFactory {
 
+    private static final Map<Country, NationalIdConstructor> CONSTRUCTORS = new EnumMap<>(Country.class);
+    private static final Map<Country, NationalIdValidator> VALIDATORS = new EnumMap<>(Country.class);
+
+    static {
+        register(Country.BE, (id, resolver) -> new BelgiumNationalId(id), BelgiumNationalIdValidator.INSTANCE);
+        register(Country.BR, (id, resolver) -> new BrazilNationalId(id), BrazilNationalIdValidator.INSTANCE);
+        register(Country.CA, (id, resolver) -> new CanadaNationalId(id), CanadaNationalIdValidator.INSTANCE);
+        register(Country.DE, (id, resolver) -> new GermanyNationalId(id), GermanyNationalIdValidator.INSTANCE);
+        register(Country.DK, (id, resolver) -> new DenmarkNationalId(id), DenmarkNationalIdValidator.INSTANCE);
+        register(Country.ES, (id, resolver) -> new SpainNationalId(id), SpainNationalIdValidator.INSTANCE);
+        register(Country.FR, FranceNationalId::new, FranceNationalIdValidator.INSTANCE);
+        register(Country.IT, ItalyNationalId::new, ItalyNationalIdValidator.INSTANCE);
+        register(Country.LU, (id, resolver) -> new LuxembourgNationalId(id), LuxembourgNationalIdValidator.INSTANCE);
+        register(Country.MX, MexicoNationalId::new, MexicoNationalIdValidator.INSTANCE);
+        register(Country.PT, (id, resolver) -> new PortugalNationalId(id), PortugalNationalIdValidator.INSTANCE);
+        register(Country.US, (id, resolver) -> new UsaNationalId(id), UsaNationalIdValidator.INSTANCE);
+    }
+
     private NationalIdFactory() {}
 
+    private static void register(
+        final Country country,
+        final NationalIdConstructor constructor,
+        final NationalIdValidator validator
+    ) {
+        CONSTRUCTORS.put(country, constructor);
+        VALIDATORS.put(country, validator);
+    }
+
     /**
      * Returns a new instance of {@link NationalId}, that is specific for the country parameter.
      *
@@ -15,20 +46,59 @@ public final class NationalIdFactory {
      * @throws UnsupportedOperationException if the country is not supported
      */
     public static NationalId newInstance(final String id, final Country country) {
-        switch (country) {
-            case BE: return new BelgiumNationalId(id);
-            case BR: return new BrazilNationalId(id);
-            case CA: return new CanadaNationalId(id);
-            case DE: return new GermanyNationalId(id);
-            case DK: return new DenmarkNationalId(id);
-            case ES: return new SpainNationalId(id);
-            case FR: return new FranceNationalId(id);
-            case IT: return new ItalyNationalId(id);
-            case LU: return new LuxembourgNationalId(id);
-            case MX: return new MexicoNationalId(id);
-            case PT: return new PortugalNationalId(id);
-            case US: return new UsaNationalId(id);
-            default: throw new UnsupportedOperationException("Country not supported.");
+        return newInstance(id, country, TwoDigitYearResolver.systemDefault());
+    }
+
+    /**
+     * Returns a new instance of {@link NationalId}, that is specific for the country parameter.
+     *
+     * @param id the national id
+     * @param country the {@link Country}
+     * @param twoDigitYearResolver the resolver for the ids that only have the last two digits of the year of birth
+     * @return a new instance of {@link NationalId}
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public static NationalId newInstance(
+        final String id,
+        final Country country,
+        final TwoDigitYearResolver twoDigitYearResolver
+    ) {
+        final NationalIdConstructor constructor = country == null ? null : CONSTRUCTORS.get(country);
+        if (constructor == null) {
+            throw new UnsupportedOperationException("Country not supported.");
         }
+        return constructor.newInstance(id, twoDigitYearResolver);
+    }
+
+    /**
+     * Returns the {@link NationalIdValidator} for the country parameter. The validator is a shared, thread-safe
+     * instance.
+     *
+     * @param country the {@link Country}
+     * @return the {@link NationalIdValidator} for the country
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public static NationalIdValidator getValidator(final Country country) {
+        final NationalIdValidator validator = country == null ? null : VALIDATORS.get(country);
+        if (validator == null) {
+            throw new UnsupportedOperationException("Country not supported.");
+        }
+        return validator;
+    }
+
+    /**
+     * Checks if there is a built-in {@link NationalIdValidator} for the country parameter.
+     *
+     * @param country the {@link Country}
+     * @return true if the country is supported, false otherwise
+     */
+    public static boolean supports(final Country country) {
+        return country != null && VALIDATORS.containsKey(country);
+    }
+
+    @FunctionalInterface
+    private interface NationalIdConstructor {
+
+        NationalId newInstance(String id, TwoDigitYearResolver twoDigitYearResolver);
     }
 }
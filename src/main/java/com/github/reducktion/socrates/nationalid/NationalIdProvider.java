@@ -0,0 +1,43 @@
+package com.github.reducktion.socrates.nationalid;
+
+import java.util.Optional;
+
+import com.github.reducktion.socrates.Country;
+import com.github.reducktion.socrates.generator.NationalIdGenerator;
+
+/**
+ * Service provider interface for supplying the implementations of a country, e.g. an in-house validator or a
+ * generator for a country that does not have a built-in one.
+ * <p>
+ * Implementations are discovered with {@link java.util.ServiceLoader}, by listing them in
+ * {@code META-INF/services/com.github.reducktion.socrates.nationalid.NationalIdProvider}, and are read once by
+ * {@link NationalIdRegistry}, in which they take precedence over the built-in implementations. The validator and the
+ * generator must be stateless and thread-safe, as they are shared.
+ */
+public interface NationalIdProvider {
+
+    /**
+     * Returns the country of the implementations.
+     *
+     * @return the {@link Country}
+     */
+    Country getCountry();
+
+    /**
+     * Returns the validator for the country, which replaces the built-in one.
+     *
+     * @return the {@link NationalIdValidator}, or an empty {@link Optional} to keep the built-in one
+     */
+    default Optional<NationalIdValidator> getValidator() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the generator for the country, which replaces the built-in one.
+     *
+     * @return the {@link NationalIdGenerator}, or an empty {@link Optional} to keep the built-in one
+     */
+    default Optional<NationalIdGenerator> getGenerator() {
+        return Optional.empty();
+    }
+}
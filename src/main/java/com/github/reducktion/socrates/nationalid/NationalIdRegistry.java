@@ -0,0 +1,101 @@
+package com.github.reducktion.socrates.nationalid;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+import com.github.reducktion.socrates.Country;
+import com.github.reducktion.socrates.generator.NationalIdGenerator;
+import com.github.reducktion.socrates.generator.NationalIdGeneratorFactory;
+
+/**
+ * Registry of the {@link NationalIdValidator} and {@link NationalIdGenerator} of every country.
+ * <p>
+ * It is built once, when this class is initialized, from the built-in implementations and the ones supplied by the
+ * {@link NationalIdProvider} services found on the classpath, which take precedence. The implementations are stateless
+ * singletons, held in arrays indexed by the ordinal of the country, so a lookup is one array load and never allocates.
+ */
+public final class NationalIdRegistry {
+
+    private static final NationalIdValidator[] VALIDATORS = new NationalIdValidator[Country.values().length];
+    private static final NationalIdGenerator[] GENERATORS = new NationalIdGenerator[Country.values().length];
+
+    static {
+        final Map<Country, NationalIdValidator> validators = new EnumMap<>(Country.class);
+        final Map<Country, NationalIdGenerator> generators = new EnumMap<>(Country.class);
+        for (final Country country : Country.values()) {
+            if (NationalIdFactory.supports(country)) {
+                validators.put(country, NationalIdFactory.getValidator(country));
+            }
+            if (NationalIdGeneratorFactory.supports(country)) {
+                generators.put(country, NationalIdGeneratorFactory.newInstance(country));
+            }
+        }
+
+        for (final NationalIdProvider provider : ServiceLoader.load(NationalIdProvider.class)) {
+            final Country country = provider.getCountry();
+            if (country == null) {
+                throw new IllegalStateException(provider.getClass().getName() + " has no country.");
+            }
+            provider.getValidator().ifPresent(validator -> validators.put(country, validator));
+            provider.getGenerator().ifPresent(generator -> generators.put(country, generator));
+        }
+
+        validators.forEach((country, validator) -> VALIDATORS[country.ordinal()] = validator);
+        generators.forEach((country, generator) -> GENERATORS[country.ordinal()] = generator);
+    }
+
+    private NationalIdRegistry() {}
+
+    /**
+     * Checks if the national ids of the country parameter can be validated.
+     *
+     * @param country the {@link Country}
+     * @return true if the country is supported, false otherwise
+     */
+    public static boolean supports(final Country country) {
+        return country != null && VALIDATORS[country.ordinal()] != null;
+    }
+
+    /**
+     * Checks if national ids can be generated for the country parameter.
+     *
+     * @param country the {@link Country}
+     * @return true if the generation is supported, false otherwise
+     */
+    public static boolean supportsGeneration(final Country country) {
+        return country != null && GENERATORS[country.ordinal()] != null;
+    }
+
+    /**
+     * Returns the {@link NationalIdValidator} for the country parameter. The validator is a shared, thread-safe
+     * instance.
+     *
+     * @param country the {@link Country}
+     * @return the {@link NationalIdValidator} for the country
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public static NationalIdValidator getValidator(final Country country) {
+        final NationalIdValidator validator = country == null ? null : VALIDATORS[country.ordinal()];
+        if (validator == null) {
+            throw new UnsupportedOperationException("Country not supported.");
+        }
+        return validator;
+    }
+
+    /**
+     * Returns the {@link NationalIdGenerator} for the country parameter. The generator is a shared, thread-safe
+     * instance.
+     *
+     * @param country the {@link Country}
+     * @return the {@link NationalIdGenerator} for the country
+     * @throws UnsupportedOperationException if the country is not supported
+     */
+    public static NationalIdGenerator getGenerator(final Country country) {
+        final NationalIdGenerator generator = country == null ? null : GENERATORS[country.ordinal()];
+        if (generator == null) {
+            throw new UnsupportedOperationException("Country not supported.");
+        }
+        return generator;
+    }
+}
@@ -0,0 +1,173 @@
+package com.github.reducktion.socrates.nationalid;
+
+import com.github.reducktion.socrates.Citizen;
+import com.github.reducktion.socrates.FailureReason;
+import com.github.reducktion.socrates.PackedCitizen;
+import com.github.reducktion.socrates.ParseResult;
+import com.github.reducktion.socrates.TwoDigitYearResolver;
+
+/**
+ * Validates the national identification numbers of a country, and extracts the citizen information from them.
+ * <p>
+ * Implementations are stateless and thread-safe, so a single instance is shared by all callers. Separators (spaces,
+ * dots and dashes) are ignored and letters can be in either case. Validating an id does not allocate memory.
+ * <p>
+ * Only {@link #validate(CharSequence, TwoDigitYearResolver)} must be implemented, since the other methods delegate to
+ * it. Implementations that extract the citizens also override {@link #parse(CharSequence, TwoDigitYearResolver)}.
+ */
+public interface NationalIdValidator {
+
+    /**
+     * Validates the national identification number.
+     *
+     * @param id the national identification number, may be null
+     * @return true if the {@code id} is valid, false otherwise
+     */
+    default boolean isValid(final CharSequence id) {
+        return isValid(id, TwoDigitYearResolver.systemDefault());
+    }
+
+    /**
+     * Validates the national identification number, resolving the century of the ids that only have the last two
+     * digits of the year of birth with the {@code twoDigitYearResolver}.
+     *
+     * @param id the national identification number, may be null
+     * @param twoDigitYearResolver the resolver for the ids that only have the last two digits of the year of birth
+     * @return true if the {@code id} is valid, false otherwise
+     */
+    default boolean isValid(final CharSequence id, final TwoDigitYearResolver twoDigitYearResolver) {
+        return validate(id, twoDigitYearResolver) == null;
+    }
+
+    /**
+     * Validates the national identification number and returns the reason why it is not valid.
+     *
+     * @param id the national identification number, may be null
+     * @return null if the {@code id} is valid, the {@link FailureReason} otherwise
+     */
+    default FailureReason validate(final CharSequence id) {
+        return validate(id, TwoDigitYearResolver.systemDefault());
+    }
+
+    /**
+     * Validates the national identification number and returns the reason why it is not valid, resolving the century
+     * of the ids that only have the last two digits of the year of birth with the {@code twoDigitYearResolver}.
+     *
+     * @param id the national identification number, may be null
+     * @param twoDigitYearResolver the resolver for the ids that only have the last two digits of the year of birth
+     * @return null if the {@code id} is valid, the {@link FailureReason} otherwise
+     */
+    FailureReason validate(CharSequence id, TwoDigitYearResolver twoDigitYearResolver);
+
+    /**
+     * Validates the national identification numbers from index {@code from} (inclusive) to index {@code to}
+     * (exclusive), and stores the reason why the id at index {@code i} is not valid, or null if it is valid, at index
+     * {@code i - from} of {@code failureReasons}.
+     *
+     * @param ids the national identification numbers, which may contain nulls
+     * @param from the index of the first id to validate
+     * @param to the index after the last id to validate
+     * @param failureReasons where to store the results, with at least {@code to - from} elements
+     */
+    default void validateAll(
+        final CharSequence[] ids,
+        final int from,
+        final int to,
+        final FailureReason[] failureReasons
+    ) {
+        validateAll(ids, from, to, TwoDigitYearResolver.systemDefault(), failureReasons);
+    }
+
+    /**
+     * Validates the national identification numbers from index {@code from} (inclusive) to index {@code to}
+     * (exclusive), like {@link #validateAll(CharSequence[], int, int, FailureReason[])}, resolving the century of the
+     * ids that only have the last two digits of the year of birth with the {@code twoDigitYearResolver}.
+     *
+     * @param ids the national identification numbers, which may contain nulls
+     * @param from the index of the first id to validate
+     * @param to the index after the last id to validate
+     * @param twoDigitYearResolver the resolver for the ids that only have the last two digits of the year of birth
+     * @param failureReasons where to store the results, with at least {@code to - from} elements
+     */
+    default void validateAll(
+        final CharSequence[] ids,
+        final int from,
+        final int to,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final FailureReason[] failureReasons
+    ) {
+        for (int i = from; i < to; i++) {
+            failureReasons[i - from] = validate(ids[i], twoDigitYearResolver);
+        }
+    }
+
+    /**
+     * Validates the national identification number and, if it is valid, extracts the citizen information from it, in
+     * a single pass.
+     *
+     * @param id the national identification number, may be null
+     * @param twoDigitYearResolver the resolver for the ids that only have the last two digits of the year of birth
+     * @return the {@link ParseResult}, without a citizen if the country does not support extraction
+     */
+    default ParseResult parse(final CharSequence id, final TwoDigitYearResolver twoDigitYearResolver) {
+        final FailureReason failureReason = validate(id, twoDigitYearResolver);
+        return failureReason == null ? ParseResult.valid(null) : ParseResult.invalid(failureReason);
+    }
+
+    /**
+     * Validates the national identification number and, if it is valid, extracts the citizen information from it as a
+     * {@link PackedCitizen}. The built-in validators do not allocate memory.
+     *
+     * @param id the national identification number, may be null
+     * @param twoDigitYearResolver the resolver for the ids that only have the last two digits of the year of birth
+     * @return the packed citizen, or {@link PackedCitizen#NONE} if the {@code id} is not valid or the country does not
+     *         support extraction
+     */
+    default long parsePacked(final CharSequence id, final TwoDigitYearResolver twoDigitYearResolver) {
+        final Citizen citizen = parse(id, twoDigitYearResolver).getCitizen().orElse(null);
+        return citizen == null ? PackedCitizen.NONE : PackedCitizen.fromCitizen(citizen, this);
+    }
+
+    /**
+     * Validates the national identification number and, if it is valid, extracts the citizen information from it as a
+     * {@link PackedCitizen}, like {@link #parsePacked(CharSequence, TwoDigitYearResolver)}, but also returns the reason
+     * why it is not valid, so that a valid id without a citizen can be told apart from an id that is not valid. The
+     * built-in validators do not allocate memory.
+     *
+     * @param id the national identification number, may be null
+     * @param twoDigitYearResolver the resolver for the ids that only have the last two digits of the year of birth
+     * @param packedCitizen where to store, at index 0, the packed citizen, or {@link PackedCitizen#NONE} if the
+     *        {@code id} is not valid or the country does not support extraction
+     * @return null if the {@code id} is valid, the {@link FailureReason} otherwise
+     */
+    default FailureReason parsePacked(
+        final CharSequence id,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final long[] packedCitizen
+    ) {
+        final ParseResult result = parse(id, twoDigitYearResolver);
+        final Citizen citizen = result.getCitizen().orElse(null);
+        packedCitizen[0] = citizen == null ? PackedCitizen.NONE : PackedCitizen.fromCitizen(citizen, this);
+        return result.getFailureReason().orElse(null);
+    }
+
+    /**
+     * Returns the name of a place of birth, given its code in a {@link PackedCitizen}.
+     *
+     * @param placeOfBirthCode the code of the place of birth
+     * @return the name of the place of birth, or null if the code is unknown
+     */
+    default String getPlaceOfBirth(final int placeOfBirthCode) {
+        return null;
+    }
+
+    /**
+     * Returns the code of a place of birth in a {@link PackedCitizen}, given its name.
+     *
+     * @param placeOfBirth the name of the place of birth, as in the extracted {@link Citizen}
+     * @return the code of the place of birth, or {@link PackedCitizen#ABSENT} if the name is unknown
+     */
+    default int getPlaceOfBirthCode(final String placeOfBirth) {
+        return PackedCitizen.ABSENT;
+    }
+}
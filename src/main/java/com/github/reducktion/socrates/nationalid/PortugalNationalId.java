@@ -3,7 +3,6 @@ package com.github.reducktion.socrates.nationalid;
 import java.util.Optional;
 
 import com.github.reducktion.socrates.Citizen;
-import com.github.reducktion.socrates.internal.LuhnAlgorithm;
 
 /**
  * National Id for Portugal.
@@ -13,18 +12,13 @@ import com.github.reducktion.socrates.internal.LuhnAlgorithm;
  */
 final class PortugalNationalId extends NationalId {
 
-    private static final int ID_NUMBER_OF_CHARACTERS = 12;
-    private static final int BASE_36_RADIX = 36;
-
     public PortugalNationalId(final String id) {
         super(id);
     }
 
     @Override
     public boolean isValid() {
-        return sanitizedId != null
-            && sanitizedId.length() == ID_NUMBER_OF_CHARACTERS
-            && LuhnAlgorithm.validate(sanitizedId, BASE_36_RADIX);
+        return PortugalNationalIdValidator.INSTANCE.isValid(sanitizedId);
     }
 
     @Override
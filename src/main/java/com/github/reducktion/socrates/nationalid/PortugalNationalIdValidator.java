@@ -0,0 +1,47 @@
+package com.github.reducktion.socrates.nationalid;
+
+import com.github.reducktion.socrates.FailureReason;
+import com.github.reducktion.socrates.TwoDigitYearResolver;
+import com.github.reducktion.socrates.internal.AsciiDigits;
+import com.github.reducktion.socrates.internal.LuhnAlgorithm;
+
+/**
+ * {@link NationalIdValidator} for Portugal.
+ *
+ * @see PortugalNationalId
+ */
+final class PortugalNationalIdValidator extends AbstractNationalIdValidator {
+
+    static final PortugalNationalIdValidator INSTANCE = new PortugalNationalIdValidator();
+
+    private static final int ID_NUMBER_OF_CHARACTERS = 12;
+    private static final int BASE_36_RADIX = 36;
+
+    private PortugalNationalIdValidator() {}
+
+    @Override
+    FailureReason validateSanitized(
+        final CharSequence id,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final DecodedId decodedId
+    ) {
+        if (id.length() != ID_NUMBER_OF_CHARACTERS) {
+            return FailureReason.INVALID_LENGTH;
+        }
+        if (!isAlphanumeric(id)) {
+            return FailureReason.INVALID_CHARACTERS;
+        }
+        return LuhnAlgorithm.validate(id, 0, ID_NUMBER_OF_CHARACTERS, BASE_36_RADIX)
+            ? null
+            : FailureReason.INVALID_CHECKSUM;
+    }
+
+    private static boolean isAlphanumeric(final CharSequence id) {
+        for (int i = 0; i < ID_NUMBER_OF_CHARACTERS; i++) {
+            if (AsciiDigits.toAlphanumeric(id.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
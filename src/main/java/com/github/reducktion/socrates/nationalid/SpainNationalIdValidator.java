@@ -0,0 +1,54 @@
+package com.github.reducktion.socrates.nationalid;
+
+import com.github.reducktion.socrates.FailureReason;
+import com.github.reducktion.socrates.TwoDigitYearResolver;
+import com.github.reducktion.socrates.internal.AsciiDigits;
+import com.github.reducktion.socrates.internal.Mod23Algorithm;
+
+/**
+ * {@link NationalIdValidator} for Spain.
+ *
+ * @see SpainNationalId
+ */
+final class SpainNationalIdValidator extends AbstractNationalIdValidator {
+
+    static final SpainNationalIdValidator INSTANCE = new SpainNationalIdValidator();
+
+    private static final int ID_NUMBER_OF_CHARACTERS = 9;
+
+    private SpainNationalIdValidator() {}
+
+    @Override
+    FailureReason validateSanitized(
+        final CharSequence id,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final DecodedId decodedId
+    ) {
+        if (id.length() != ID_NUMBER_OF_CHARACTERS) {
+            return FailureReason.INVALID_LENGTH;
+        }
+
+        int remainder = 0;
+        for (int i = 0; i < ID_NUMBER_OF_CHARACTERS - 1; i++) {
+            final int digit = toDigit(id.charAt(i));
+            if (digit < 0) {
+                return FailureReason.INVALID_CHARACTERS;
+            }
+            remainder = (remainder * 10 + digit) % Mod23Algorithm.MODULUS;
+        }
+
+        return id.charAt(ID_NUMBER_OF_CHARACTERS - 1) == Mod23Algorithm.checkLetter(remainder)
+            ? null
+            : FailureReason.INVALID_CHECKSUM;
+    }
+
+    // the NIE prefixes X, Y and Z stand for 0, 1 and 2 respectively
+    private static int toDigit(final char c) {
+        switch (c) {
+            case 'X': return 0;
+            case 'Y': return 1;
+            case 'Z': return 2;
+            default: return AsciiDigits.toDigit(c);
+        }
+    }
+}
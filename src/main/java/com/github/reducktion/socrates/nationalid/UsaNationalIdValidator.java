@@ -0,0 +1,53 @@
+package com.github.reducktion.socrates.nationalid;
+
+import com.github.reducktion.socrates.FailureReason;
+import com.github.reducktion.socrates.TwoDigitYearResolver;
+
+/**
+ * {@link NationalIdValidator} for the United States of America.
+ *
+ * @see UsaNationalId
+ */
+final class UsaNationalIdValidator extends AbstractNationalIdValidator {
+
+    static final UsaNationalIdValidator INSTANCE = new UsaNationalIdValidator();
+
+    private static final int ID_NUMBER_OF_CHARACTERS = 9;
+    private static final int[] BLACKLISTED_IDS = { 78051120, 219099999, 457555462 };
+
+    private UsaNationalIdValidator() {}
+
+    @Override
+    FailureReason validateSanitized(
+        final CharSequence id,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final DecodedId decodedId
+    ) {
+        if (id.length() != ID_NUMBER_OF_CHARACTERS) {
+            return FailureReason.INVALID_LENGTH;
+        }
+        if (!isNumeric(id, 0, ID_NUMBER_OF_CHARACTERS)) {
+            return FailureReason.INVALID_CHARACTERS;
+        }
+        if (isBlacklisted(toInt(id, 0, ID_NUMBER_OF_CHARACTERS)) || !hasValidAreaCodes(id)) {
+            return FailureReason.RESERVED_VALUE;
+        }
+        return null;
+    }
+
+    private static boolean isBlacklisted(final int id) {
+        for (final int blacklistedId : BLACKLISTED_IDS) {
+            if (id == blacklistedId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasValidAreaCodes(final CharSequence id) {
+        final int firstAreaCode = toInt(id, 0, 3);
+        return firstAreaCode != 0 && firstAreaCode != 666 && firstAreaCode < 900
+            && toInt(id, 3, 5) != 0
+            && toInt(id, 5, 9) != 0;
+    }
+}
@@ -0,0 +1,339 @@
+package com.github.reducktion.socrates.reactive;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import com.github.reducktion.socrates.FailureReason;
+import com.github.reducktion.socrates.NonAsciiDigitPolicy;
+import com.github.reducktion.socrates.ParseResult;
+import com.github.reducktion.socrates.TwoDigitYearResolver;
+import com.github.reducktion.socrates.nationalid.NationalIdValidator;
+
+/**
+ * Java 8 core of the {@code ValidationProcessor}, which is compiled for Java 9 into the multi-release jar and
+ * delegates to it, since {@code java.util.concurrent.Flow} is not available on Java 8.
+ * <p>
+ * It receives records from the upstream through {@link #onSubscribe(Upstream)}, {@link #onNext(Object)},
+ * {@link #onError(Throwable)} and {@link #onComplete()}, and emits each record along with the {@link ParseResult} of
+ * its id to one {@link Downstream}, which signals its demand through {@link #request(long)} and {@link #cancel()},
+ * following the Reactive Streams contract. The upstream is never asked for more records than fit in the buffer, and
+ * results are only emitted when requested, so a fast upstream is slowed down to the pace of the downstream. Buffered
+ * records are validated in batches, with one call to the validator per batch. Validating without extracting does not
+ * allocate memory per record: the results are shared instances.
+ *
+ * @param <T> the type of the records
+ */
+final class ValidationEngine<T> {
+
+    private final Function<? super T, ? extends CharSequence> idMapper;
+    private final NationalIdValidator validator;
+    private final TwoDigitYearResolver twoDigitYearResolver;
+    private final NonAsciiDigitPolicy nonAsciiDigitPolicy;
+    private final boolean extractCitizens;
+    private final int batchSize;
+
+    // a ring of the records received and not yet emitted, written by onNext and read by the drain loop
+    private final Object[] buffer;
+    private volatile long producerIndex;
+    private volatile long consumerIndex;
+
+    // the buffers of a batch, only used by the drain loop
+    private final Object[] batchRecords;
+    private final CharSequence[] batchIds;
+    private final FailureReason[] batchFailureReasons;
+
+    private final AtomicInteger drainers = new AtomicInteger();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicReference<Downstream<? super T>> downstream = new AtomicReference<>();
+    private volatile Upstream upstream;
+    private volatile boolean done;
+    private volatile Throwable error;
+    private volatile boolean cancelled;
+    private volatile Throwable requestError;
+    private boolean terminated;
+
+    ValidationEngine(
+        final Function<? super T, ? extends CharSequence> idMapper,
+        final NationalIdValidator validator,
+        final TwoDigitYearResolver twoDigitYearResolver,
+        final NonAsciiDigitPolicy nonAsciiDigitPolicy,
+        final boolean extractCitizens,
+        final int bufferSize,
+        final int batchSize
+    ) {
+        this.idMapper = idMapper;
+        this.validator = validator;
+        this.twoDigitYearResolver = twoDigitYearResolver;
+        this.nonAsciiDigitPolicy = nonAsciiDigitPolicy;
+        this.extractCitizens = extractCitizens;
+        this.batchSize = batchSize;
+        buffer = new Object[bufferSize];
+        batchRecords = new Object[batchSize];
+        batchIds = new CharSequence[batchSize];
+        batchFailureReasons = new FailureReason[batchSize];
+    }
+
+    /**
+     * Sets the downstream, which must then be given its subscription before {@link #drain()} is called.
+     *
+     * @param subscriber the {@link Downstream}
+     * @return true if it is the first downstream, false if there already is one
+     */
+    boolean subscribe(final Downstream<? super T> subscriber) {
+        return downstream.compareAndSet(null, subscriber);
+    }
+
+    /**
+     * Receives the subscription to the upstream, from which it requests as many records as fit in the buffer.
+     *
+     * @param subscription the {@link Upstream}
+     */
+    void onSubscribe(final Upstream subscription) {
+        if (upstream != null || cancelled) {
+            subscription.cancel();
+            return;
+        }
+
+        upstream = subscription;
+        subscription.request(buffer.length);
+    }
+
+    /**
+     * Receives a record from the upstream.
+     *
+     * @param record the record
+     */
+    void onNext(final T record) {
+        if (record == null) {
+            throw new NullPointerException("The record cannot be null.");
+        }
+        if (done || cancelled) {
+            return;
+        }
+
+        final long index = producerIndex;
+        if (index - consumerIndex == buffer.length) {
+            upstream.cancel();
+            onError(new IllegalStateException("The upstream sent more records than requested."));
+            return;
+        }
+
+        buffer[(int) (index % buffer.length)] = record;
+        producerIndex = index + 1;
+        drain();
+    }
+
+    /**
+     * Receives the failure of the upstream, which is passed to the downstream after the buffered results.
+     *
+     * @param throwable the failure
+     */
+    void onError(final Throwable throwable) {
+        if (throwable == null) {
+            throw new NullPointerException("The throwable cannot be null.");
+        }
+        if (done) {
+            return;
+        }
+
+        error = throwable;
+        done = true;
+        drain();
+    }
+
+    /**
+     * Receives the completion of the upstream, which is passed to the downstream after the buffered results.
+     */
+    void onComplete() {
+        done = true;
+        drain();
+    }
+
+    /**
+     * Adds {@code n} results to the demand of the downstream, or fails it if {@code n} is not positive.
+     *
+     * @param n the number of results
+     */
+    void request(final long n) {
+        if (n <= 0) {
+            requestError = new IllegalArgumentException("The number of requested results must be positive.");
+            cancelUpstream();
+            drain();
+            return;
+        }
+
+        long current;
+        long next;
+        do {
+            current = requested.get();
+            next = current + n < 0 ? Long.MAX_VALUE : current + n;
+        } while (!requested.compareAndSet(current, next));
+        drain();
+    }
+
+    /**
+     * Stops emitting results to the downstream, and cancels the upstream.
+     */
+    void cancel() {
+        cancelled = true;
+        cancelUpstream();
+        drain();
+    }
+
+    /**
+     * Emits the requested results, from one thread at a time.
+     */
+    void drain() {
+        if (drainers.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        do {
+            final Downstream<? super T> subscriber = downstream.get();
+            if (requestError != null && !terminated) {
+                terminated = true;
+                clearBuffer();
+                subscriber.onError(requestError);
+            } else if (cancelled || terminated) {
+                clearBuffer();
+            } else if (subscriber != null) {
+                emit(subscriber);
+            }
+            missed = drainers.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void emit(final Downstream<? super T> subscriber) {
+        final long demand = requested.get();
+        long emitted = 0;
+
+        while (emitted < demand && !cancelled && requestError == null) {
+            final long available = producerIndex - consumerIndex;
+            if (available == 0) {
+                break;
+            }
+
+            final int count = (int) Math.min(Math.min(available, batchSize), demand - emitted);
+            try {
+                emitBatch(subscriber, count);
+            } catch (final RuntimeException e) {
+                cancelled = true;
+                cancelUpstream();
+                clearBuffer();
+                terminated = true;
+                subscriber.onError(e);
+                return;
+            }
+            emitted += count;
+        }
+
+        if (emitted > 0 && demand != Long.MAX_VALUE) {
+            requested.addAndGet(-emitted);
+        }
+
+        final boolean isDone = done;
+        if (isDone && producerIndex == consumerIndex && !cancelled && requestError == null) {
+            terminated = true;
+            if (error == null) {
+                subscriber.onComplete();
+            } else {
+                subscriber.onError(error);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void emitBatch(final Downstream<? super T> subscriber, final int count) {
+        final long start = consumerIndex;
+        for (int i = 0; i < count; i++) {
+            final int index = (int) ((start + i) % buffer.length);
+            batchRecords[i] = buffer[index];
+            buffer[index] = null;
+            batchIds[i] = idMapper.apply((T) batchRecords[i]);
+        }
+        if (!extractCitizens) {
+            validator.validateAll(batchIds, 0, count, twoDigitYearResolver, batchFailureReasons);
+            rejectNonAsciiDigits(count);
+        }
+
+        // the slots of the batch are free, so the upstream can send more records while the batch is emitted
+        consumerIndex = start + count;
+        if (!done) {
+            upstream.request(count);
+        }
+
+        for (int i = 0; i < count && !cancelled; i++) {
+            subscriber.onNext((T) batchRecords[i], toResult(i));
+        }
+        for (int i = 0; i < count; i++) {
+            batchRecords[i] = null;
+            batchIds[i] = null;
+        }
+    }
+
+    // only scans the ids when the policy rejects the non-ASCII digits
+    private void rejectNonAsciiDigits(final int count) {
+        if (nonAsciiDigitPolicy == NonAsciiDigitPolicy.NORMALIZE) {
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            if (batchFailureReasons[i] == null && nonAsciiDigitPolicy.rejects(batchIds[i])) {
+                batchFailureReasons[i] = FailureReason.INVALID_CHARACTERS;
+            }
+        }
+    }
+
+    private ParseResult toResult(final int batchIndex) {
+        if (extractCitizens) {
+            return nonAsciiDigitPolicy.rejects(batchIds[batchIndex])
+                ? ParseResult.invalid(FailureReason.INVALID_CHARACTERS)
+                : validator.parse(batchIds[batchIndex], twoDigitYearResolver);
+        }
+
+        final FailureReason failureReason = batchFailureReasons[batchIndex];
+        return failureReason == null ? ParseResult.valid(null) : ParseResult.invalid(failureReason);
+    }
+
+    private void clearBuffer() {
+        final long end = producerIndex;
+        for (long index = consumerIndex; index < end; index++) {
+            buffer[(int) (index % buffer.length)] = null;
+        }
+        consumerIndex = end;
+    }
+
+    private void cancelUpstream() {
+        final Upstream subscription = upstream;
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * The subscription to the upstream, e.g. a {@code Flow.Subscription}.
+     */
+    interface Upstream {
+
+        void request(long n);
+
+        void cancel();
+    }
+
+    /**
+     * The receiver of the results, e.g. a {@code Flow.Subscriber}, to which each record is passed along with its
+     * result.
+     *
+     * @param <T> the type of the records
+     */
+    interface Downstream<T> {
+
+        void onNext(T record, ParseResult result);
+
+        void onError(Throwable throwable);
+
+        void onComplete();
+    }
+}
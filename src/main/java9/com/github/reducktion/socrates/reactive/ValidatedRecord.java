@@ -0,0 +1,54 @@
+package com.github.reducktion.socrates.reactive;
+
+import java.util.Objects;
+
+import com.github.reducktion.socrates.ParseResult;
+
+/**
+ * Item emitted by a {@link ValidationProcessor}: a record along with the {@link ParseResult} of its id.
+ *
+ * @param <T> the type of the record
+ */
+public final class ValidatedRecord<T> {
+
+    private final T record;
+    private final ParseResult result;
+
+    ValidatedRecord(final T record, final ParseResult result) {
+        this.record = record;
+        this.result = result;
+    }
+
+    public T getRecord() {
+        return record;
+    }
+
+    public ParseResult getResult() {
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ValidatedRecord<?> that = (ValidatedRecord<?>) o;
+        return record.equals(that.record) && result.equals(that.result);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(record, result);
+    }
+
+    @Override
+    public String toString() {
+        return "ValidatedRecord{"
+            + "record=" + record
+            + ", result=" + result
+            + '}';
+    }
+}
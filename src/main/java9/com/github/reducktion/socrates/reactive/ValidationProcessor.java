@@ -0,0 +1,277 @@
+package com.github.reducktion.socrates.reactive;
+
+import java.time.Clock;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+import com.github.reducktion.socrates.Country;
+import com.github.reducktion.socrates.NonAsciiDigitPolicy;
+import com.github.reducktion.socrates.ParseResult;
+import com.github.reducktion.socrates.TwoDigitYearResolver;
+import com.github.reducktion.socrates.nationalid.NationalIdRegistry;
+
+/**
+ * {@link Flow.Processor} of a reactive pipeline, which receives records with a national id and emits each record along
+ * with the {@link ParseResult} of its id, as a {@link ValidatedRecord}.
+ * <p>
+ * The upstream is never asked for more records than fit in the buffer, and results are only emitted when requested, so
+ * a fast upstream is slowed down to the pace of the downstream. Buffered records are validated in batches, with one
+ * call to the validator of the country per batch. Only one subscriber is allowed.
+ * <p>
+ * It is only available on Java 9 and later, from the multi-release jar, and delegates to a Java 8 core.
+ *
+ * @param <T> the type of the records
+ */
+public final class ValidationProcessor<T> implements Flow.Processor<T, ValidatedRecord<T>> {
+
+    /**
+     * The buffer size used when none is configured.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    /**
+     * The batch size used when none is configured.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    private final ValidationEngine<T> engine;
+
+    private ValidationProcessor(final Builder<T> builder) {
+        engine = new ValidationEngine<>(
+            builder.idMapper,
+            NationalIdRegistry.getValidator(builder.country),
+            builder.clock == null ? TwoDigitYearResolver.systemDefault() : new TwoDigitYearResolver(builder.clock),
+            builder.nonAsciiDigitPolicy,
+            builder.extractCitizens,
+            builder.bufferSize,
+            builder.batchSize
+        );
+    }
+
+    /**
+     * Returns a builder of processors of records of type {@code T}.
+     *
+     * @param idMapper the function that returns the national id of a record
+     * @param country the country of the national ids
+     * @param <T> the type of the records
+     * @return the builder
+     * @throws IllegalArgumentException if the id mapper or the country are null
+     */
+    public static <T> ValidationProcessor.Builder<T> builder(
+        final Function<? super T, ? extends CharSequence> idMapper,
+        final Country country
+    ) {
+        if (idMapper == null || country == null) {
+            throw new IllegalArgumentException("The id mapper and the country cannot be null.");
+        }
+        return new Builder<>(idMapper, country);
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super ValidatedRecord<T>> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("The subscriber cannot be null.");
+        }
+        if (!engine.subscribe(new SubscriberDownstream<>(subscriber))) {
+            subscriber.onSubscribe(new RejectedSubscription());
+            subscriber.onError(new IllegalStateException("The processor only allows one subscriber."));
+            return;
+        }
+
+        subscriber.onSubscribe(new DownstreamSubscription());
+        engine.drain();
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        if (subscription == null) {
+            throw new NullPointerException("The subscription cannot be null.");
+        }
+        engine.onSubscribe(new SubscriptionUpstream(subscription));
+    }
+
+    @Override
+    public void onNext(final T record) {
+        engine.onNext(record);
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        engine.onError(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        engine.onComplete();
+    }
+
+    public static final class Builder<T> {
+        private final Function<? super T, ? extends CharSequence> idMapper;
+        private final Country country;
+        private int bufferSize = DEFAULT_BUFFER_SIZE;
+        private int batchSize = DEFAULT_BATCH_SIZE;
+        private boolean extractCitizens;
+        private Clock clock;
+        private NonAsciiDigitPolicy nonAsciiDigitPolicy = NonAsciiDigitPolicy.systemDefault();
+
+        private Builder(final Function<? super T, ? extends CharSequence> idMapper, final Country country) {
+            this.idMapper = idMapper;
+            this.country = country;
+        }
+
+        /**
+         * Sets the maximum number of records that are requested from the upstream and not yet emitted.
+         *
+         * @param bufferSize the buffer size, {@link #DEFAULT_BUFFER_SIZE} by default
+         * @return the builder
+         * @throws IllegalArgumentException if the buffer size is not positive
+         */
+        public Builder<T> bufferSize(final int bufferSize) {
+            if (bufferSize < 1) {
+                throw new IllegalArgumentException("The buffer size must be positive.");
+            }
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of records that are validated together.
+         *
+         * @param batchSize the batch size, {@link #DEFAULT_BATCH_SIZE} by default
+         * @return the builder
+         * @throws IllegalArgumentException if the batch size is not positive
+         */
+        public Builder<T> batchSize(final int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("The batch size must be positive.");
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Makes the results include the {@link com.github.reducktion.socrates.Citizen} extracted from the valid ids,
+         * which are created for each record. By default, the ids are only validated, and the results are shared
+         * instances.
+         *
+         * @param extractCitizens whether to extract the citizens
+         * @return the builder
+         */
+        public Builder<T> extractCitizens(final boolean extractCitizens) {
+            this.extractCitizens = extractCitizens;
+            return this;
+        }
+
+        /**
+         * Sets the clock used to resolve the century of the ids that only have the last two digits of the year of
+         * birth. By default, the system clock is used.
+         *
+         * @param clock the clock that gives the current year
+         * @return the builder
+         */
+        public Builder<T> clock(final Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Sets what to do with the decimal digits that are not ASCII digits, as the {@link NonAsciiDigitPolicy} of a
+         * {@link com.github.reducktion.socrates.Socrates} instance. By default, the policy of the system property
+         * {@value NonAsciiDigitPolicy#SYSTEM_PROPERTY} is used.
+         *
+         * @param nonAsciiDigitPolicy whether the decimal digits that are not ASCII digits are normalized or rejected
+         * @return the builder
+         * @throws IllegalArgumentException if the policy is null
+         */
+        public Builder<T> nonAsciiDigitPolicy(final NonAsciiDigitPolicy nonAsciiDigitPolicy) {
+            if (nonAsciiDigitPolicy == null) {
+                throw new IllegalArgumentException("The non-ASCII digit policy cannot be null.");
+            }
+            this.nonAsciiDigitPolicy = nonAsciiDigitPolicy;
+            return this;
+        }
+
+        /**
+         * Creates the {@link ValidationProcessor}.
+         *
+         * @return the {@link ValidationProcessor}
+         * @throws IllegalStateException if the batch size is larger than the buffer size
+         * @throws UnsupportedOperationException if the country is not supported
+         */
+        public ValidationProcessor<T> build() {
+            if (batchSize > bufferSize) {
+                throw new IllegalStateException("The batch size cannot be larger than the buffer size.");
+            }
+            return new ValidationProcessor<>(this);
+        }
+    }
+
+    private static final class SubscriptionUpstream implements ValidationEngine.Upstream {
+
+        private final Flow.Subscription subscription;
+
+        private SubscriptionUpstream(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void request(final long n) {
+            subscription.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            subscription.cancel();
+        }
+    }
+
+    private static final class SubscriberDownstream<T> implements ValidationEngine.Downstream<T> {
+
+        private final Flow.Subscriber<? super ValidatedRecord<T>> subscriber;
+
+        private SubscriberDownstream(final Flow.Subscriber<? super ValidatedRecord<T>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void onNext(final T record, final ParseResult result) {
+            subscriber.onNext(new ValidatedRecord<>(record, result));
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            subscriber.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            subscriber.onComplete();
+        }
+    }
+
+    private final class DownstreamSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(final long n) {
+            engine.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            engine.cancel();
+        }
+    }
+
+    private static final class RejectedSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(final long n) {
+            // nothing is ever emitted to a rejected subscriber
+        }
+
+        @Override
+        public void cancel() {
+            // nothing is ever emitted to a rejected subscriber
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.github.reducktion.socrates;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.function.IntToLongFunction;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Measures the bytes allocated per call of {@link Socrates#validateId(String, Country)},
+ * {@link Socrates#extractCitizenFromId(String, Country)}, {@link Socrates#extractPacked(CharSequence, Country)} and
+ * {@link Socrates#isValid(byte[], int, int, Country)}, over a mix of valid and invalid ids of every country, and
+ * compares them with the budgets in {@code allocation-budgets.properties}.
+ * <p>
+ * It runs with {@code ./gradlew allocationTest}, not with the unit tests. A budget can only be raised along with the
+ * reason why the extra allocations are needed; when an optimization lowers the allocations, lower the budget too.
+ */
+@Tag("allocation")
+class AllocationBudgetTest {
+
+    private static final String BUDGETS_RESOURCE = "/allocation-budgets.properties";
+    private static final int WARMUP_CALLS = 100_000;
+    private static final int MEASURED_CALLS = 10_000;
+    private static final int ROUNDS = 5;
+
+    private static final Map<Country, String[]> IDS = new EnumMap<>(Country.class);
+
+    static {
+        // { valid, valid, wrong length, wrong checksum (reserved value for the US), invalid characters }
+        IDS.put(Country.BE, new String[] {
+            "93.05.18-223.61", "01111600105", "01.11.16-001", "01.11.16-001.06", "01.11.16-0A1.05"
+        });
+        IDS.put(Country.BR, new String[] {
+            "144-416-762.63", " 62363568400 ", "1234567890", "23294954040", "1234567AB01"
+        });
+        IDS.put(Country.CA, new String[] { "046 454 286", "046454286", "12345678", "046 454 287", "12345678A" });
+        IDS.put(Country.DE, new String[] {
+            "86095742719", "47036892816", "1234567890123", "86095742718", "1234567890A"
+        });
+        IDS.put(Country.DK, new String[] { " 090792-1395 ", "0705930600", "12345678901", "090792-0136", "123456789A" });
+        IDS.put(Country.ES, new String[] { "843-456-42L", " y3338121f ", "12345678", "05756786M", "1234567AB" });
+        IDS.put(Country.FR, new String[] {
+            " 2820819398814 09 ", "199072a22807010", "12345678901234", "2820819398814 10", "12345678901234A"
+        });
+        IDS.put(Country.IT, new String[] {
+            " MRTMTT25D09F20 5Z ", "mllsnt82p65z404u", "123456789012345", "MRTMTT25D09F205H", "MRTMTT25D09F2!5Z"
+        });
+        IDS.put(Country.LU, new String[] {
+            "198-308-124-6785", " 2003042581939 ", "123456789012", "1994789587182", "12345678901AB"
+        });
+        IDS.put(Country.MX, new String[] {
+            "AAIM901112MBCNMN08", "aaim901112mbcnmn08", "12345678901234567", "AAIM901112MBCNMN09", "AAIM901112VBCNMN08"
+        });
+        IDS.put(Country.PT, new String[] {
+            " 11084129 8 ZX8 ", "154203556zx9", "12345678901", "15420355 6 ZI8", "154203556Z!9"
+        });
+        IDS.put(Country.US, new String[] { "167-38-1265", " 536228726 ", "12345678", "000-22-8724", "12345678A" });
+    }
+
+    private static final Properties BUDGETS = loadBudgets();
+
+    private final Socrates socrates = new Socrates();
+
+    @ParameterizedTest(name = "#{index} - Test with Argument={0}")
+    @EnumSource(Country.class)
+    void validateId_shouldNotExceedAllocationBudget(final Country country) {
+        final String[] ids = IDS.get(country);
+
+        assertWithinBudget(country, "validateId", i -> socrates.validateId(ids[i % ids.length], country) ? 1 : 0);
+    }
+
+    @ParameterizedTest(name = "#{index} - Test with Argument={0}")
+    @EnumSource(Country.class)
+    void extractCitizenFromId_shouldNotExceedAllocationBudget(final Country country) {
+        final String[] ids = IDS.get(country);
+
+        assertWithinBudget(
+            country,
+            "extractCitizenFromId",
+            i -> Objects.hashCode(socrates.extractCitizenFromId(ids[i % ids.length], country))
+        );
+    }
+
+    @ParameterizedTest(name = "#{index} - Test with Argument={0}")
+    @EnumSource(Country.class)
+    void extractPacked_shouldNotExceedAllocationBudget(final Country country) {
+        final String[] ids = IDS.get(country);
+
+        assertWithinBudget(country, "extractPacked", i -> socrates.extractPacked(ids[i % ids.length], country));
+    }
+
+    @ParameterizedTest(name = "#{index} - Test with Argument={0}")
+    @EnumSource(Country.class)
+    void isValidBytes_shouldNotExceedAllocationBudget(final Country country) {
+        final String[] ids = IDS.get(country);
+        final byte[][] bytes = new byte[ids.length][];
+        final ByteBuffer[] buffers = new ByteBuffer[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            bytes[i] = ids[i].getBytes(StandardCharsets.US_ASCII);
+            buffers[i] = ByteBuffer.allocateDirect(bytes[i].length).put(bytes[i]);
+        }
+
+        assertWithinBudget(country, "isValidBytes", i -> {
+            final int index = i % ids.length;
+            return i % 2 == 0
+                ? Socrates.isValid(bytes[index], 0, bytes[index].length, country) ? 1 : 0
+                : Socrates.isValid(buffers[index], 0, bytes[index].length, country) ? 1 : 0;
+        });
+    }
+
+    private static void assertWithinBudget(final Country country, final String method, final IntToLongFunction call) {
+        final com.sun.management.ThreadMXBean threadMxBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMxBean.isThreadAllocatedMemorySupported() && threadMxBean.isThreadAllocatedMemoryEnabled());
+
+        final String key = country + "." + method;
+        final String budget = BUDGETS.getProperty(key);
+        if (budget == null) {
+            throw new IllegalStateException("There is no allocation budget for " + key + " in " + BUDGETS_RESOURCE);
+        }
+
+        final double bytesPerCall = measureBytesPerCall(threadMxBean, call);
+        assertThat("Bytes allocated per call of " + key, bytesPerCall, lessThanOrEqualTo(Double.valueOf(budget)));
+    }
+
+    // the minimum of several rounds, so that one-off allocations (e.g. of the JIT compiler) are not counted
+    private static double measureBytesPerCall(
+        final com.sun.management.ThreadMXBean threadMxBean,
+        final IntToLongFunction call
+    ) {
+        final long threadId = Thread.currentThread().getId();
+        long hash = 0;
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            hash += call.applyAsLong(i);
+        }
+
+        double minBytesPerCall = Double.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            final long allocatedBytesBefore = threadMxBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < MEASURED_CALLS; i++) {
+                hash += call.applyAsLong(i);
+            }
+            final long allocatedBytes = threadMxBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+            minBytesPerCall = Math.min(minBytesPerCall, (double) allocatedBytes / MEASURED_CALLS);
+        }
+
+        // the hash is used, so that the calls cannot be eliminated
+        return hash == 42 ? minBytesPerCall + Double.MIN_VALUE : minBytesPerCall;
+    }
+
+    private static Properties loadBudgets() {
+        final Properties budgets = new Properties();
+        try (InputStream inputStream = AllocationBudgetTest.class.getResourceAsStream(BUDGETS_RESOURCE)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("Resource " + BUDGETS_RESOURCE + " not found on the classpath");
+            }
+            budgets.load(inputStream);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Could not read " + BUDGETS_RESOURCE, e);
+        }
+        return budgets;
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.reducktion.socrates;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncSocratesTest {
+
+    private ExecutorService executor;
+    private AsyncSocrates asyncSocrates;
+
+    @BeforeEach
+    void setup() {
+        executor = Executors.newFixedThreadPool(2);
+        asyncSocrates = new AsyncSocrates(
+            new Socrates(Clock.fixed(Instant.parse("2020-06-15T00:00:00Z"), ZoneOffset.UTC)),
+            executor
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void validateId_shouldCompleteWithTrue_whenIdIsValid() throws Exception {
+        assertThat(asyncSocrates.validateId(" 2820819398814 09 ", Country.FR).get(), is(true));
+    }
+
+    @Test
+    void extractCitizenFromId_shouldCompleteWithCitizen_whenIdsAreFannedOut() throws Exception {
+        final CompletableFuture<Optional<Citizen>> applicant =
+            asyncSocrates.extractCitizenFromId("MRTMTT25D09F205Z", Country.IT);
+        final CompletableFuture<Optional<Citizen>> coApplicant =
+            asyncSocrates.extractCitizenFromId("MECDRE01A11A025E", Country.IT);
+
+        CompletableFuture.allOf(applicant, coApplicant).get();
+
+        assertThat(applicant.get().flatMap(Citizen::getYearOfBirth), is(Optional.of(1925)));
+        assertThat(coApplicant.get(), is(Optional.empty()));
+    }
+
+    @Test
+    void parse_shouldCompleteWithFailureReason_whenIdIsInvalid() throws Exception {
+        final ParseResult result = asyncSocrates.parse("2820819398814 10", Country.FR).get();
+
+        assertThat(result.getFailureReason(), is(Optional.of(FailureReason.INVALID_CHECKSUM)));
+    }
+
+    @Test
+    void validateId_shouldCompleteExceptionally_whenCountryIsNull() {
+        final CompletableFuture<Boolean> future = asyncSocrates.validateId("2820819398814 09", null);
+
+        final ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertThat(exception.getCause(), is(instanceOf(UnsupportedOperationException.class)));
+    }
+
+    @Test
+    void validateId_shouldRunInDefaultExecutor_whenNoneIsGiven() throws Exception {
+        assertThat(new AsyncSocrates().validateId("238108021456811", Country.FR).get(), is(true));
+    }
+
+    @Test
+    void constructor_shouldThrowException_whenExecutorIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncSocrates(null));
+    }
+}
@@ -0,0 +1,143 @@
+package com.github.reducktion.socrates;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CitizenColumnsTest {
+
+    private static final String[] ITALY_IDS = {
+        "MRTMTT25D09F205Z",
+        "MRTMTT25D09F205H", // bad checksum
+        null,
+        "MLLSNT82P65Z404U"
+    };
+
+    private Socrates socrates;
+
+    @BeforeEach
+    void setup() {
+        socrates = new Socrates(Clock.fixed(Instant.parse("2020-06-15T00:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @Test
+    void extractAll_shouldFillColumns() {
+        final CitizenColumns columns = socrates.extractAll(ITALY_IDS, Country.IT);
+
+        assertThat(columns.getCountry(), is(Country.IT));
+        assertThat(columns.size(), is(4));
+        assertThat(columns.getValid(), is(bitSet(0, 3)));
+        final byte male = (byte) Gender.MALE.ordinal();
+        final byte female = (byte) Gender.FEMALE.ordinal();
+        assertThat(columns.getGenders(), is(new byte[] { male, -1, -1, female }));
+        assertThat(columns.getYearsOfBirth(), is(new short[] { 1925, -1, -1, 1982 }));
+        assertThat(columns.getMonthsOfBirth(), is(new byte[] { 4, -1, -1, 9 }));
+        assertThat(columns.getDaysOfBirth(), is(new byte[] { 9, -1, -1, 25 }));
+        assertThat(columns.getPlaceOfBirth(columns.getPlaceOfBirthCodes()[0]), is("MILANO (MI)"));
+        assertThat(columns.getPlaceOfBirth(columns.getPlaceOfBirthCodes()[3]), is("STATI UNITI D'AMERICA"));
+        assertThat(columns.getPlaceOfBirthCodes()[1], is(PackedCitizen.ABSENT));
+    }
+
+    @Test
+    void extractAll_shouldMatchExtractCitizenFromId() {
+        final CitizenColumns columns = socrates.extractAll(Arrays.asList(ITALY_IDS), Country.IT);
+
+        for (int i = 0; i < ITALY_IDS.length; i++) {
+            assertThat(columns.getCitizen(i), is(socrates.extractCitizenFromId(ITALY_IDS[i], Country.IT)));
+        }
+    }
+
+    @Test
+    void extractAll_shouldSetValidity_whenCountryDoesNotSupportExtraction() {
+        final CitizenColumns columns = socrates.extractAll(
+            new String[] { "232.949.540-42", "232.949.540-43" },
+            Country.BR
+        );
+
+        assertThat(columns.getValid(), is(bitSet(0)));
+        assertThat(columns.getYearsOfBirth(), is(new short[] { -1, -1 }));
+        assertThat(columns.getCitizen(0), is(Optional.empty()));
+    }
+
+    @Test
+    void extractAll_shouldThrowIllegalArgumentException_whenIdsAreNull() {
+        assertThrows(IllegalArgumentException.class, () -> socrates.extractAll((String[]) null, Country.IT));
+    }
+
+    @Test
+    void getCitizen_shouldThrowIndexOutOfBoundsException_whenIndexIsOutOfRange() {
+        final CitizenColumns columns = socrates.extractAll(ITALY_IDS, Country.IT);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> columns.getCitizen(4));
+    }
+
+    @Test
+    void readFrom_shouldReadWhatWasWritten() throws IOException {
+        final CitizenColumns columns = socrates.extractAll(ITALY_IDS, Country.IT);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        columns.writeTo(new DataOutputStream(bytes));
+
+        final CitizenColumns readColumns = CitizenColumns.readFrom(
+            new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))
+        );
+
+        assertThat(readColumns.getCountry(), is(columns.getCountry()));
+        assertThat(readColumns.size(), is(columns.size()));
+        assertThat(readColumns.getValid(), is(columns.getValid()));
+        assertThat(readColumns.getGenders(), is(columns.getGenders()));
+        assertThat(readColumns.getYearsOfBirth(), is(columns.getYearsOfBirth()));
+        assertThat(readColumns.getMonthsOfBirth(), is(columns.getMonthsOfBirth()));
+        assertThat(readColumns.getDaysOfBirth(), is(columns.getDaysOfBirth()));
+        assertThat(readColumns.getPlaceOfBirthCodes(), is(columns.getPlaceOfBirthCodes()));
+    }
+
+    @Test
+    void readFrom_shouldThrowIOException_whenFormatIsUnknown() {
+        final byte[] bytes = { 0, 0, 0, 42 };
+
+        assertThrows(
+            IOException.class,
+            () -> CitizenColumns.readFrom(new DataInputStream(new ByteArrayInputStream(bytes)))
+        );
+    }
+
+    @Test
+    void readFrom_shouldThrowIOException_whenGenderIsUnknown() throws IOException {
+        final CitizenColumns columns = socrates.extractAll(ITALY_IDS, Country.IT);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        columns.writeTo(new DataOutputStream(output));
+        final byte[] bytes = output.toByteArray();
+        // the version, the country, the size, the number of validity words and the words come before the genders
+        final int gendersOffset = Integer.BYTES + 2 + Country.IT.name().length() + Integer.BYTES + Integer.BYTES
+            + columns.getValid().toLongArray().length * Long.BYTES;
+        bytes[gendersOffset] = (byte) Gender.values().length;
+
+        assertThrows(
+            IOException.class,
+            () -> CitizenColumns.readFrom(new DataInputStream(new ByteArrayInputStream(bytes)))
+        );
+    }
+
+    private static BitSet bitSet(final int... indexes) {
+        final BitSet bitSet = new BitSet();
+        for (final int index : indexes) {
+            bitSet.set(index);
+        }
+        return bitSet;
+    }
+}
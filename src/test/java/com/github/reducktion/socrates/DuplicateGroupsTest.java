@@ -0,0 +1,100 @@
+package com.github.reducktion.socrates;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+class DuplicateGroupsTest {
+
+    private static final String[] ITALY_IDS = {
+        "MRCDRA01A13A065E",
+        "MLLSNT82P65Z404U",
+        "MRCDRALMAMPALSRE", // omocodia of the first id
+        null,
+        "mllsnt 82p65 z404u",
+        "MRTMTT25D09F205H", // bad checksum
+        "MRCDRA01A13A06RE", // omocodia of the first id
+        "MRTMTT25D09F205Z"
+    };
+
+    @Test
+    void findDuplicates_shouldGroupCanonicalIds() {
+        final DuplicateGroups duplicateGroups = Socrates.findDuplicates(ITALY_IDS, Country.IT);
+
+        assertThat(duplicateGroups.getCountry(), is(Country.IT));
+        assertThat(duplicateGroups.size(), is(8));
+        assertThat(duplicateGroups.getDistinctCount(), is(3));
+        assertThat(duplicateGroups.getSkippedCount(), is(2));
+        assertThat(duplicateGroups.getGroupCount(), is(2));
+        assertThat(duplicateGroups.getGroup(0), is(new int[] { 0, 2, 6 }));
+        assertThat(duplicateGroups.getCanonicalId(0), is("MRCDRA01A13A065E"));
+        assertThat(duplicateGroups.getGroup(1), is(new int[] { 1, 4 }));
+        assertThat(duplicateGroups.getCanonicalId(1), is("MLLSNT82P65Z404U"));
+        assertThat(duplicateGroups.getDuplicates(), is(bitSet(2, 4, 6)));
+    }
+
+    @Test
+    void findDuplicates_shouldMatchArray_whenIdsAreList() {
+        final DuplicateGroups duplicateGroups = Socrates.findDuplicates(Arrays.asList(ITALY_IDS), Country.IT);
+
+        assertThat(duplicateGroups.getGroupCount(), is(2));
+        assertThat(duplicateGroups.getGroup(0), is(new int[] { 0, 2, 6 }));
+        assertThat(duplicateGroups.getDuplicates(), is(bitSet(2, 4, 6)));
+    }
+
+    @Test
+    void findDuplicates_shouldIgnoreSeparators() {
+        final DuplicateGroups duplicateGroups = Socrates.findDuplicates(
+            new String[] { "2820819398814 09", "282081939881409", "1-99-07-2A-228-070-10", "199072a22807010" },
+            Country.FR
+        );
+
+        assertThat(duplicateGroups.getDistinctCount(), is(2));
+        assertThat(duplicateGroups.getGroup(0), is(new int[] { 0, 1 }));
+        assertThat(duplicateGroups.getGroup(1), is(new int[] { 2, 3 }));
+        assertThat(duplicateGroups.getCanonicalId(1), is("199072A22807010"));
+    }
+
+    @Test
+    void findDuplicates_shouldReturnNoGroups_whenIdsAreDistinct() {
+        final DuplicateGroups duplicateGroups = Socrates.findDuplicates(
+            new String[] { "167-38-1265", "536228726" },
+            Country.US
+        );
+
+        assertThat(duplicateGroups.getDistinctCount(), is(2));
+        assertThat(duplicateGroups.getGroupCount(), is(0));
+        assertThat(duplicateGroups.getDuplicates().isEmpty(), is(true));
+    }
+
+    @Test
+    void findDuplicates_shouldThrowIllegalArgumentException_whenIdsAreNull() {
+        assertThrows(IllegalArgumentException.class, () -> Socrates.findDuplicates((String[]) null, Country.IT));
+    }
+
+    @Test
+    void findDuplicates_shouldThrowUnsupportedOperationException_whenCountryIsNull() {
+        assertThrows(UnsupportedOperationException.class, () -> Socrates.findDuplicates(new String[0], null));
+    }
+
+    @Test
+    void getGroup_shouldThrowIndexOutOfBoundsException_whenGroupIsOutOfRange() {
+        final DuplicateGroups duplicateGroups = Socrates.findDuplicates(ITALY_IDS, Country.IT);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> duplicateGroups.getGroup(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> duplicateGroups.getCanonicalId(-1));
+    }
+
+    private static BitSet bitSet(final int... indexes) {
+        final BitSet bitSet = new BitSet();
+        for (final int index : indexes) {
+            bitSet.set(index);
+        }
+        return bitSet;
+    }
+}
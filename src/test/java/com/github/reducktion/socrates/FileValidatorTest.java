@@ -0,0 +1,143 @@
+package com.github.reducktion.socrates;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FileValidatorTest {
+
+    // line 2 has an invalid checksum, line 4 is empty and line 5 is too short
+    private static final String CONTENT = " 2820819398814 09 \n"
+        + "2820819398814 10\r\n"
+        + "238108021456811\n"
+        + "\n"
+        + "1234\n"
+        + "188085870457157";
+
+    private Path path;
+
+    @BeforeEach
+    void setup() throws IOException {
+        path = Files.createTempFile("ids", ".txt");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @ParameterizedTest(name = "#{index} - Test with Argument={0}")
+    @ValueSource(ints = { 1, 2, 7, 16, 17, 18, 19, 20, 64, 1024 })
+    void validate_shouldCountRecords_whenFileIsSplitInWindows(final int windowSize) throws IOException {
+        Files.write(path, CONTENT.getBytes(StandardCharsets.US_ASCII));
+
+        final FileValidationResult result = FileValidator.builder()
+            .windowSize(windowSize)
+            .collectInvalidRecords(10)
+            .build()
+            .validate(path, Country.FR);
+
+        assertThat(result.getSummary().getTotalCount(), is(6L));
+        assertThat(result.getSummary().getValidCount(), is(3L));
+        assertThat(result.getSummary().getFailureCount(FailureReason.INVALID_CHECKSUM), is(1L));
+        assertThat(result.getSummary().getFailureCount(FailureReason.INVALID_LENGTH), is(2L));
+        assertThat(result.getInvalidRecords(), is(Arrays.asList(
+            new InvalidRecord(19, 2, FailureReason.INVALID_CHECKSUM),
+            new InvalidRecord(53, 4, FailureReason.INVALID_LENGTH),
+            new InvalidRecord(54, 5, FailureReason.INVALID_LENGTH)
+        )));
+    }
+
+    @Test
+    void validate_shouldReturnSameResult_whenWindowsAreValidatedInParallel() throws IOException {
+        final StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            content.append(i % 3 == 0 ? "2820819398814 10\n" : "238108021456811\n");
+        }
+        Files.write(path, content.toString().getBytes(StandardCharsets.US_ASCII));
+
+        final FileValidationResult result = FileValidator.builder()
+            .windowSize(100)
+            .parallelism(4)
+            .collectInvalidRecords(2)
+            .build()
+            .validate(path, Country.FR);
+
+        assertThat(result.getSummary().getValidCount(), is(666L));
+        assertThat(result.getSummary().getInvalidCount(), is(334L));
+        assertThat(result.getInvalidRecords(), is(Arrays.asList(
+            new InvalidRecord(0, 1, FailureReason.INVALID_CHECKSUM),
+            new InvalidRecord(17 + 16 + 16, 4, FailureReason.INVALID_CHECKSUM)
+        )));
+    }
+
+    @Test
+    void validate_shouldNotCollectInvalidRecords_byDefault() throws IOException {
+        Files.write(path, CONTENT.getBytes(StandardCharsets.US_ASCII));
+
+        final FileValidationResult result = FileValidator.builder().build().validate(path, Country.FR);
+
+        assertThat(result.getSummary().getInvalidCount(), is(3L));
+        assertThat(result.getInvalidRecords().isEmpty(), is(true));
+    }
+
+    @Test
+    void validate_shouldReturnNoRecords_whenFileIsEmpty() throws IOException {
+        final FileValidationResult result = FileValidator.builder().build().validate(path, Country.FR);
+
+        assertThat(result.getSummary().getTotalCount(), is(0L));
+    }
+
+    @Test
+    void validate_shouldUseClock() throws IOException {
+        // born on 29 February 2000, or 1900 if the ids are resolved in 1990
+        Files.write(path, "MRTMTT00B29F205L\n".getBytes(StandardCharsets.US_ASCII));
+
+        final FileValidationResult result = FileValidator.builder()
+            .clock(Clock.fixed(Instant.parse("1990-01-01T00:00:00Z"), ZoneOffset.UTC))
+            .build()
+            .validate(path, Country.IT);
+
+        assertThat(result.getSummary().getFailureCount(FailureReason.INVALID_DATE_OF_BIRTH), is(1L));
+    }
+
+    @Test
+    void validate_shouldReportInvalidLength_whenRecordIsLongerThanMaximum() throws IOException {
+        final byte[] content = new byte[FileValidator.MAX_RECORD_LENGTH + 20];
+        Arrays.fill(content, (byte) ' ');
+        content[content.length - 17] = '\n';
+        System.arraycopy("238108021456811".getBytes(StandardCharsets.US_ASCII), 0, content, content.length - 16, 15);
+        content[content.length - 1] = '\n';
+        Files.write(path, content);
+
+        final List<InvalidRecord> invalidRecords = FileValidator.builder()
+            .windowSize(10)
+            .collectInvalidRecords(10)
+            .build()
+            .validate(path, Country.FR)
+            .getInvalidRecords();
+
+        assertThat(invalidRecords, is(Arrays.asList(new InvalidRecord(0, 1, FailureReason.INVALID_LENGTH))));
+    }
+
+    @Test
+    void builder_shouldThrowException_whenWindowSizeIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> FileValidator.builder().windowSize(0));
+    }
+}
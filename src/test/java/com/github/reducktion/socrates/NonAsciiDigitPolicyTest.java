@@ -0,0 +1,26 @@
+package com.github.reducktion.socrates;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class NonAsciiDigitPolicyTest {
+
+    @Test
+    void fromProperty_shouldReturnNormalize_whenPropertyIsNotSet() {
+        assertThat(NonAsciiDigitPolicy.fromProperty(null), is(NonAsciiDigitPolicy.NORMALIZE));
+    }
+
+    @Test
+    void fromProperty_shouldIgnoreCase() {
+        assertThat(NonAsciiDigitPolicy.fromProperty("normalize"), is(NonAsciiDigitPolicy.NORMALIZE));
+        assertThat(NonAsciiDigitPolicy.fromProperty(" Reject "), is(NonAsciiDigitPolicy.REJECT));
+    }
+
+    @Test
+    void fromProperty_shouldThrowIllegalArgumentException_whenValueIsUnknown() {
+        assertThrows(IllegalArgumentException.class, () -> NonAsciiDigitPolicy.fromProperty("ignore"));
+    }
+}
@@ -0,0 +1,147 @@
+package com.github.reducktion.socrates;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class PackedCitizenTest {
+
+    private Socrates socrates;
+
+    @BeforeEach
+    void setup() {
+        socrates = new Socrates(Clock.fixed(Instant.parse("2020-06-15T00:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @Test
+    void pack_shouldStoreEveryField() {
+        final long packedCitizen = PackedCitizen.pack(Gender.FEMALE, 1982, 8, 19, 5205);
+
+        assertThat(PackedCitizen.gender(packedCitizen), is(Gender.FEMALE));
+        assertThat(PackedCitizen.yearOfBirth(packedCitizen), is(1982));
+        assertThat(PackedCitizen.monthOfBirth(packedCitizen), is(8));
+        assertThat(PackedCitizen.dayOfBirth(packedCitizen), is(19));
+        assertThat(PackedCitizen.placeOfBirthCode(packedCitizen), is(5205));
+    }
+
+    @Test
+    void pack_shouldStoreExtremeValues() {
+        final long packedCitizen = PackedCitizen.pack(Gender.MALE, 9999, 12, 31, PackedCitizen.MAX_PLACE_OF_BIRTH_CODE);
+
+        assertThat(packedCitizen == PackedCitizen.NONE, is(false));
+        assertThat(PackedCitizen.gender(packedCitizen), is(Gender.MALE));
+        assertThat(PackedCitizen.yearOfBirth(packedCitizen), is(9999));
+        assertThat(PackedCitizen.monthOfBirth(packedCitizen), is(12));
+        assertThat(PackedCitizen.dayOfBirth(packedCitizen), is(31));
+        assertThat(PackedCitizen.placeOfBirthCode(packedCitizen), is(PackedCitizen.MAX_PLACE_OF_BIRTH_CODE));
+    }
+
+    @Test
+    void pack_shouldDistinguishZeroFromAbsent() {
+        final long packedCitizen = PackedCitizen.pack(null, 0, PackedCitizen.ABSENT, PackedCitizen.ABSENT, 0);
+
+        assertThat(PackedCitizen.gender(packedCitizen), is((Gender) null));
+        assertThat(PackedCitizen.yearOfBirth(packedCitizen), is(0));
+        assertThat(PackedCitizen.monthOfBirth(packedCitizen), is(PackedCitizen.ABSENT));
+        assertThat(PackedCitizen.dayOfBirth(packedCitizen), is(PackedCitizen.ABSENT));
+        assertThat(PackedCitizen.placeOfBirthCode(packedCitizen), is(0));
+    }
+
+    @Test
+    void pack_shouldThrowIllegalArgumentException_whenValueIsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> PackedCitizen.pack(null, 10_000, 1, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> PackedCitizen.pack(null, 2000, 13, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> PackedCitizen.pack(null, 2000, 1, 32, 0));
+        assertThrows(IllegalArgumentException.class, () -> PackedCitizen.pack(null, 2000, 1, 1, -2));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> PackedCitizen.pack(null, 2000, 1, 1, PackedCitizen.MAX_PLACE_OF_BIRTH_CODE + 1)
+        );
+    }
+
+    @Test
+    void getters_shouldReturnOptionals() {
+        final long packedCitizen = PackedCitizen.pack(Gender.MALE, 1925, 4, PackedCitizen.ABSENT, PackedCitizen.ABSENT);
+
+        assertThat(PackedCitizen.getGender(packedCitizen), is(Optional.of(Gender.MALE)));
+        assertThat(PackedCitizen.getYearOfBirth(packedCitizen), is(OptionalInt.of(1925)));
+        assertThat(PackedCitizen.getMonthOfBirth(packedCitizen), is(OptionalInt.of(4)));
+        assertThat(PackedCitizen.getDayOfBirth(packedCitizen), is(OptionalInt.empty()));
+        assertThat(PackedCitizen.getPlaceOfBirthCode(packedCitizen), is(OptionalInt.empty()));
+    }
+
+    @Test
+    void getters_shouldReturnAbsent_whenPackedCitizenIsNone() {
+        assertThat(PackedCitizen.gender(PackedCitizen.NONE), is((Gender) null));
+        assertThat(PackedCitizen.getGender(PackedCitizen.NONE), is(Optional.empty()));
+        assertThat(PackedCitizen.yearOfBirth(PackedCitizen.NONE), is(PackedCitizen.ABSENT));
+        assertThat(PackedCitizen.monthOfBirth(PackedCitizen.NONE), is(PackedCitizen.ABSENT));
+        assertThat(PackedCitizen.dayOfBirth(PackedCitizen.NONE), is(PackedCitizen.ABSENT));
+        assertThat(PackedCitizen.getPlaceOfBirthCode(PackedCitizen.NONE), is(OptionalInt.empty()));
+    }
+
+    @ParameterizedTest(name = "#{index} - Test with Arguments={0}, {1}")
+    @MethodSource("validIds")
+    void extractPacked_shouldMatchExtractedCitizen(final Country country, final String id) {
+        final Citizen citizen = socrates.extractCitizenFromId(id, country).get();
+
+        final long packedCitizen = socrates.extractPacked(id, country);
+
+        assertThat(PackedCitizen.toCitizen(packedCitizen, country), is(citizen));
+        assertThat(PackedCitizen.fromCitizen(citizen, country), is(packedCitizen));
+    }
+
+    private static Stream<Arguments> validIds() {
+        return Stream.of(
+            Arguments.arguments(Country.BE, "93.05.18-223.61"),
+            Arguments.arguments(Country.BE, "40.00.00-954.80"),
+            Arguments.arguments(Country.DK, "090792-1395"),
+            Arguments.arguments(Country.FR, "2820819398814 09"),
+            Arguments.arguments(Country.FR, "199072A228070 10"),
+            Arguments.arguments(Country.FR, "257092B844458 87"),
+            Arguments.arguments(Country.FR, "1820897401154 75"),
+            Arguments.arguments(Country.IT, " MRTMTT25D09F20 5Z "),
+            Arguments.arguments(Country.IT, "MLLSNT82P65Z404U"),
+            Arguments.arguments(Country.MX, "AAIM901112MBCNMN08")
+        );
+    }
+
+    @Test
+    void extractPacked_shouldReturnNone_whenCountryDoesNotSupportExtraction() {
+        assertThat(socrates.extractPacked("232.949.540-42", Country.BR), is(PackedCitizen.NONE));
+    }
+
+    @Test
+    void fromCitizen_shouldLeavePlaceOfBirthUnknown_whenItHasNoCode() {
+        final Citizen citizen = Citizen.builder().gender(Gender.FEMALE).placeOfBirth("Atlantis").build();
+
+        final long packedCitizen = PackedCitizen.fromCitizen(citizen, Country.IT);
+
+        assertThat(PackedCitizen.gender(packedCitizen), is(Gender.FEMALE));
+        assertThat(PackedCitizen.yearOfBirth(packedCitizen), is(PackedCitizen.ABSENT));
+        assertThat(PackedCitizen.placeOfBirthCode(packedCitizen), is(PackedCitizen.ABSENT));
+    }
+
+    @Test
+    void fromCitizen_shouldThrowIllegalArgumentException_whenCitizenIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> PackedCitizen.fromCitizen(null, Country.IT));
+    }
+
+    @Test
+    void toCitizen_shouldThrowIllegalArgumentException_whenPackedCitizenIsNone() {
+        assertThrows(IllegalArgumentException.class, () -> PackedCitizen.toCitizen(PackedCitizen.NONE, Country.IT));
+    }
+}
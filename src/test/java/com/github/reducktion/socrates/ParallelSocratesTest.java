@@ -0,0 +1,165 @@
+package com.github.reducktion.socrates;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ParallelSocratesTest {
+
+    private static final String[] ID_MIX = {
+        " 2820819398814 09 ", "2820819398814 10", null, "1234", "238108021456811"
+    };
+
+    private ParallelSocrates parallelSocrates;
+
+    @BeforeEach
+    void setup() {
+        parallelSocrates = ParallelSocrates.builder()
+            .parallelism(4)
+            .minChunkSize(16)
+            .clock(Clock.fixed(Instant.parse("2020-06-15T00:00:00Z"), ZoneOffset.UTC))
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelSocrates.close();
+    }
+
+    @Test
+    void validateAll_shouldReturnSameResultsAsSequentialValidation_whenBatchIsSplit() {
+        final CharSequence[] ids = newIds(1000);
+        final boolean[] valid = new boolean[ids.length];
+
+        final ValidationSummary summary = parallelSocrates.validateAll(ids, Country.FR, valid);
+
+        final BitSet expectedValid = new BitSet();
+        final ValidationSummary expectedSummary = Socrates.validateAll(ids, Country.FR, expectedValid);
+        assertThat(summary, is(expectedSummary));
+        assertThat(summary.getValidCount(), is(400L));
+        assertThat(summary.getFailureCount(FailureReason.MISSING), is(200L));
+        for (int i = 0; i < ids.length; i++) {
+            assertThat(valid[i], is(expectedValid.get(i)));
+        }
+        assertThat(parallelSocrates.validateAll(ids, Country.FR), is(expectedValid));
+    }
+
+    @Test
+    void validateAll_shouldReturnSameResults_whenIdsAreList() {
+        final List<CharSequence> ids = Arrays.asList(newIds(333));
+        final BitSet expectedValid = Socrates.validateAll(ids, Country.FR);
+
+        assertThat(parallelSocrates.validateAll(ids, Country.FR), is(expectedValid));
+        assertThat(parallelSocrates.validateAll(new LinkedList<>(ids), Country.FR), is(expectedValid));
+    }
+
+    @Test
+    void validateAll_shouldUseClock() {
+        // born on 29 February 2000, or 1900 if the ids are resolved in 1990
+        final CharSequence[] ids = { "MRTMTT00B29F205L" };
+        final ParallelSocrates parallelSocrates1990 = ParallelSocrates.builder()
+            .clock(Clock.fixed(Instant.parse("1990-01-01T00:00:00Z"), ZoneOffset.UTC))
+            .build();
+
+        assertThat(parallelSocrates1990.validateAll(ids, Country.IT).isEmpty(), is(true));
+        assertThat(parallelSocrates.validateAll(ids, Country.IT).get(0), is(true));
+    }
+
+    @Test
+    void validateAll_shouldRejectNonAsciiDigits_whenPolicyIsReject() {
+        final CharSequence[] ids = { "٢820819398814 ０9", "2820819398814 09" };
+        final ParallelSocrates rejecting = ParallelSocrates.builder()
+            .nonAsciiDigitPolicy(NonAsciiDigitPolicy.REJECT)
+            .build();
+        final ParallelSocrates normalizing = ParallelSocrates.builder()
+            .nonAsciiDigitPolicy(NonAsciiDigitPolicy.NORMALIZE)
+            .build();
+
+        final boolean[] valid = new boolean[ids.length];
+        final ValidationSummary summary = rejecting.validateAll(Arrays.asList(ids), Country.FR, valid);
+
+        assertThat(valid[0], is(false));
+        assertThat(valid[1], is(true));
+        assertThat(summary.getFailureCount(FailureReason.INVALID_CHARACTERS), is(1L));
+        assertThat(rejecting.validateAll(ids, Country.FR).get(0), is(false));
+        assertThat(
+            rejecting.parseAll(ids, Country.FR)[0].getFailureReason(),
+            is(Optional.of(FailureReason.INVALID_CHARACTERS))
+        );
+        assertThat(normalizing.validateAll(ids, Country.FR).cardinality(), is(2));
+    }
+
+    @Test
+    void builder_shouldThrowIllegalArgumentException_whenPolicyIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> ParallelSocrates.builder().nonAsciiDigitPolicy(null));
+    }
+
+    @Test
+    void parseAll_shouldPreserveOrder_whenBatchIsSplit() {
+        final CharSequence[] ids = newIds(500);
+        final Socrates socrates = new Socrates(Clock.fixed(Instant.parse("2020-06-15T00:00:00Z"), ZoneOffset.UTC));
+
+        final ParseResult[] results = parallelSocrates.parseAll(ids, Country.FR);
+        final List<ParseResult> resultsList = parallelSocrates.parseAll(Arrays.asList(ids), Country.FR);
+
+        for (int i = 0; i < ids.length; i++) {
+            assertThat(results[i], is(socrates.parse(ids[i], Country.FR)));
+            assertThat(resultsList.get(i), is(results[i]));
+        }
+    }
+
+    @Test
+    void validateAll_shouldThrowException_whenResultsArrayIsTooShort() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> parallelSocrates.validateAll(newIds(10), Country.FR, new boolean[9])
+        );
+    }
+
+    @Test
+    void builder_shouldUseGivenPool_whenPoolIsSet() {
+        final ForkJoinPool forkJoinPool = new ForkJoinPool(3);
+        try (ParallelSocrates socrates = ParallelSocrates.builder().forkJoinPool(forkJoinPool).build()) {
+            assertThat(socrates.getParallelism(), is(3));
+            assertThat(socrates.getMinChunkSize(), is(ParallelSocrates.DEFAULT_MIN_CHUNK_SIZE));
+        }
+        assertThat(forkJoinPool.isShutdown(), is(false));
+        forkJoinPool.shutdown();
+    }
+
+    @Test
+    void builder_shouldThrowException_whenParallelismAndPoolAreSet() {
+        final ParallelSocrates.Builder builder = ParallelSocrates.builder()
+            .parallelism(2)
+            .forkJoinPool(ForkJoinPool.commonPool());
+
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    @Test
+    void builder_shouldThrowException_whenMinChunkSizeIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> ParallelSocrates.builder().minChunkSize(0));
+    }
+
+    private static CharSequence[] newIds(final int count) {
+        final CharSequence[] ids = new CharSequence[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = ID_MIX[i % ID_MIX.length];
+        }
+        return ids;
+    }
+}
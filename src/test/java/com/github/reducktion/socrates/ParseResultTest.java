@@ -0,0 +1,65 @@
+package com.github.reducktion.socrates;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class ParseResultTest {
+
+    @Test
+    void valid_shouldReturnValidResultWithCitizen() {
+        final Citizen citizen = Citizen.builder().gender(Gender.FEMALE).yearOfBirth(1982).build();
+
+        final ParseResult result = ParseResult.valid(citizen);
+
+        assertThat(result.isValid(), is(true));
+        assertThat(result.getFailureReason(), is(Optional.empty()));
+        assertThat(result.getCitizen(), is(Optional.of(citizen)));
+    }
+
+    @Test
+    void valid_shouldReturnValidResultWithoutCitizen_whenCitizenIsNull() {
+        final ParseResult result = ParseResult.valid(null);
+
+        assertThat(result.isValid(), is(true));
+        assertThat(result.getFailureReason(), is(Optional.empty()));
+        assertThat(result.getCitizen(), is(Optional.empty()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(FailureReason.class)
+    void invalid_shouldReturnSharedInvalidResult(final FailureReason failureReason) {
+        final ParseResult result = ParseResult.invalid(failureReason);
+
+        assertThat(result.isValid(), is(false));
+        assertThat(result.getFailureReason(), is(Optional.of(failureReason)));
+        assertThat(result.getCitizen(), is(Optional.empty()));
+        assertThat(result, is(sameInstance(ParseResult.invalid(failureReason))));
+    }
+
+    @Test
+    void invalid_shouldThrowIllegalArgumentException_whenFailureReasonIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> ParseResult.invalid(null));
+    }
+
+    @Test
+    void equals_shouldCompareFailureReasonAndCitizen() {
+        final Citizen citizen = Citizen.builder().gender(Gender.MALE).build();
+
+        final Citizen equalCitizen = Citizen.builder().gender(Gender.MALE).build();
+
+        assertThat(ParseResult.valid(citizen).equals(ParseResult.valid(equalCitizen)), is(true));
+        assertThat(ParseResult.valid(citizen).equals(ParseResult.valid(null)), is(false));
+        assertThat(
+            ParseResult.invalid(FailureReason.MISSING).equals(ParseResult.invalid(FailureReason.INVALID_LENGTH)),
+            is(false)
+        );
+    }
+}
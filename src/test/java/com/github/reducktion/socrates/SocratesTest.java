@@ -2,11 +2,24 @@ package com.github.reducktion.socrates;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 
 class SocratesTest {
 
@@ -14,7 +27,19 @@ class SocratesTest {
 
     @BeforeEach
     void setup() {
-        socrates = new Socrates();
+        socrates = new Socrates(Clock.fixed(Instant.parse("2020-06-15T00:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @Test
+    void supports_shouldReturnTrue_whenCountryIsSupported() {
+        assertThat(Socrates.supports(Country.FR), is(true));
+        assertThat(Socrates.supportsGeneration(Country.DK), is(true));
+    }
+
+    @Test
+    void supports_shouldReturnFalse_whenCountryIsNull() {
+        assertThat(Socrates.supports(null), is(false));
+        assertThat(Socrates.supportsGeneration(null), is(false));
     }
 
     @Test
@@ -27,6 +52,131 @@ class SocratesTest {
         assertThat(socrates.validateId(" 2820819398814 09 ", Country.FR), is(true));
     }
 
+    @Test
+    void validateId_shouldAgreeWithParse_whenClockIsFixed() {
+        // born on 29 February 1900, which did not exist, if the ids are resolved in 1990
+        final String id = "MRTMTT00B29F205L";
+        final Socrates socrates1990 = new Socrates(Clock.fixed(Instant.parse("1990-01-01T00:00:00Z"), ZoneOffset.UTC));
+
+        assertThat(socrates1990.validateId(id, Country.IT), is(false));
+        assertThat(
+            socrates1990.parse(id, Country.IT).getFailureReason(),
+            is(Optional.of(FailureReason.INVALID_DATE_OF_BIRTH))
+        );
+        assertThat(socrates1990.extractCitizenFromId(id, Country.IT), is(Optional.empty()));
+        assertThat(socrates.validateId(id, Country.IT), is(true));
+        assertThat(socrates.parse(id, Country.IT).isValid(), is(true));
+    }
+
+    @Test
+    void validateId_shouldNormalizeNonAsciiDigits_whenPolicyIsNormalize() {
+        final Socrates normalizing = new Socrates(Clock.systemDefaultZone(), NonAsciiDigitPolicy.NORMALIZE);
+
+        assertThat(normalizing.validateId("٢820819398814 ０9", Country.FR), is(true));
+        assertThat(normalizing.extractPacked("٢820819398814 ０9", Country.FR) != PackedCitizen.NONE, is(true));
+    }
+
+    @Test
+    void validateId_shouldRejectNonAsciiDigits_whenPolicyIsReject() {
+        final Socrates rejecting = new Socrates(Clock.systemDefaultZone(), NonAsciiDigitPolicy.REJECT);
+        final String id = "٢820819398814 ０9";
+
+        assertThat(rejecting.validateId(id, Country.FR), is(false));
+        assertThat(
+            rejecting.parse(id, Country.FR).getFailureReason(),
+            is(Optional.of(FailureReason.INVALID_CHARACTERS))
+        );
+        assertThat(rejecting.extractPacked(id, Country.FR), is(PackedCitizen.NONE));
+        assertThat(rejecting.extractAll(new CharSequence[] { id }, Country.FR).getValid().get(0), is(false));
+        assertThat(rejecting.validateId("2820819398814 09", Country.FR), is(true));
+        assertThat(Socrates.isValid(id, Country.FR), is(true));
+    }
+
+    @Test
+    void constructor_shouldThrowIllegalArgumentException_whenPolicyIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new Socrates(Clock.systemDefaultZone(), null));
+    }
+
+    @Test
+    void isValid_shouldReturnTrue_whenIdForFranceIsValidString() {
+        assertThat(Socrates.isValid(" 2820819398814 09 ", Country.FR), is(true));
+    }
+
+    @Test
+    void isValid_shouldReturnTrue_whenIdForFranceIsValidStringBuilder() {
+        assertThat(Socrates.isValid(new StringBuilder("2820819398814 09"), Country.FR), is(true));
+    }
+
+    @Test
+    void isValid_shouldReturnTrue_whenIdForFranceIsValidCharBuffer() {
+        assertThat(Socrates.isValid(CharBuffer.wrap("x2820819398814 09x".toCharArray(), 1, 16), Country.FR), is(true));
+    }
+
+    @Test
+    void isValid_shouldReturnFalse_whenIdForFranceIsInvalidCharBuffer() {
+        assertThat(Socrates.isValid(CharBuffer.wrap("103162989566972"), Country.FR), is(false));
+    }
+
+    @Test
+    void isValid_shouldReturnFalse_whenIdIsNull() {
+        assertThat(Socrates.isValid(null, Country.FR), is(false));
+    }
+
+    @Test
+    void isValid_shouldValidateRangeOfBytes() {
+        final byte[] frame = "|2820819398814 09|2820819398814 10|".getBytes(StandardCharsets.US_ASCII);
+
+        assertThat(Socrates.isValid(frame, 1, 17, Country.FR), is(true));
+        assertThat(Socrates.isValid(frame, 18, 34, Country.FR), is(false));
+        assertThat(Socrates.isValid((byte[]) null, 0, 0, Country.FR), is(false));
+    }
+
+    @Test
+    void isValid_shouldValidateRangeOfBuffer_withoutChangingItsPosition() {
+        final byte[] frame = "|2820819398814 09|".getBytes(StandardCharsets.US_ASCII);
+        final ByteBuffer heapBuffer = ByteBuffer.wrap(frame);
+        final ByteBuffer directBuffer = ByteBuffer.allocateDirect(frame.length).put(frame);
+
+        assertThat(Socrates.isValid(heapBuffer, 1, 17, Country.FR), is(true));
+        assertThat(Socrates.isValid(directBuffer, 1, 17, Country.FR), is(true));
+        assertThat(heapBuffer.position(), is(0));
+        assertThat(directBuffer.position(), is(frame.length));
+    }
+
+    @Test
+    void isValid_shouldReturnFalse_whenBytesAreNotAscii() {
+        final byte[] frame = "2820819398814 09".getBytes(StandardCharsets.US_ASCII);
+        frame[0] = (byte) 0xB2; // superscript two in Latin-1
+
+        assertThat(Socrates.isValid(frame, 0, frame.length, Country.FR), is(false));
+    }
+
+    @Test
+    void isValid_shouldThrowIndexOutOfBoundsException_whenRangeIsNotWithinBytes() {
+        final byte[] frame = new byte[4];
+
+        assertThrows(IndexOutOfBoundsException.class, () -> Socrates.isValid(frame, 2, 5, Country.FR));
+        assertThrows(IndexOutOfBoundsException.class, () -> Socrates.isValid(frame, 3, 2, Country.FR));
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> Socrates.isValid((ByteBuffer) ByteBuffer.wrap(frame).limit(3), 0, 4, Country.FR)
+        );
+    }
+
+    @Test
+    void extractPacked_shouldExtractFromBytes() {
+        final byte[] frame = "##MRTMTT25D09F205Z##".getBytes(StandardCharsets.US_ASCII);
+        final long expected = socrates.extractPacked("MRTMTT25D09F205Z", Country.IT);
+        final ByteBuffer directBuffer = ByteBuffer.allocateDirect(frame.length);
+        directBuffer.put(frame).position(5);
+
+        assertThat(socrates.extractPacked(frame, 2, 18, Country.IT), is(expected));
+        assertThat(socrates.extractPacked(directBuffer, 2, 18, Country.IT), is(expected));
+        assertThat(directBuffer.position(), is(5));
+        assertThat(socrates.extractPacked(frame, 0, 18, Country.IT), is(PackedCitizen.NONE));
+        assertThat(socrates.extractPacked((ByteBuffer) null, 0, 0, Country.IT), is(PackedCitizen.NONE));
+    }
+
     @Test
     void extractCitizenFromId_shouldReturnEmptyOptional_whenIdForItalyIsInvalid() {
         assertThat(socrates.extractCitizenFromId("MECDRE01A11A025E", Country.IT), is(Optional.empty()));
@@ -49,6 +199,109 @@ class SocratesTest {
         assertThat(result.get(), is(expectedCitizen));
     }
 
+    @Test
+    void parse_shouldReturnCitizen_whenIdForItalyIsValid() {
+        final Citizen expectedCitizen = Citizen
+            .builder()
+            .gender(Gender.MALE)
+            .yearOfBirth(1925)
+            .monthOfBirth(4)
+            .dayOfBirth(9)
+            .placeOfBirth("MILANO (MI)")
+            .build();
+
+        final ParseResult result = socrates.parse(" MRTMTT25D09F20 5Z ", Country.IT);
+
+        assertThat(result, is(ParseResult.valid(expectedCitizen)));
+    }
+
+    @Test
+    void parse_shouldReturnValidResultWithoutCitizen_whenCountryDoesNotSupportExtraction() {
+        final ParseResult result = socrates.parse("232.949.540-42", Country.BR);
+
+        assertThat(result.isValid(), is(true));
+        assertThat(result.getCitizen(), is(Optional.empty()));
+    }
+
+    @ParameterizedTest(name = "#{index} - Test with Arguments={0},{1},{2}")
+    @MethodSource("invalidIdProvider")
+    void parse_shouldReturnFailureReason_whenIdIsInvalid(
+        final String id,
+        final Country country,
+        final FailureReason expectedFailureReason
+    ) {
+        final ParseResult result = socrates.parse(id, country);
+
+        assertThat(result.isValid(), is(false));
+        assertThat(result.getFailureReason(), is(Optional.of(expectedFailureReason)));
+    }
+
+    private static List<Arguments> invalidIdProvider() {
+        return Arrays.asList(
+            Arguments.arguments(null, Country.FR, FailureReason.MISSING),
+            Arguments.arguments("12345678901234", Country.FR, FailureReason.INVALID_LENGTH),
+            Arguments.arguments("123456789012345678901234567890123", Country.FR, FailureReason.INVALID_LENGTH),
+            Arguments.arguments("28208193988A409", Country.FR, FailureReason.INVALID_CHARACTERS),
+            Arguments.arguments("282081939881410", Country.FR, FailureReason.INVALID_CHECKSUM),
+            Arguments.arguments("93.05.18-000.61", Country.BE, FailureReason.RESERVED_VALUE),
+            Arguments.arguments("MRTMTT25D00F205Z", Country.IT, FailureReason.INVALID_DATE_OF_BIRTH),
+            Arguments.arguments("000-22-8724", Country.US, FailureReason.RESERVED_VALUE)
+        );
+    }
+
+    @Test
+    void validateAll_shouldReturnValidIds_whenIdsAreMixed() {
+        final CharSequence[] ids = {
+            " 2820819398814 09 ", null, "2820819398814 10", new StringBuilder("238108021456811")
+        };
+
+        final BitSet valid = Socrates.validateAll(ids, Country.FR);
+
+        assertThat(valid.toString(), is("{0, 3}"));
+    }
+
+    @Test
+    void validateAll_shouldCountFailureReasons_whenIdsSpanSeveralChunks() {
+        final CharSequence[] ids = new CharSequence[2500];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i % 5 == 0 ? "2820819398814 10" : i % 5 == 1 ? "1234" : " 2820819398814 09 ";
+        }
+        final boolean[] valid = new boolean[ids.length];
+
+        final ValidationSummary summary = Socrates.validateAll(ids, Country.FR, valid);
+
+        assertThat(summary.getTotalCount(), is(2500L));
+        assertThat(summary.getValidCount(), is(1500L));
+        assertThat(summary.getInvalidCount(), is(1000L));
+        assertThat(summary.getFailureCount(FailureReason.INVALID_CHECKSUM), is(500L));
+        assertThat(summary.getFailureCount(FailureReason.INVALID_LENGTH), is(500L));
+        assertThat(summary.getFailureCount(FailureReason.MISSING), is(0L));
+        assertThat(valid[2005], is(false));
+        assertThat(valid[2004], is(true));
+    }
+
+    @Test
+    void validateAll_shouldReturnSameResults_whenIdsAreList() {
+        final List<String> ids = Arrays.asList("536-22-8724", "000-22-8724", null, "167-38-1265");
+        final BitSet valid = new BitSet();
+        valid.set(1);
+
+        final ValidationSummary summary = Socrates.validateAll(ids, Country.US, valid);
+
+        assertThat(valid, is(Socrates.validateAll(ids.toArray(new CharSequence[0]), Country.US)));
+        assertThat(valid.toString(), is("{0, 3}"));
+        assertThat(summary.getFailureCount(FailureReason.RESERVED_VALUE), is(1L));
+        assertThat(summary.getFailureCount(FailureReason.MISSING), is(1L));
+    }
+
+    @Test
+    void validateAll_shouldThrowException_whenResultsArrayIsTooShort() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Socrates.validateAll(new CharSequence[] { "536-22-8724" }, Country.US, new boolean[0])
+        );
+    }
+
     @Test
     void generateIdFromCitizen_shouldReturnId_whenDenmarkCitizenIsValid() {
         final Citizen citizen = Citizen
@@ -0,0 +1,114 @@
+package com.github.reducktion.socrates;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TwoDigitYearResolverTest {
+
+    private TwoDigitYearResolver twoDigitYearResolver;
+
+    @BeforeEach
+    void setup() {
+        twoDigitYearResolver = new TwoDigitYearResolver(clockAt("2020-06-15T00:00:00Z", ZoneOffset.UTC));
+    }
+
+    @Test
+    void constructor_shouldThrowIllegalArgumentException_whenClockIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new TwoDigitYearResolver(null));
+    }
+
+    @Test
+    void resolve_shouldThrowIllegalArgumentException_whenArgumentIsNegative() {
+        assertThrows(IllegalArgumentException.class, () -> twoDigitYearResolver.resolve(-1));
+    }
+
+    @Test
+    void resolve_shouldThrowIllegalArgumentException_whenArgumentHasMoreThanTwoDigits() {
+        assertThrows(IllegalArgumentException.class, () -> twoDigitYearResolver.resolve(100));
+    }
+
+    @Test
+    void resolve_shouldReturnPastCentury_whenTheLastTwoDigitsAreEqualOrGreaterThanTheLastTwoDigitsOfTheCurrentYear() {
+        assertThat(twoDigitYearResolver.resolve(20), is(1920));
+        assertThat(twoDigitYearResolver.resolve(99), is(1999));
+    }
+
+    @Test
+    void resolve_shouldReturnCurrentCentury_whenTheLastTwoDigitsAreLessThanTheLastTwoDigitsOfTheCurrentYear() {
+        assertThat(twoDigitYearResolver.resolve(19), is(2019));
+        assertThat(twoDigitYearResolver.resolve(0), is(2000));
+    }
+
+    @Test
+    void resolve_shouldUseTheNewYear_whenTheYearRollsOver() {
+        final MutableClock clock = new MutableClock(Instant.parse("2020-12-31T23:59:59Z"), ZoneOffset.UTC);
+        final TwoDigitYearResolver resolver = new TwoDigitYearResolver(clock);
+        assertThat(resolver.resolve(20), is(1920));
+
+        clock.advance(Duration.ofSeconds(1));
+
+        assertThat(resolver.resolve(20), is(2020));
+        assertThat(resolver.resolve(21), is(1921));
+    }
+
+    @Test
+    void resolve_shouldUseTheTimeZoneOfTheClock() {
+        final TwoDigitYearResolver resolver =
+            new TwoDigitYearResolver(clockAt("2020-12-31T23:30:00Z", ZoneId.of("Europe/Lisbon")));
+        final TwoDigitYearResolver resolverAhead =
+            new TwoDigitYearResolver(clockAt("2020-12-31T23:30:00Z", ZoneId.of("Europe/Berlin")));
+
+        assertThat(resolver.resolve(20), is(1920));
+        assertThat(resolverAhead.resolve(20), is(2020));
+    }
+
+    @Test
+    void systemDefault_shouldReturnSharedInstance() {
+        assertThat(TwoDigitYearResolver.systemDefault(), is(sameInstance(TwoDigitYearResolver.systemDefault())));
+    }
+
+    private static Clock clockAt(final String instant, final ZoneId zone) {
+        return Clock.fixed(Instant.parse(instant), zone);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private final ZoneId zone;
+        private Instant instant;
+
+        private MutableClock(final Instant instant, final ZoneId zone) {
+            this.instant = instant;
+            this.zone = zone;
+        }
+
+        private void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return new MutableClock(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.reducktion.socrates;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class ValidationSummaryTest {
+
+    private static final long[] FAILURE_COUNTS = { 1, 2, 0, 0, 0, 3 };
+
+    @Test
+    void counts_shouldBeAggregated_whenSummaryIsCreated() {
+        final ValidationSummary summary = new ValidationSummary(4, FAILURE_COUNTS);
+
+        assertThat(summary.getTotalCount(), is(10L));
+        assertThat(summary.getValidCount(), is(4L));
+        assertThat(summary.getInvalidCount(), is(6L));
+        assertThat(summary.getFailureCount(FailureReason.INVALID_LENGTH), is(2L));
+    }
+
+    @Test
+    void getFailureCounts_shouldContainEveryFailureReason() {
+        final Map<FailureReason, Long> failureCounts = new ValidationSummary(4, FAILURE_COUNTS).getFailureCounts();
+
+        assertThat(failureCounts.size(), is(FailureReason.values().length));
+        assertThat(failureCounts.get(FailureReason.MISSING), is(1L));
+        assertThat(failureCounts.get(FailureReason.INVALID_CHECKSUM), is(3L));
+    }
+
+    @Test
+    void getFailureCount_shouldThrowException_whenFailureReasonIsNull() {
+        final ValidationSummary summary = new ValidationSummary(4, FAILURE_COUNTS);
+
+        assertThrows(IllegalArgumentException.class, () -> summary.getFailureCount(null));
+    }
+
+    @Test
+    void equals_shouldCompareCounts() {
+        final ValidationSummary summary = new ValidationSummary(4, FAILURE_COUNTS);
+
+        assertThat(summary, is(new ValidationSummary(4, FAILURE_COUNTS.clone())));
+        assertThat(summary.hashCode(), is(new ValidationSummary(4, FAILURE_COUNTS).hashCode()));
+        assertThat(summary, is(not(new ValidationSummary(5, FAILURE_COUNTS))));
+    }
+}
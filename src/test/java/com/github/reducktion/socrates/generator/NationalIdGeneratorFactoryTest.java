@@ -2,11 +2,14 @@ package com.github.reducktion.socrates.generator;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Arrays;
 import java.util.List;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -23,6 +26,20 @@ class NationalIdGeneratorFactoryTest {
         assertThat(nationalIdGenerator, is(instanceOf(clazz)));
     }
 
+    @Test
+    void newInstance_shouldReturnSameInstance_whenCalledTwice() {
+        assertThat(
+            NationalIdGeneratorFactory.newInstance(Country.DK),
+            is(sameInstance(NationalIdGeneratorFactory.newInstance(Country.DK)))
+        );
+    }
+
+    @Test
+    void newInstance_shouldThrowException_whenCountryIsNotSupported() {
+        assertThat(NationalIdGeneratorFactory.supports(Country.US), is(false));
+        assertThrows(UnsupportedOperationException.class, () -> NationalIdGeneratorFactory.newInstance(Country.US));
+    }
+
     private static List<Arguments> nationalIdGeneratorForCountryProvider() {
         return Arrays.asList(
             Arguments.arguments(Country.DK, DenmarkNationalIdGenerator.class)
@@ -0,0 +1,48 @@
+package com.github.reducktion.socrates.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class AsciiDigitsTest {
+
+    @Test
+    void toDigit_shouldReturnDigit_whenCharacterIsAsciiDigit() {
+        for (char c = '0'; c <= '9'; c++) {
+            assertThat(AsciiDigits.toDigit(c), is(c - '0'));
+        }
+    }
+
+    @Test
+    void toDigit_shouldReturnInvalid_whenCharacterIsNotAsciiDigit() {
+        assertThat(AsciiDigits.toDigit('/'), is(AsciiDigits.INVALID));
+        assertThat(AsciiDigits.toDigit(':'), is(AsciiDigits.INVALID));
+        assertThat(AsciiDigits.toDigit('A'), is(AsciiDigits.INVALID));
+        assertThat(AsciiDigits.toDigit('\u0000'), is(AsciiDigits.INVALID));
+        assertThat(AsciiDigits.toDigit('٣'), is(AsciiDigits.INVALID));
+        assertThat(AsciiDigits.toDigit('３'), is(AsciiDigits.INVALID));
+        assertThat(AsciiDigits.toDigit('\uffff'), is(AsciiDigits.INVALID));
+    }
+
+    @Test
+    void toAlphanumeric_shouldReturnValueInBase36() {
+        assertThat(AsciiDigits.toAlphanumeric('7'), is(7));
+        assertThat(AsciiDigits.toAlphanumeric('A'), is(10));
+        assertThat(AsciiDigits.toAlphanumeric('z'), is(35));
+        assertThat(AsciiDigits.toAlphanumeric('-'), is(AsciiDigits.INVALID));
+        assertThat(AsciiDigits.toAlphanumeric('É'), is(AsciiDigits.INVALID));
+    }
+
+    @Test
+    void isNumeric_shouldOnlyAcceptAsciiDigits() {
+        assertThat(AsciiDigits.isNumeric("x0123456789x", 1, 11), is(true));
+        assertThat(AsciiDigits.isNumeric("12٣", 0, 3), is(false));
+        assertThat(AsciiDigits.isNumeric("", 0, 0), is(true));
+    }
+
+    @Test
+    void toInt_shouldReturnNumber() {
+        assertThat(AsciiDigits.toInt("x0123456789", 1, 10), is(12345678));
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.reducktion.socrates.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FourLetterWordsTest {
+
+    private final FourLetterWords fourLetterWords = FourLetterWords.of("AAAA", "CACA", "ZZZZ");
+
+    @ParameterizedTest(name = "#{index} - Test with Argument={0}")
+    @ValueSource(strings = { "CACA", "CACA000000", "00CACA00", "000000CACA", "CCACA", "AAAA", "XZZZZ" })
+    void occursIn_shouldReturnTrue_whenTextContainsWord(final String text) {
+        assertThat(fourLetterWords.occursIn(text), is(true));
+    }
+
+    @ParameterizedTest(name = "#{index} - Test with Argument={0}")
+    @ValueSource(strings = { "", "CAC", "CACB", "CA0CA", "C1ACA", "caca", "AAAB", "BAAAB0AAA" })
+    void occursIn_shouldReturnFalse_whenTextDoesNotContainWord(final String text) {
+        assertThat(fourLetterWords.occursIn(text), is(false));
+    }
+
+    @Test
+    void containsAt_shouldCheckOnlyTheWordAtIndex() {
+        assertThat(fourLetterWords.containsAt("XCACA", 1), is(true));
+        assertThat(fourLetterWords.containsAt("XCACA", 0), is(false));
+        assertThat(fourLetterWords.containsAt("X0CACA", 0), is(false));
+    }
+
+    @Test
+    void of_shouldThrowIllegalArgumentException_whenWordIsNotFourUpperCaseLetters() {
+        assertThrows(IllegalArgumentException.class, () -> FourLetterWords.of("ABC"));
+        assertThrows(IllegalArgumentException.class, () -> FourLetterWords.of("ABCDE"));
+        assertThrows(IllegalArgumentException.class, () -> FourLetterWords.of("abcd"));
+        assertThrows(IllegalArgumentException.class, () -> FourLetterWords.of("AB1D"));
+    }
+
+    @Test
+    void fromResource_shouldReadWordsAndSkipComments() {
+        final FourLetterWords words = FourLetterWords.fromResource("/mexico_inappropriate_words.txt");
+
+        assertThat(words.occursIn("BUEI000000AAAAAA01"), is(true));
+        assertThat(words.occursIn("WUEY"), is(true));
+        assertThat(words.occursIn("AAIM901112MBCNMN08"), is(false));
+    }
+
+    @Test
+    void fromResource_shouldThrowIllegalStateException_whenResourceIsNotFound() {
+        assertThrows(IllegalStateException.class, () -> FourLetterWords.fromResource("/not_found.txt"));
+    }
+}
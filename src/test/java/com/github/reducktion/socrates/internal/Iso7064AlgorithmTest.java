@@ -0,0 +1,61 @@
+package com.github.reducktion.socrates.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class Iso7064AlgorithmTest {
+
+    @Test
+    void computeMod11Radix2_shouldReturnCheckValue() {
+        assertThat(Iso7064Algorithm.computeMod11Radix2("000000021825009", 0, 15), is(7));
+        assertThat(Iso7064Algorithm.computeMod11Radix2("000000021694233", 0, 15), is(10));
+    }
+
+    @Test
+    void computeMod11Radix2_shouldReturnInvalid_whenDigitsAreNotNumeric() {
+        assertThat(Iso7064Algorithm.computeMod11Radix2("0000000218250X9", 0, 15), is(Iso7064Algorithm.INVALID));
+    }
+
+    @Test
+    void validateMod11Radix2_shouldAcceptCheckCharacterX() {
+        assertThat(Iso7064Algorithm.validateMod11Radix2("0000000218250097", 0, 16), is(true));
+        assertThat(Iso7064Algorithm.validateMod11Radix2("000000021694233X", 0, 16), is(true));
+        assertThat(Iso7064Algorithm.validateMod11Radix2("0000000216942330", 0, 16), is(false));
+        assertThat(Iso7064Algorithm.validateMod11Radix2("", 0, 0), is(false));
+    }
+
+    @Test
+    void computeMod97Radix10_shouldReturnCheckValue() {
+        assertThat(Iso7064Algorithm.computeMod97Radix10("794", 0, 3), is(44));
+        assertThat(Iso7064Algorithm.validateMod97Radix10("79444", 0, 5), is(true));
+        assertThat(Iso7064Algorithm.validateMod97Radix10("79445", 0, 5), is(false));
+    }
+
+    @Test
+    void computeMod11Mod10_shouldMatchGermanTaxIdentificationNumber() {
+        assertThat(Iso7064Algorithm.computeMod11Mod10("8609574271", 0, 10), is(9));
+        assertThat(Iso7064Algorithm.validateMod11Mod10("47036892816", 0, 11), is(true));
+        assertThat(Iso7064Algorithm.validateMod11Mod10("47036892817", 0, 11), is(false));
+    }
+
+    @Test
+    void computeAll_shouldComputeEveryCheckValue() {
+        final CharSequence[] numbers = { "794", null, "8609574271", "7A" };
+        final int[] mod11Radix2 = new int[4];
+        final int[] mod97Radix10 = new int[4];
+        final int[] mod11Mod10 = new int[4];
+
+        Iso7064Algorithm.computeMod11Radix2All(numbers, mod11Radix2);
+        Iso7064Algorithm.computeMod97Radix10All(numbers, mod97Radix10);
+        Iso7064Algorithm.computeMod11Mod10All(numbers, mod11Mod10);
+
+        assertThat(mod11Radix2[0], is(Iso7064Algorithm.computeMod11Radix2("794", 0, 3)));
+        assertThat(mod97Radix10[0], is(44));
+        assertThat(mod11Mod10[2], is(9));
+        assertThat(mod11Radix2[1], is(Iso7064Algorithm.INVALID));
+        assertThat(mod97Radix10[3], is(Iso7064Algorithm.INVALID));
+        assertThat(mod11Mod10[3], is(Iso7064Algorithm.INVALID));
+    }
+}
@@ -1,7 +1,6 @@
 package com.github.reducktion.socrates.internal;
 
 import static org.hamcrest.CoreMatchers.is;
-import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import org.junit.jupiter.api.Test;
@@ -9,24 +8,24 @@ import org.junit.jupiter.api.Test;
 class ItalyOmocodiaSwapperTest {
 
     @Test
-    void swap_shouldReturnNull_whenIdIsNull() {
-        assertThat(ItalyOmocodiaSwapper.swap(null), is(nullValue()));
+    void toDigit_shouldReturnDigit_whenCharacterIsDigitOrSubstitution() {
+        assertThat(ItalyOmocodiaSwapper.toDigit('7'), is(7));
+        assertThat(ItalyOmocodiaSwapper.toDigit('L'), is(0));
+        assertThat(ItalyOmocodiaSwapper.toDigit('V'), is(9));
     }
 
     @Test
-    void swap_shouldReturnSameId_whenIdHasMoreThan16Characters() {
-        final String id = "12345678901234567";
-        assertThat(ItalyOmocodiaSwapper.swap(id), is(id));
+    void toDigit_shouldReturnMinusOne_whenCharacterIsNotNumerical() {
+        assertThat(ItalyOmocodiaSwapper.toDigit('O'), is(-1));
+        assertThat(ItalyOmocodiaSwapper.toDigit('?'), is(-1));
+        assertThat(ItalyOmocodiaSwapper.toDigit('\u0663'), is(-1));
     }
 
     @Test
-    void swap_shouldReturnSameId_whenIdHasLessThan16Characters() {
-        final String id = "123456789012345";
-        assertThat(ItalyOmocodiaSwapper.swap(id), is(id));
-    }
-
-    @Test
-    void swap_shouldSwapCorrectCharacters_whenIdHas16CharactersAndDoesNotHaveSpecialCharacters() {
-        assertThat(ItalyOmocodiaSwapper.swap("MRCDRALMAMPALSRE"), is("MRCDRA01A13A065E"));
+    void isNumericalCharacterPosition_shouldOnlyMatchNumericalPositions() {
+        for (int i = -1; i <= 16; i++) {
+            final boolean expected = i == 6 || i == 7 || i == 9 || i == 10 || i == 12 || i == 13 || i == 14;
+            assertThat(ItalyOmocodiaSwapper.isNumericalCharacterPosition(i), is(expected));
+        }
     }
 }
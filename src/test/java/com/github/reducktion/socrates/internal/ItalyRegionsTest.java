@@ -0,0 +1,64 @@
+package com.github.reducktion.socrates.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ItalyRegionsTest {
+
+    @Test
+    void getRegionByCode_shouldReturnNull_whenCodeIsNull() {
+        assertThat(ItalyRegions.getRegionByCode(null), is(nullValue()));
+    }
+
+    @ParameterizedTest(name = "#{index} - Test with Argument={0}")
+    @ValueSource(strings = {
+        "F20",      // less than 4 characters
+        "F2055",    // more than 4 characters
+        "205F",     // digit where the letter is expected
+        "FF05",     // letter where a digit is expected
+        "f205",     // lower case letter
+        "Z999"      // unknown code
+    })
+    void getRegionByCode_shouldReturnNull_whenCodeIsNotValid(final String code) {
+        assertThat(ItalyRegions.getRegionByCode(code), is(nullValue()));
+    }
+
+    @Test
+    void getRegionByCode_shouldReturnRegion_whenCodeIsValid() {
+        assertThat(ItalyRegions.getRegionByCode("F205"), is("MILANO (MI)"));
+        assertThat(ItalyRegions.getRegionByCode("Z404"), is("STATI UNITI D'AMERICA"));
+        assertThat(ItalyRegions.getRegionByCode("M346"), is("VALVASONE ÀRZENE (PN)"));
+    }
+
+    @Test
+    void indexOfCode_shouldReturnIndex_whenCodeIsWellFormed() {
+        assertThat(ItalyRegions.indexOfCode('A', 0), is(0));
+        assertThat(ItalyRegions.indexOfCode('F', 205), is(5205));
+        assertThat(ItalyRegions.indexOfCode('Z', 999), is(25999));
+    }
+
+    @Test
+    void indexOfCode_shouldReturnMinusOne_whenCodeIsMalformed() {
+        assertThat(ItalyRegions.indexOfCode('1', 205), is(-1));
+        assertThat(ItalyRegions.indexOfCode('F', 1000), is(-1));
+    }
+
+    @Test
+    void getRegionByIndex_shouldReturnRegion_whenIndexIsKnown() {
+        assertThat(ItalyRegions.getRegionByIndex(5205), is("MILANO (MI)"));
+        assertThat(ItalyRegions.getRegionByIndex(-1), is(nullValue()));
+        assertThat(ItalyRegions.getRegionByIndex(26000), is(nullValue()));
+    }
+
+    @Test
+    void indexOfRegion_shouldReturnIndex_whenRegionIsKnown() {
+        assertThat(ItalyRegions.indexOfRegion("MILANO (MI)"), is(5205));
+        assertThat(ItalyRegions.indexOfRegion("ATLANTIDE"), is(-1));
+        assertThat(ItalyRegions.indexOfRegion(null), is(-1));
+    }
+}
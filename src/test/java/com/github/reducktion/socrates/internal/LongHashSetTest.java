@@ -0,0 +1,94 @@
+package com.github.reducktion.socrates.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class LongHashSetTest {
+
+    @Test
+    void add_shouldReturnFalse_whenElementIsAlreadyInTheSet() {
+        final LongHashSet set = new LongHashSet(4);
+
+        assertThat(set.add(42), is(true));
+        assertThat(set.add(0), is(true));
+        assertThat(set.add(42), is(false));
+        assertThat(set.size(), is(2));
+    }
+
+    @Test
+    void add_shouldGrow_whenSetIsFull() {
+        final LongHashSet set = new LongHashSet(0);
+        final int capacity = set.capacity();
+
+        for (long element = 0; element < capacity; element++) {
+            set.add(element);
+        }
+
+        assertThat(set.size(), is(capacity));
+        assertThat(set.capacity() > capacity, is(true));
+        for (long element = 0; element < capacity; element++) {
+            assertThat(set.contains(element), is(true));
+        }
+        assertThat(set.contains(capacity), is(false));
+    }
+
+    @Test
+    void add_shouldMatchHashSet_whenElementsAreRandom() {
+        final Random random = new Random(42);
+        final LongHashSet set = new LongHashSet(1_000);
+        final Set<Long> expected = new HashSet<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            final long element = random.nextInt(10_000) * 1_000_003L;
+            assertThat(set.add(element), is(expected.add(element)));
+        }
+
+        assertThat(set.size(), is(expected.size()));
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(set.contains(i * 1_000_003L), is(expected.contains(i * 1_000_003L)));
+        }
+    }
+
+    @Test
+    void add_shouldThrowIllegalArgumentException_whenElementIsNegative() {
+        final LongHashSet set = new LongHashSet(4);
+
+        assertThrows(IllegalArgumentException.class, () -> set.add(-1));
+    }
+
+    @Test
+    void new_shouldNotGrow_whenExpectedSizeIsReached() {
+        final LongHashSet set = new LongHashSet(100);
+        final int capacity = set.capacity();
+
+        for (long element = 0; element < 100; element++) {
+            set.add(element);
+        }
+
+        assertThat(set.capacity(), is(capacity));
+    }
+
+    @Test
+    void new_shouldThrowIllegalArgumentException_whenExpectedSizeIsNegative() {
+        assertThrows(IllegalArgumentException.class, () -> new LongHashSet(-1));
+    }
+
+    @Test
+    void indexOf_shouldReturnDistinctIndexes() {
+        final LongHashSet set = new LongHashSet(8);
+        set.add(7);
+        set.add(8);
+
+        assertThat(set.indexOf(7) >= 0 && set.indexOf(7) < set.capacity(), is(true));
+        assertThat(set.indexOf(7) == set.indexOf(8), is(false));
+        assertThat(set.indexOf(9), is(-1));
+        assertThat(set.indexOf(-1), is(-1));
+    }
+}
@@ -51,4 +51,42 @@ class LuhnAlgorithmTest {
         assertThat(LuhnAlgorithm.computeCheckDigit("7992739871").get(), is(3));
         assertThat(LuhnAlgorithm.computeCheckDigit("154203556ZX9", BASE_36_RADIX).get(), is(9));
     }
+
+    @Test
+    void computeCheckDigit_shouldReturnCorrectCheckDigit_whenRangeIsGiven() {
+        assertThat(LuhnAlgorithm.computeCheckDigit("x7992739871x", 1, 11), is(3));
+        assertThat(LuhnAlgorithm.computeCheckDigit(new StringBuilder("7992739871"), 0, 10), is(3));
+    }
+
+    @Test
+    void computeCheckDigit_shouldReturnInvalid_whenRangeIsNotValidInRadix() {
+        assertThat(LuhnAlgorithm.computeCheckDigit("79927A9871", 0, 10), is(LuhnAlgorithm.INVALID));
+        assertThat(LuhnAlgorithm.computeCheckDigit("154203556ZX9", 0, 12, BASE_36_RADIX), is(9));
+        assertThat(LuhnAlgorithm.computeCheckDigit("154203556ZX-", 0, 12, BASE_36_RADIX), is(LuhnAlgorithm.INVALID));
+    }
+
+    @Test
+    void validate_shouldValidateRange() {
+        assertThat(LuhnAlgorithm.validate("x79927398713x", 1, 12, 10), is(true));
+        assertThat(LuhnAlgorithm.validate("110841298ZX8", 0, 12, BASE_36_RADIX), is(true));
+        assertThat(LuhnAlgorithm.validate("110841298ZX8", 0, 12, 10), is(false));
+    }
+
+    @Test
+    void validateAll_shouldValidateEveryId() {
+        final boolean[] valid = new boolean[3];
+
+        LuhnAlgorithm.validateAll(new CharSequence[] { "79927398713", null, "79927398712" }, 10, valid);
+
+        assertThat(valid, is(new boolean[] { true, false, false }));
+    }
+
+    @Test
+    void computeCheckDigitAll_shouldComputeEveryCheckDigit() {
+        final int[] checkDigits = new int[3];
+
+        LuhnAlgorithm.computeCheckDigitAll(new CharSequence[] { "7992739871", null, "AB" }, checkDigits);
+
+        assertThat(checkDigits, is(new int[] { 3, LuhnAlgorithm.INVALID, LuhnAlgorithm.INVALID }));
+    }
 }
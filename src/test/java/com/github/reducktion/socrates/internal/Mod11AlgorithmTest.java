@@ -0,0 +1,33 @@
+package com.github.reducktion.socrates.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class Mod11AlgorithmTest {
+
+    private static final int[] WEIGHTS = { 4, 3, 2, 7, 6, 5, 4, 3, 2, 1 };
+
+    @Test
+    void remainder_shouldReturnRemainderOfWeightedSum() {
+        assertThat(Mod11Algorithm.remainder("0907921395", 0, 10, WEIGHTS), is(0));
+        assertThat(Mod11Algorithm.remainder("x12x", 1, 3, new int[] { 5, 7 }), is((5 + 14) % 11));
+        assertThat(Mod11Algorithm.remainder("", 0, 0, WEIGHTS), is(0));
+    }
+
+    @Test
+    void remainder_shouldReturnInvalid_whenDigitsAreNotNumeric() {
+        assertThat(Mod11Algorithm.remainder("09079213A5", 0, 10, WEIGHTS), is(Mod11Algorithm.INVALID));
+    }
+
+    @Test
+    void remainderAll_shouldComputeEveryRemainder() {
+        final CharSequence[] numbers = { "0907921395", null, "090792139", "0907921396" };
+        final int[] remainders = new int[4];
+
+        Mod11Algorithm.remainderAll(numbers, WEIGHTS, remainders);
+
+        assertThat(remainders, is(new int[] { 0, Mod11Algorithm.INVALID, Mod11Algorithm.INVALID, 1 }));
+    }
+}
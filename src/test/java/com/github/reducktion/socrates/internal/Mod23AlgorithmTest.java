@@ -0,0 +1,36 @@
+package com.github.reducktion.socrates.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class Mod23AlgorithmTest {
+
+    @Test
+    void remainder_shouldReturnRemainder_whenDigitsAreNumeric() {
+        assertThat(Mod23Algorithm.remainder("12345678", 0, 8), is(12345678 % 23));
+        assertThat(Mod23Algorithm.remainder("x46x", 1, 3), is(0));
+    }
+
+    @Test
+    void remainder_shouldReturnInvalid_whenDigitsAreNotNumeric() {
+        assertThat(Mod23Algorithm.remainder("X1234567", 0, 8), is(Mod23Algorithm.INVALID));
+    }
+
+    @Test
+    void remainderAll_shouldComputeEveryRemainder() {
+        final int[] remainders = new int[3];
+
+        Mod23Algorithm.remainderAll(new CharSequence[] { "24", null, "2A" }, remainders);
+
+        assertThat(remainders, is(new int[] { 1, Mod23Algorithm.INVALID, Mod23Algorithm.INVALID }));
+    }
+
+    @Test
+    void checkLetter_shouldReturnLetterOfRemainder() {
+        assertThat(Mod23Algorithm.checkLetter(Mod23Algorithm.remainder("12345678", 0, 8)), is('Z'));
+        assertThat(Mod23Algorithm.checkLetter(0), is('T'));
+        assertThat(Mod23Algorithm.checkLetter(22), is('E'));
+    }
+}
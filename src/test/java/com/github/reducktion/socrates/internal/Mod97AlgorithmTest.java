@@ -0,0 +1,84 @@
+package com.github.reducktion.socrates.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.math.BigInteger;
+
+import org.junit.jupiter.api.Test;
+
+class Mod97AlgorithmTest {
+
+    @Test
+    void remainder_shouldReturnRemainder_whenDigitsAreNumeric() {
+        assertThat(Mod97Algorithm.remainder("2820819398814", 0, 13), is((int) (2820819398814L % 97)));
+        assertThat(Mod97Algorithm.remainder("x97x", 1, 3), is(0));
+        assertThat(Mod97Algorithm.remainder("", 0, 0), is(0));
+    }
+
+    @Test
+    void remainder_shouldReturnRemainder_whenNumberDoesNotFitInALong() {
+        final String number = "123456789012345678901234567890";
+
+        assertThat(
+            Mod97Algorithm.remainder(number, 0, number.length()),
+            is(new BigInteger(number).mod(BigInteger.valueOf(97)).intValue())
+        );
+    }
+
+    @Test
+    void remainder_shouldReturnInvalid_whenDigitsAreNotNumeric() {
+        assertThat(Mod97Algorithm.remainder("12A4", 0, 4), is(Mod97Algorithm.INVALID));
+        assertThat(Mod97Algorithm.remainder("12٠4", 0, 4), is(Mod97Algorithm.INVALID));
+    }
+
+    @Test
+    void remainderAll_shouldComputeEveryRemainder() {
+        final int[] remainders = new int[3];
+
+        Mod97Algorithm.remainderAll(new CharSequence[] { "194", null, "1A" }, remainders);
+
+        assertThat(remainders, is(new int[] { 0, Mod97Algorithm.INVALID, Mod97Algorithm.INVALID }));
+    }
+
+    @Test
+    void remainderWithCorsicanDepartment_shouldReadCorsicanDepartmentsAsDigits() {
+        assertThat(
+            Mod97Algorithm.remainderWithCorsicanDepartment("199072A228070", 0, 13, 5),
+            is((int) (1990719228070L % 97))
+        );
+        assertThat(
+            Mod97Algorithm.remainderWithCorsicanDepartment("257092B844458", 0, 13, 5),
+            is((int) (2570918844458L % 97))
+        );
+        assertThat(
+            Mod97Algorithm.remainderWithCorsicanDepartment("2820819398814", 0, 13, 5),
+            is((int) (2820819398814L % 97))
+        );
+    }
+
+    @Test
+    void remainderWithCorsicanDepartment_shouldReturnInvalid_whenLetterIsNotAtDepartment() {
+        assertThat(
+            Mod97Algorithm.remainderWithCorsicanDepartment("19902A7228070", 0, 13, 5),
+            is(Mod97Algorithm.INVALID)
+        );
+        assertThat(
+            Mod97Algorithm.remainderWithCorsicanDepartment("199072C228070", 0, 13, 5),
+            is(Mod97Algorithm.INVALID)
+        );
+    }
+
+    @Test
+    void remainders_shouldReturnBothRemainders() {
+        final int remainders = Mod97Algorithm.remainders("011116001", 0, 9, 2);
+
+        assertThat(Mod97Algorithm.withoutPrefix(remainders), is((int) (11116001L % 97)));
+        assertThat(Mod97Algorithm.withPrefix(remainders), is((int) (2011116001L % 97)));
+    }
+
+    @Test
+    void remainders_shouldReturnInvalid_whenDigitsAreNotNumeric() {
+        assertThat(Mod97Algorithm.remainders("01111600A", 0, 9, 2), is(Mod97Algorithm.INVALID));
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.reducktion.socrates.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class PackedDateTest {
+
+    @Test
+    void of_shouldReturnPackedDate_whenDateIsValid() {
+        assertThat(PackedDate.of(2020, 8, 8), is(20200808));
+        assertThat(PackedDate.of(2000, 2, 29), is(20000229));
+    }
+
+    @Test
+    void of_shouldReturnPackedDate_whenMonthOrDayIsUnknown() {
+        assertThat(PackedDate.of(1990, 0, 31), is(19900031));
+        assertThat(PackedDate.of(1990, 2, 0), is(19900200));
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidDates")
+    void of_shouldReturnInvalid_whenDateIsInvalid(final int year, final int month, final int day) {
+        assertThat(PackedDate.of(year, month, day), is(PackedDate.INVALID));
+    }
+
+    private static List<Arguments> invalidDates() {
+        return Arrays.asList(
+            Arguments.arguments(2001, 13, 16),  // month too high
+            Arguments.arguments(2001, 11, 31),  // November has 30 days
+            Arguments.arguments(2001, 13, 31),  // day too high
+            Arguments.arguments(2001, 2, 29),   // 29 February only exists in leap year
+            Arguments.arguments(1900, 2, 29),   // 1900 is not a leap year
+            Arguments.arguments(2001, -1, 1),   // negative month
+            Arguments.arguments(2001, 1, -1),   // negative day
+            Arguments.arguments(10000, 1, 1)    // year too high
+        );
+    }
+
+    @Test
+    void isLeapYear_shouldFollowTheGregorianCalendar() {
+        assertThat(PackedDate.isLeapYear(2020), is(true));
+        assertThat(PackedDate.isLeapYear(2000), is(true));
+        assertThat(PackedDate.isLeapYear(2021), is(false));
+        assertThat(PackedDate.isLeapYear(1900), is(false));
+    }
+
+    @Test
+    void decodeTwoDigits_shouldReturnValue_whenCharactersAreDigits() {
+        assertThat(PackedDate.decodeTwoDigits("A0907", 1), is(9));
+        assertThat(PackedDate.decodeTwoDigits("A0907", 3), is(7));
+    }
+
+    @Test
+    void decodeTwoDigits_shouldReturnMinusOne_whenCharactersAreNotDigits() {
+        assertThat(PackedDate.decodeTwoDigits("A0", 0), is(-1));
+        assertThat(PackedDate.decodeTwoDigits("0/", 0), is(-1));
+        assertThat(PackedDate.decodeTwoDigits("0٣", 0), is(-1));
+    }
+
+    @Test
+    void accessors_shouldReturnTheFieldsOfThePackedDate() {
+        final int packedDate = PackedDate.of(1982, 8, 19);
+
+        assertThat(PackedDate.year(packedDate), is(1982));
+        assertThat(PackedDate.month(packedDate), is(8));
+        assertThat(PackedDate.day(packedDate), is(19));
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.reducktion.socrates.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class SanitizedIdTest {
+
+    @Test
+    void sanitize_shouldReturnFalse_whenIdIsNull() {
+        final SanitizedId sanitizedId = new SanitizedId();
+
+        assertThat(sanitizedId.sanitize(null), is(false));
+        assertThat(sanitizedId.length(), is(0));
+    }
+
+    @Test
+    void sanitize_shouldReturnFalse_whenIdIsTooLong() {
+        final SanitizedId sanitizedId = new SanitizedId();
+
+        assertThat(sanitizedId.sanitize("123456789012345678901234567890123"), is(false));
+        assertThat(sanitizedId.length(), is(0));
+    }
+
+    @Test
+    void sanitize_shouldRemoveSeparatorsAndUpperCaseLetters() {
+        final SanitizedId sanitizedId = new SanitizedId();
+
+        assertThat(sanitizedId.sanitize(" mrt.mtt-25d09 "), is(true));
+        assertThat(sanitizedId.toString(), is("MRTMTT25D09"));
+        assertThat(sanitizedId.length(), is(11));
+    }
+
+    @Test
+    void sanitize_shouldConvertDecimalDigitsToAsciiDigits() {
+        final SanitizedId sanitizedId = new SanitizedId();
+
+        assertThat(sanitizedId.sanitize("١٢-３"), is(true));
+        assertThat(sanitizedId.toString(), is("123"));
+    }
+
+    @Test
+    void sanitize_shouldReplacePreviousContent() {
+        final SanitizedId sanitizedId = new SanitizedId();
+        sanitizedId.sanitize("123456");
+
+        sanitizedId.sanitize(new StringBuilder("ab"));
+
+        assertThat(sanitizedId.toString(), is("AB"));
+        assertThat(sanitizedId.subSequence(1, 2).toString(), is("B"));
+    }
+}
@@ -27,6 +27,12 @@ class StringUtilsTest {
         assertThat(StringUtils.isNumeric("123ABC"), is(false));
     }
 
+    @Test
+    void isNumeric_shouldReturnFalse_whenStringHasNonAsciiDigits() {
+        assertThat(StringUtils.isNumeric("١٢٣"), is(false));
+        assertThat(StringUtils.isNumeric("１２３"), is(false));
+    }
+
     @Test
     void isNumeric_shouldReturnTrue_whenStringHasOnlyNumericCharacters() {
         assertThat(StringUtils.isNumeric("123"), is(true));
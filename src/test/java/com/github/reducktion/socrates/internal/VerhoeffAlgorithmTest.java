@@ -38,4 +38,32 @@ class VerhoeffAlgorithmTest {
     void computeCheckDigit_shouldReturnCorrectCheckDigit() {
         assertThat(VerhoeffAlgorithm.computeCheckDigit("236").get(), is(3));
     }
+
+    @Test
+    void computeCheckDigit_shouldReturnCorrectCheckDigit_whenRangeIsGiven() {
+        assertThat(VerhoeffAlgorithm.computeCheckDigit("x236x", 1, 4), is(3));
+    }
+
+    @Test
+    void computeCheckDigit_shouldReturnInvalid_whenRangeIsNotNumeric() {
+        assertThat(VerhoeffAlgorithm.computeCheckDigit("x236x", 0, 4), is(VerhoeffAlgorithm.INVALID));
+    }
+
+    @Test
+    void validateAll_shouldValidateEveryId() {
+        final boolean[] valid = new boolean[3];
+
+        VerhoeffAlgorithm.validateAll(new CharSequence[] { "2363", null, "2364" }, valid);
+
+        assertThat(valid, is(new boolean[] { true, false, false }));
+    }
+
+    @Test
+    void computeCheckDigitAll_shouldComputeEveryCheckDigit() {
+        final int[] checkDigits = new int[3];
+
+        VerhoeffAlgorithm.computeCheckDigitAll(new CharSequence[] { "236", null, "AB" }, checkDigits);
+
+        assertThat(checkDigits, is(new int[] { 3, VerhoeffAlgorithm.INVALID, VerhoeffAlgorithm.INVALID }));
+    }
 }
@@ -0,0 +1,28 @@
+package com.github.reducktion.socrates.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadsTest {
+
+    @Test
+    void newVirtualThreadPerTaskExecutor_shouldReturnExecutor_onlyWhenVirtualThreadsAreAvailable() {
+        final Optional<ExecutorService> executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+
+        assertThat(executor.isPresent(), is(VirtualThreads.isAvailable()));
+        executor.ifPresent(ExecutorService::shutdown);
+    }
+
+    @Test
+    void isAvailable_shouldReturnTrue_whenJavaVersionIs21OrLater() {
+        final String version = System.getProperty("java.specification.version");
+        final int feature = version.startsWith("1.") ? 8 : Integer.parseInt(version);
+
+        assertThat(VirtualThreads.isAvailable(), is(feature >= 21));
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.reducktion.socrates.nationalid;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.reducktion.socrates.Country;
+
+class CompactNationalIdTest {
+
+    @Test
+    void of_shouldReturnEmpty_whenIdIsNotValid() {
+        assertThat(CompactNationalId.of("2820819398814 10", Country.FR), is(Optional.empty()));
+    }
+
+    @Test
+    void of_shouldBeEqual_whenSanitizedIdsAreEqual() {
+        final CompactNationalId compactNationalId = CompactNationalId.of("mllsnt82p65z404u", Country.IT).get();
+        final CompactNationalId otherCompactNationalId = CompactNationalId.of("MLLSNT 82P65 Z404U", Country.IT).get();
+
+        assertThat(compactNationalId, is(otherCompactNationalId));
+        assertThat(compactNationalId.hashCode(), is(otherCompactNationalId.hashCode()));
+        assertThat(compactNationalId.toString(), is("MLLSNT82P65Z404U"));
+    }
+
+    @Test
+    void equals_shouldReturnFalse_whenCountriesAreDifferent() {
+        final CompactNationalId canadian = CompactNationalId.of("046 454 286", Country.CA).get();
+        final CompactNationalId american = CompactNationalId.ofPacked(canadian.getPackedId(), Country.US);
+
+        assertThat(canadian.equals(american), is(false));
+        assertThat(american.toString(), is("046454286"));
+    }
+
+    @Test
+    void ofPacked_shouldReturnEqualInstance() {
+        final CompactNationalId compactNationalId = CompactNationalId.of("93.05.18-223.61", Country.BE).get();
+
+        final CompactNationalId result = CompactNationalId.ofPacked(compactNationalId.getPackedId(), Country.BE);
+
+        assertThat(result, is(compactNationalId));
+        assertThat(result.getCountry(), is(Country.BE));
+    }
+
+    @Test
+    void ofPacked_shouldThrowIllegalArgumentException_whenPackedIdIsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> CompactNationalId.ofPacked(-1, Country.BE));
+    }
+
+    @Test
+    void compareTo_shouldSortByCountryThenByPackedId() {
+        final CompactNationalId[] compactNationalIds = {
+            CompactNationalId.of("167-38-1265", Country.US).get(),
+            CompactNationalId.of("93.05.18-223.61", Country.BE).get(),
+            CompactNationalId.of("01111600105", Country.BE).get()
+        };
+
+        Arrays.sort(compactNationalIds);
+
+        assertThat(compactNationalIds[0].toString(), is("01111600105"));
+        assertThat(compactNationalIds[1].toString(), is("93051822361"));
+        assertThat(compactNationalIds[2].toString(), is("167381265"));
+    }
+}
@@ -3,6 +3,9 @@ package com.github.reducktion.socrates.nationalid;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -15,9 +18,13 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import com.github.reducktion.socrates.Citizen;
 import com.github.reducktion.socrates.Gender;
+import com.github.reducktion.socrates.TwoDigitYearResolver;
 
 class FranceNationalIdTest {
 
+    private static final TwoDigitYearResolver TWO_DIGIT_YEAR_RESOLVER =
+        new TwoDigitYearResolver(Clock.fixed(Instant.parse("2020-06-15T00:00:00Z"), ZoneOffset.UTC));
+
     @Test
     void isValid_shouldReturnFalse_whenIdIsNull() {
         final FranceNationalId franceNationalId = new FranceNationalId(null);
@@ -61,7 +68,7 @@ class FranceNationalIdTest {
     @ParameterizedTest(name = "#{index} - Test with Arguments={0},{1}")
     @MethodSource("citizenByIdProvider")
     void extractCitizen_shouldReturnCorrectCitizenInfo_whenIdIsValid(final String id, final Citizen expectedCitizen) {
-        final FranceNationalId franceNationalId = new FranceNationalId(id);
+        final FranceNationalId franceNationalId = new FranceNationalId(id, TWO_DIGIT_YEAR_RESOLVER);
 
         final  Optional<Citizen> extractedCitizen = franceNationalId.extractCitizen();
 
@@ -4,12 +4,14 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import java.util.Optional;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import com.github.reducktion.socrates.Citizen;
+import com.github.reducktion.socrates.FailureReason;
 
 class GermanyNationalIdTest {
 
@@ -63,4 +65,87 @@ class GermanyNationalIdTest {
 
         assertThat(extractedCitizen, is(Optional.empty()));
     }
+
+    @Test
+    void isValid_shouldMatchOfficialCheckDigitAlgorithm() {
+        final Random random = new Random(42);
+        for (int n = 0; n < 10_000; n++) {
+            final StringBuilder idNr = new StringBuilder();
+            idNr.append(1 + random.nextInt(9));
+            for (int i = 1; i < 10; i++) {
+                idNr.append(random.nextInt(10));
+            }
+            final String id = idNr.toString() + computeOfficialCheckDigit(idNr.toString());
+
+            final boolean result = new GermanyNationalId(id).isValid();
+
+            assertThat(id, result, is(!hasMoreThan3EqualDigits(idNr) && !hasThreeConsecutiveEqualDigits(idNr)));
+        }
+    }
+
+    @Test
+    void validateAll_shouldMatchValidate() {
+        final String[] ids = {
+            "86095742719",
+            "86 095 742 719",
+            "86095742710",
+            "02476291358",
+            "44491234560",
+            "11145678908",
+            "8609574271.",
+            "860957427\u0661\u0669",
+            "1234567890",
+            null
+        };
+        final FailureReason[] failureReasons = new FailureReason[ids.length];
+
+        GermanyNationalIdValidator.INSTANCE.validateAll(ids, 0, ids.length, failureReasons);
+
+        for (int i = 0; i < ids.length; i++) {
+            assertThat(ids[i], failureReasons[i], is(GermanyNationalIdValidator.INSTANCE.validate(ids[i])));
+        }
+        assertThat(failureReasons[1], is((FailureReason) null));
+    }
+
+    // the check digit algorithm from the official document, as a reference
+    private static int computeOfficialCheckDigit(final String idNr) {
+        final int ten = 10;
+        final int eleven = 11;
+        final char[] chars = idNr.toCharArray();
+        int remainderModTen = 0;
+        int remainderModEleven = ten;
+        int digit = 0;
+        for (int counter = 0; counter < chars.length; counter++) {
+            digit = Character.getNumericValue(chars[counter]);
+            remainderModTen = (digit + remainderModEleven) % ten;
+            if (remainderModTen == 0) {
+                remainderModTen = ten;
+            }
+            remainderModEleven = (2 * remainderModTen) % eleven;
+        }
+        digit = eleven - remainderModEleven;
+        if (digit == 10) {
+            digit = 0;
+        }
+        return digit;
+    }
+
+    private static boolean hasMoreThan3EqualDigits(final CharSequence idNr) {
+        final int[] counts = new int[10];
+        for (int i = 0; i < idNr.length(); i++) {
+            if (++counts[idNr.charAt(i) - '0'] > 3) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasThreeConsecutiveEqualDigits(final CharSequence idNr) {
+        for (int i = 2; i < idNr.length(); i++) {
+            if (idNr.charAt(i) == idNr.charAt(i - 1) && idNr.charAt(i) == idNr.charAt(i - 2)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
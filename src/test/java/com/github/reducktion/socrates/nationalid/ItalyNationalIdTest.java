@@ -3,6 +3,9 @@ package com.github.reducktion.socrates.nationalid;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -15,9 +18,13 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import com.github.reducktion.socrates.Citizen;
 import com.github.reducktion.socrates.Gender;
+import com.github.reducktion.socrates.TwoDigitYearResolver;
 
 class ItalyNationalIdTest {
 
+    private static final TwoDigitYearResolver TWO_DIGIT_YEAR_RESOLVER =
+        new TwoDigitYearResolver(Clock.fixed(Instant.parse("2020-06-15T00:00:00Z"), ZoneOffset.UTC));
+
     @Test
     void isValid_shouldReturnFalse_whenIdIsNull() {
         final ItalyNationalId italyNationalId = new ItalyNationalId(null);
@@ -57,10 +64,22 @@ class ItalyNationalIdTest {
         assertThat(result, is(true));
     }
 
+    @Test
+    void isValid_shouldAgreeWithExtractCitizen_whenClockIsFixed() {
+        // born on 29 February 1900, which did not exist, if the ids are resolved in 1990, and 2000 otherwise
+        final TwoDigitYearResolver twoDigitYearResolver1990 =
+            new TwoDigitYearResolver(Clock.fixed(Instant.parse("1990-01-01T00:00:00Z"), ZoneOffset.UTC));
+        final ItalyNationalId italyNationalId = new ItalyNationalId("MRTMTT00B29F205L", twoDigitYearResolver1990);
+
+        assertThat(italyNationalId.isValid(), is(false));
+        assertThat(italyNationalId.extractCitizen(), is(Optional.empty()));
+        assertThat(new ItalyNationalId("MRTMTT00B29F205L", TWO_DIGIT_YEAR_RESOLVER).isValid(), is(true));
+    }
+
     @ParameterizedTest(name = "#{index} - Test with Arguments={0},{1}")
     @MethodSource("citizenByIdProvider")
     void extractCitizen_shouldReturnCorrectCitizenInfo_whenIdIsValid(final String id, final Citizen expectedCitizen) {
-        final ItalyNationalId italyNationalId = new ItalyNationalId(id);
+        final ItalyNationalId italyNationalId = new ItalyNationalId(id, TWO_DIGIT_YEAR_RESOLVER);
 
         final  Optional<Citizen> extractedCitizen = italyNationalId.extractCitizen();
 
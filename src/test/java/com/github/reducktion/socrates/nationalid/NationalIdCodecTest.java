@@ -0,0 +1,214 @@
+package com.github.reducktion.socrates.nationalid;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.github.reducktion.socrates.Country;
+
+class NationalIdCodecTest {
+
+    @ParameterizedTest(name = "#{index} - Test with Argument={0}, {1}")
+    @MethodSource("validIds")
+    void decode_shouldReturnSanitizedId_whenIdWasEncoded(
+        final Country country,
+        final String id,
+        final String sanitizedId
+    ) {
+        final long packedId = NationalIdCodec.encode(id, country);
+
+        assertThat(packedId >= 0, is(true));
+        assertThat(NationalIdCodec.decode(packedId, country), is(sanitizedId));
+        assertThat(NationalIdCodec.encode(sanitizedId, country), is(packedId));
+    }
+
+    private static Stream<Arguments> validIds() {
+        return Stream.of(
+            Arguments.of(Country.BE, "93.05.18-223.61", "93051822361"),
+            Arguments.of(Country.BE, "01111600105", "01111600105"),
+            Arguments.of(Country.BR, "144-416-762.63", "14441676263"),
+            Arguments.of(Country.CA, "046 454 286", "046454286"),
+            Arguments.of(Country.DE, "47036892816", "47036892816"),
+            Arguments.of(Country.DK, " 090792-1395 ", "0907921395"),
+            Arguments.of(Country.ES, "843-456-42L", "84345642L"),
+            Arguments.of(Country.ES, " y3338121f ", "Y3338121F"),
+            Arguments.of(Country.FR, " 2820819398814 09 ", "282081939881409"),
+            Arguments.of(Country.FR, "199072a22807010", "199072A22807010"),
+            Arguments.of(Country.IT, " MRTMTT25D09F20 5Z ", "MRTMTT25D09F205Z"),
+            Arguments.of(Country.IT, "mllsnt82p65z404u", "MLLSNT82P65Z404U"),
+            Arguments.of(Country.IT, "MRCDRA01A13A065E", "MRCDRA01A13A065E"),
+            Arguments.of(Country.IT, "MRCDRALMAMPALSRE", "MRCDRALMAMPALSRE"),
+            Arguments.of(Country.LU, "198-308-124-6785", "1983081246785"),
+            Arguments.of(Country.MX, "aaim901112mbcnmn08", "AAIM901112MBCNMN08"),
+            Arguments.of(Country.PT, " 11084129 8 ZX8 ", "110841298ZX8"),
+            Arguments.of(Country.PT, "154203556zx9", "154203556ZX9"),
+            Arguments.of(Country.US, "167-38-1265", "167381265")
+        );
+    }
+
+    @ParameterizedTest(name = "#{index} - Test with Argument={0}")
+    @MethodSource("invalidIds")
+    void encode_shouldReturnNone_whenIdIsNotValid(final Country country, final String id) {
+        assertThat(NationalIdCodec.encode(id, country), is(NationalIdCodec.NONE));
+    }
+
+    private static Stream<Arguments> invalidIds() {
+        return Stream.of(
+            Arguments.of(Country.BE, null),
+            Arguments.of(Country.BE, "01.11.16-001.06"),
+            Arguments.of(Country.FR, "2820819398814 10"),
+            Arguments.of(Country.IT, "MRTMTT25D09F205H"),
+            Arguments.of(Country.MX, "AAIM901112MBCNMN09"),
+            Arguments.of(Country.US, "000-22-8724")
+        );
+    }
+
+    @Test
+    void encode_shouldReturnNone_whenItalianSubstitutionsDoNotStartFromTheRight() {
+        // the 1 of the day of birth is swapped, but not the digits of the place of birth
+        final String id = "MRCDRA01AM3A065E";
+
+        assertThat(ItalyNationalIdValidator.INSTANCE.isValid(id), is(true));
+        assertThat(NationalIdCodec.encode(id, Country.IT), is(NationalIdCodec.NONE));
+    }
+
+    @Test
+    void encode_shouldReturnNone_whenItalianNamesHaveDigits() {
+        final String id = "MRCDR101A13A065" + ItalyNationalIdValidator.computeControlCharacter("MRCDR101A13A065");
+
+        assertThat(ItalyNationalIdValidator.INSTANCE.isValid(id), is(true));
+        assertThat(NationalIdCodec.encode(id, Country.IT), is(NationalIdCodec.NONE));
+    }
+
+    @Test
+    void encode_shouldDistinguishOmocodiaSubstitutions() {
+        final long packedId = NationalIdCodec.encode("MRCDRA01A13A065E", Country.IT);
+        final long omocodicPackedId = NationalIdCodec.encode("MRCDRALMAMPALSRE", Country.IT);
+
+        assertThat(packedId == omocodicPackedId, is(false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "MRCDRA01A13A065E", "MRCDRALMAMPALSRE", "MRCDRA01AM3A065E", "mrcdra 01a13 a065e" })
+    void encodeCanonical_shouldSwapBackOmocodiaSubstitutions(final String id) {
+        final long packedId = NationalIdCodec.encodeCanonical(id, Country.IT);
+
+        assertThat(packedId, is(NationalIdCodec.encode("MRCDRA01A13A065E", Country.IT)));
+        assertThat(NationalIdCodec.decode(packedId, Country.IT), is("MRCDRA01A13A065E"));
+    }
+
+    @Test
+    void encodeCanonical_shouldReturnSameAsEncode_whenCountryHasNoSubstitutions() {
+        assertThat(NationalIdCodec.encodeCanonical("93.05.18-223.61", Country.BE), is(93051822361L));
+        assertThat(NationalIdCodec.encodeCanonical("01.11.16-001.06", Country.BE), is(NationalIdCodec.NONE));
+    }
+
+    @Test
+    void decode_shouldReturnEncodedId_whenItalianIdsAreRandom() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            final StringBuilder id = new StringBuilder();
+            appendLetters(id, random, 6);
+            id.append(random.nextInt(10)).append(random.nextInt(10));
+            id.append(ItalyNationalIdValidator.MONTH_CODES.charAt(random.nextInt(12)));
+            final int dayCode = 1 + random.nextInt(28) + (random.nextBoolean() ? 40 : 0);
+            id.append(dayCode / 10).append(dayCode % 10);
+            appendLetters(id, random, 1);
+            id.append(random.nextInt(10)).append(random.nextInt(10)).append(random.nextInt(10));
+
+            final int[] numericalCharacterIndexes = { 14, 13, 12, 10, 9, 7, 6 };
+            final int substitutionCount = random.nextInt(numericalCharacterIndexes.length + 1);
+            for (int j = 0; j < substitutionCount; j++) {
+                final int index = numericalCharacterIndexes[j];
+                id.setCharAt(index, "LMNPQRSTUV".charAt(id.charAt(index) - '0'));
+            }
+            id.append(ItalyNationalIdValidator.computeControlCharacter(id));
+
+            assertRoundTrip(id.toString(), Country.IT);
+        }
+    }
+
+    @Test
+    void decode_shouldReturnEncodedId_whenMexicanIdsAreRandom() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            final StringBuilder id = new StringBuilder();
+            appendLetters(id, random, 4);
+            final int date = random.nextInt(100) * 10_000 + (1 + random.nextInt(12)) * 100 + 1 + random.nextInt(28);
+            id.append(String.format("%06d", date));
+            id.append(random.nextBoolean() ? 'H' : 'M');
+            appendLetters(id, random, 2);
+            for (int j = 0; j < 3; j++) {
+                id.append("BCDFGHJKLMNPQRSTVWXYZ".charAt(random.nextInt(21)));
+            }
+            id.append("0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".charAt(random.nextInt(36)));
+            id.append(MexicoNationalIdValidator.computeCheckDigit(id));
+
+            // the ids that have inappropriate words are not valid
+            if (MexicoNationalIdValidator.INSTANCE.isValid(id)) {
+                assertRoundTrip(id.toString(), Country.MX);
+            }
+        }
+    }
+
+    @Test
+    void decode_shouldThrowIllegalArgumentException_whenPackedIdIsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> NationalIdCodec.decode(NationalIdCodec.NONE, Country.US));
+        assertThrows(IllegalArgumentException.class, () -> NationalIdCodec.decode(1_000_000_000L, Country.US));
+        assertThrows(IllegalArgumentException.class, () -> NationalIdCodec.decode(Long.MAX_VALUE, Country.IT));
+    }
+
+    @Test
+    void decode_shouldThrowUnsupportedOperationException_whenCountryIsNull() {
+        assertThrows(UnsupportedOperationException.class, () -> NationalIdCodec.decode(0, null));
+    }
+
+    @Test
+    void encode_shouldThrowUnsupportedOperationException_whenCountryIsNull() {
+        assertThrows(UnsupportedOperationException.class, () -> NationalIdCodec.encode("167-38-1265", null));
+    }
+
+    @ParameterizedTest(name = "#{index} - Test with Argument={0}")
+    @EnumSource(Country.class)
+    void supports_shouldReturnTrue_whenCountryHasLayout(final Country country) {
+        assertThat(NationalIdCodec.supports(country), is(true));
+        assertThat(NationalIdCodec.supports(null), is(false));
+    }
+
+    @Test
+    void hash_shouldSpreadConsecutivePackedIds() {
+        final int buckets = 1 << 10;
+        final int[] counts = new int[buckets];
+        for (long packedId = 0; packedId < buckets * 16; packedId++) {
+            counts[(int) (NationalIdCodec.hash(packedId) & (buckets - 1))]++;
+        }
+
+        for (final int count : counts) {
+            assertThat(count > 0 && count < 48, is(true));
+        }
+    }
+
+    private static void appendLetters(final StringBuilder id, final Random random, final int count) {
+        for (int i = 0; i < count; i++) {
+            id.append((char) ('A' + random.nextInt(26)));
+        }
+    }
+
+    private static void assertRoundTrip(final String id, final Country country) {
+        assertThat(id, NationalIdFactory.getValidator(country).isValid(id), is(true));
+
+        final long packedId = NationalIdCodec.encode(id, country);
+        assertThat(id, packedId >= 0, is(true));
+        assertThat(NationalIdCodec.decode(packedId, country), is(id));
+    }
+}
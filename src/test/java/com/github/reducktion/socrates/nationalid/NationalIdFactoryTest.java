@@ -39,4 +39,29 @@ class NationalIdFactoryTest {
             Arguments.arguments(Country.US, UsaNationalId.class)
         );
     }
+
+    @ParameterizedTest(name = "#{index} - Test with Argument={0},{1}")
+    @MethodSource("nationalIdValidatorForCountryProvider")
+    void getValidator_shouldReturnCorrectValidatorForCountry(final Country country, final Class clazz) {
+        final NationalIdValidator validator = NationalIdFactory.getValidator(country);
+
+        assertThat(validator, is(instanceOf(clazz)));
+    }
+
+    private static List<Arguments> nationalIdValidatorForCountryProvider() {
+        return Arrays.asList(
+            Arguments.arguments(Country.BE, BelgiumNationalIdValidator.class),
+            Arguments.arguments(Country.BR, BrazilNationalIdValidator.class),
+            Arguments.arguments(Country.CA, CanadaNationalIdValidator.class),
+            Arguments.arguments(Country.DE, GermanyNationalIdValidator.class),
+            Arguments.arguments(Country.DK, DenmarkNationalIdValidator.class),
+            Arguments.arguments(Country.ES, SpainNationalIdValidator.class),
+            Arguments.arguments(Country.FR, FranceNationalIdValidator.class),
+            Arguments.arguments(Country.IT, ItalyNationalIdValidator.class),
+            Arguments.arguments(Country.LU, LuxembourgNationalIdValidator.class),
+            Arguments.arguments(Country.MX, MexicoNationalIdValidator.class),
+            Arguments.arguments(Country.PT, PortugalNationalIdValidator.class),
+            Arguments.arguments(Country.US, UsaNationalIdValidator.class)
+        );
+    }
 }
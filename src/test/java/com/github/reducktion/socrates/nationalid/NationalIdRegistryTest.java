@@ -0,0 +1,63 @@
+package com.github.reducktion.socrates.nationalid;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import com.github.reducktion.socrates.Country;
+import com.github.reducktion.socrates.generator.NationalIdGeneratorFactory;
+
+class NationalIdRegistryTest {
+
+    @ParameterizedTest
+    @EnumSource(Country.class)
+    void supports_shouldReturnTrue_whenCountryHasBuiltInValidator(final Country country) {
+        assertThat(NationalIdRegistry.supports(country), is(true));
+    }
+
+    @Test
+    void supports_shouldReturnFalse_whenCountryIsNull() {
+        assertThat(NationalIdRegistry.supports(null), is(false));
+        assertThat(NationalIdRegistry.supportsGeneration(null), is(false));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Country.class)
+    void getValidator_shouldReturnBuiltInValidator_whenProviderDoesNotReplaceIt(final Country country) {
+        final NationalIdValidator validator = NationalIdRegistry.getValidator(country);
+
+        assertThat(validator, is(sameInstance(NationalIdFactory.getValidator(country))));
+        assertThat(NationalIdRegistry.getValidator(country), is(sameInstance(validator)));
+    }
+
+    @Test
+    void getValidator_shouldThrowException_whenCountryIsNull() {
+        assertThrows(UnsupportedOperationException.class, () -> NationalIdRegistry.getValidator(null));
+    }
+
+    @Test
+    void getGenerator_shouldReturnBuiltInGenerator_whenProviderDoesNotReplaceIt() {
+        assertThat(NationalIdRegistry.supportsGeneration(Country.DK), is(true));
+        assertThat(
+            NationalIdRegistry.getGenerator(Country.DK),
+            is(sameInstance(NationalIdGeneratorFactory.newInstance(Country.DK)))
+        );
+    }
+
+    @Test
+    void getGenerator_shouldReturnProviderGenerator_whenProviderIsOnTheClasspath() {
+        assertThat(NationalIdRegistry.supportsGeneration(Country.PT), is(true));
+        assertThat(NationalIdRegistry.getGenerator(Country.PT), is(sameInstance(TestNationalIdProvider.GENERATOR)));
+    }
+
+    @Test
+    void getGenerator_shouldThrowException_whenCountryIsNotSupported() {
+        assertThat(NationalIdRegistry.supportsGeneration(Country.US), is(false));
+        assertThrows(UnsupportedOperationException.class, () -> NationalIdRegistry.getGenerator(Country.US));
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.reducktion.socrates.nationalid;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.reducktion.socrates.FailureReason;
+import com.github.reducktion.socrates.PackedCitizen;
+import com.github.reducktion.socrates.ParseResult;
+import com.github.reducktion.socrates.TwoDigitYearResolver;
+
+class NationalIdValidatorTest {
+
+    // accepts the ids whose year, resolved from their last two digits, is even
+    private static final NationalIdValidator VALIDATOR = (id, twoDigitYearResolver) -> {
+        if (id == null) {
+            return FailureReason.MISSING;
+        }
+        final int year = twoDigitYearResolver.resolve(Integer.parseInt(id.toString()));
+        return year % 2 == 0 ? null : FailureReason.INVALID_DATE_OF_BIRTH;
+    };
+
+    private static final TwoDigitYearResolver RESOLVER_2020 =
+        new TwoDigitYearResolver(Clock.fixed(Instant.parse("2020-06-15T00:00:00Z"), ZoneOffset.UTC));
+    private static final TwoDigitYearResolver RESOLVER_1990 =
+        new TwoDigitYearResolver(Clock.fixed(Instant.parse("1990-06-15T00:00:00Z"), ZoneOffset.UTC));
+
+    @Test
+    void isValid_shouldDelegateToValidate() {
+        assertThat(VALIDATOR.isValid(null), is(false));
+        assertThat(VALIDATOR.isValid("00", RESOLVER_2020), is(true));
+        assertThat(VALIDATOR.isValid("99", RESOLVER_1990), is(false));
+    }
+
+    @Test
+    void validateAll_shouldDelegateToValidate() {
+        final FailureReason[] failureReasons = new FailureReason[2];
+
+        VALIDATOR.validateAll(new CharSequence[] { "x", "00", null }, 1, 3, RESOLVER_2020, failureReasons);
+
+        assertThat(failureReasons[0], is((FailureReason) null));
+        assertThat(failureReasons[1], is(FailureReason.MISSING));
+    }
+
+    @Test
+    void parse_shouldReturnResultWithoutCitizen_whenIdIsValid() {
+        final ParseResult result = VALIDATOR.parse("00", RESOLVER_2020);
+
+        assertThat(result.isValid(), is(true));
+        assertThat(result.getCitizen(), is(Optional.empty()));
+        assertThat(VALIDATOR.parsePacked("00", RESOLVER_2020), is(PackedCitizen.NONE));
+    }
+
+    @Test
+    void parsePacked_shouldReturnFailureReasonAndStoreNone_whenCountryDoesNotSupportExtraction() {
+        final long[] packedCitizen = { 0 };
+
+        assertThat(VALIDATOR.parsePacked("00", RESOLVER_2020, packedCitizen), is((FailureReason) null));
+        assertThat(packedCitizen[0], is(PackedCitizen.NONE));
+        assertThat(VALIDATOR.parsePacked("01", RESOLVER_2020, packedCitizen), is(FailureReason.INVALID_DATE_OF_BIRTH));
+    }
+
+    @Test
+    void parse_shouldReturnFailureReason_whenIdIsNotValid() {
+        final ParseResult result = VALIDATOR.parse("01", RESOLVER_2020);
+
+        assertThat(result.getFailureReason(), is(Optional.of(FailureReason.INVALID_DATE_OF_BIRTH)));
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.reducktion.socrates.nationalid;
+
+import java.util.Optional;
+
+import com.github.reducktion.socrates.Country;
+import com.github.reducktion.socrates.generator.NationalIdGenerator;
+
+/**
+ * Provider registered in the test resources, which supplies a generator for a country without a built-in one.
+ */
+public class TestNationalIdProvider implements NationalIdProvider {
+
+    static final NationalIdGenerator GENERATOR = citizen -> "154203556ZI9";
+
+    @Override
+    public Country getCountry() {
+        return Country.PT;
+    }
+
+    @Override
+    public Optional<NationalIdGenerator> getGenerator() {
+        return Optional.of(GENERATOR);
+    }
+}
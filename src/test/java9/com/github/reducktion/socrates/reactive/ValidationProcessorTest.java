@@ -0,0 +1,331 @@
+package com.github.reducktion.socrates.reactive;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.reducktion.socrates.Citizen;
+import com.github.reducktion.socrates.Country;
+import com.github.reducktion.socrates.FailureReason;
+import com.github.reducktion.socrates.NonAsciiDigitPolicy;
+import com.github.reducktion.socrates.ParseResult;
+
+class ValidationProcessorTest {
+
+    private static final String VALID_ID = "2820819398814 09";
+    private static final String INVALID_ID = "2820819398814 10";
+
+    private TestUpstream upstream;
+    private TestSubscriber subscriber;
+    private ValidationProcessor<String> processor;
+
+    @BeforeEach
+    void setup() {
+        upstream = new TestUpstream();
+        subscriber = new TestSubscriber();
+        processor = ValidationProcessor.builder(Function.<String>identity(), Country.FR)
+            .bufferSize(4)
+            .batchSize(2)
+            .build();
+        processor.onSubscribe(upstream);
+        processor.subscribe(subscriber);
+    }
+
+    @Test
+    void onSubscribe_shouldRequestBufferSizeFromUpstream() {
+        assertThat(upstream.requested.get(), is(4L));
+    }
+
+    @Test
+    void onNext_shouldNotEmitResults_whenDownstreamHasNotRequestedThem() {
+        processor.onNext(VALID_ID);
+        processor.onNext(INVALID_ID);
+
+        assertThat(subscriber.records.isEmpty(), is(true));
+        assertThat(upstream.requested.get(), is(4L));
+    }
+
+    @Test
+    void request_shouldEmitResultsInOrder_andRequestMoreFromUpstream() {
+        processor.onNext(VALID_ID);
+        processor.onNext(INVALID_ID);
+        processor.onNext("1234");
+
+        subscriber.subscription.request(2);
+
+        assertThat(subscriber.records, is(Arrays.asList(VALID_ID, INVALID_ID)));
+        assertThat(subscriber.results.get(0), is(sameInstance(ParseResult.valid(null))));
+        assertThat(subscriber.results.get(1), is(ParseResult.invalid(FailureReason.INVALID_CHECKSUM)));
+        assertThat(upstream.requested.get(), is(6L));
+
+        subscriber.subscription.request(5);
+
+        assertThat(subscriber.records.size(), is(3));
+        assertThat(subscriber.results.get(2), is(ParseResult.invalid(FailureReason.INVALID_LENGTH)));
+        assertThat(upstream.requested.get(), is(7L));
+    }
+
+    @Test
+    void onComplete_shouldBeEmitted_afterTheBufferedResults() {
+        processor.onNext(VALID_ID);
+        processor.onComplete();
+
+        assertThat(subscriber.completed, is(false));
+
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.records.size(), is(1));
+        assertThat(subscriber.completed, is(true));
+    }
+
+    @Test
+    void onError_shouldBeEmitted_afterTheBufferedResults() {
+        final IllegalStateException failure = new IllegalStateException("upstream failure");
+        processor.onNext(VALID_ID);
+        processor.onError(failure);
+
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.records.size(), is(1));
+        assertThat(subscriber.error, is(sameInstance(failure)));
+    }
+
+    @Test
+    void onNext_shouldFail_whenUpstreamIgnoresBackpressure() {
+        for (int i = 0; i < 5; i++) {
+            processor.onNext(VALID_ID);
+        }
+        subscriber.subscription.request(10);
+
+        assertThat(upstream.cancelled, is(true));
+        assertThat(subscriber.records.size(), is(4));
+        assertThat(subscriber.error, is(instanceOf(IllegalStateException.class)));
+    }
+
+    @Test
+    void request_shouldFail_whenNumberIsNotPositive() {
+        processor.onNext(VALID_ID);
+
+        subscriber.subscription.request(0);
+
+        assertThat(upstream.cancelled, is(true));
+        assertThat(subscriber.records.isEmpty(), is(true));
+        assertThat(subscriber.error, is(instanceOf(IllegalArgumentException.class)));
+    }
+
+    @Test
+    void cancel_shouldCancelUpstream_andStopEmitting() {
+        processor.onNext(VALID_ID);
+
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(1);
+        processor.onComplete();
+
+        assertThat(upstream.cancelled, is(true));
+        assertThat(subscriber.records.isEmpty(), is(true));
+        assertThat(subscriber.completed, is(false));
+    }
+
+    @Test
+    void subscribe_shouldRejectSecondSubscriber() {
+        final TestSubscriber secondSubscriber = new TestSubscriber();
+
+        processor.subscribe(secondSubscriber);
+
+        assertThat(secondSubscriber.error, is(instanceOf(IllegalStateException.class)));
+    }
+
+    @Test
+    void onNext_shouldEmitCitizens_whenExtractionIsEnabled() {
+        final ValidationProcessor<String> extractingProcessor =
+            ValidationProcessor.builder(Function.<String>identity(), Country.IT)
+                .extractCitizens(true)
+                .clock(Clock.fixed(Instant.parse("2020-06-15T00:00:00Z"), ZoneOffset.UTC))
+                .build();
+        extractingProcessor.onSubscribe(new TestUpstream());
+        final TestSubscriber extractingSubscriber = new TestSubscriber();
+        extractingProcessor.subscribe(extractingSubscriber);
+
+        extractingProcessor.onNext("MRTMTT25D09F205Z");
+        extractingSubscriber.subscription.request(1);
+
+        final Optional<Citizen> citizen = extractingSubscriber.results.get(0).getCitizen();
+        assertThat(citizen.flatMap(Citizen::getYearOfBirth), is(Optional.of(1925)));
+        assertThat(citizen.flatMap(Citizen::getPlaceOfBirth), is(Optional.of("MILANO (MI)")));
+    }
+
+    @Test
+    void onNext_shouldRejectNonAsciiDigits_whenPolicyIsReject() {
+        for (final boolean extractCitizens : new boolean[] { false, true }) {
+            final ValidationProcessor<String> rejectingProcessor =
+                ValidationProcessor.builder(Function.<String>identity(), Country.FR)
+                    .extractCitizens(extractCitizens)
+                    .nonAsciiDigitPolicy(NonAsciiDigitPolicy.REJECT)
+                    .build();
+            rejectingProcessor.onSubscribe(new TestUpstream());
+            final TestSubscriber rejectingSubscriber = new TestSubscriber();
+            rejectingProcessor.subscribe(rejectingSubscriber);
+
+            rejectingProcessor.onNext("٢820819398814 ０9");
+            rejectingProcessor.onNext(VALID_ID);
+            rejectingSubscriber.subscription.request(2);
+
+            assertThat(rejectingSubscriber.results.get(0), is(ParseResult.invalid(FailureReason.INVALID_CHARACTERS)));
+            assertThat(rejectingSubscriber.results.get(1).isValid(), is(true));
+        }
+    }
+
+    @Test
+    void processor_shouldEmitEveryResult_whenUpstreamAndDownstreamRunInDifferentThreads() throws Exception {
+        final int count = 100_000;
+        final ValidationProcessor<String> concurrentProcessor =
+            ValidationProcessor.builder(Function.<String>identity(), Country.FR).bufferSize(64).batchSize(16).build();
+        final TestUpstream concurrentUpstream = new TestUpstream();
+        final CountDownLatch completed = new CountDownLatch(1);
+        final AtomicLong validResults = new AtomicLong();
+        final AtomicLong outOfOrderResults = new AtomicLong();
+        concurrentProcessor.subscribe(new Flow.Subscriber<ValidatedRecord<String>>() {
+            private Flow.Subscription subscription;
+            private int received;
+
+            @Override
+            public void onSubscribe(final Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(10);
+            }
+
+            @Override
+            public void onNext(final ValidatedRecord<String> validatedRecord) {
+                final ParseResult result = validatedRecord.getResult();
+                if (result.isValid() != (received % 2 == 0)) {
+                    outOfOrderResults.incrementAndGet();
+                }
+                if (result.isValid()) {
+                    validResults.incrementAndGet();
+                }
+                if (++received % 10 == 0) {
+                    subscription.request(10);
+                }
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+                completed.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        });
+
+        final Thread producer = new Thread(() -> {
+            concurrentProcessor.onSubscribe(concurrentUpstream);
+            for (int i = 0; i < count; i++) {
+                while (concurrentUpstream.requested.get() <= i) {
+                    Thread.yield();
+                }
+                concurrentProcessor.onNext(i % 2 == 0 ? VALID_ID : INVALID_ID);
+            }
+            concurrentProcessor.onComplete();
+        });
+        producer.start();
+
+        assertThat(completed.await(30, TimeUnit.SECONDS), is(true));
+        assertThat(validResults.get(), is(count / 2L));
+        assertThat(outOfOrderResults.get(), is(0L));
+    }
+
+    @Test
+    void processor_shouldConnectToFlowPublisher() {
+        final ValidationProcessor<String> connectedProcessor =
+            ValidationProcessor.builder(Function.<String>identity(), Country.FR).bufferSize(8).batchSize(4).build();
+        final TestSubscriber connectedSubscriber = new TestSubscriber();
+        connectedProcessor.subscribe(connectedSubscriber);
+        connectedSubscriber.subscription.request(Long.MAX_VALUE);
+
+        try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>(Runnable::run, 4)) {
+            publisher.subscribe(connectedProcessor);
+            for (int i = 0; i < 100; i++) {
+                publisher.submit(i % 4 == 0 ? INVALID_ID : VALID_ID);
+            }
+        }
+
+        assertThat(connectedSubscriber.records.size(), is(100));
+        assertThat(connectedSubscriber.completed, is(true));
+        assertThat(connectedSubscriber.results.stream().filter(ParseResult::isValid).count(), is(75L));
+    }
+
+    @Test
+    void builder_shouldThrowException_whenBatchSizeIsLargerThanBufferSize() {
+        final ValidationProcessor.Builder<String> builder =
+            ValidationProcessor.builder(Function.<String>identity(), Country.FR).bufferSize(8).batchSize(16);
+
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    private static final class TestUpstream implements Flow.Subscription {
+        private final AtomicLong requested = new AtomicLong();
+        private volatile boolean cancelled;
+
+        @Override
+        public void request(final long n) {
+            requested.addAndGet(n);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private static final class TestSubscriber implements Flow.Subscriber<ValidatedRecord<String>> {
+        private final List<String> records = new ArrayList<>();
+        private final List<ParseResult> results = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(final ValidatedRecord<String> validatedRecord) {
+            records.add(validatedRecord.getRecord());
+            results.add(validatedRecord.getResult());
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            assertThat(error, is(nullValue()));
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}